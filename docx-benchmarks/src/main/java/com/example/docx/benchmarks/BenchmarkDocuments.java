@@ -0,0 +1,108 @@
+package com.example.docx.benchmarks;
+
+import com.example.docx.SyntheticDocx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Locates the documents named by the benchmark parameters. A name such as {@code demo.docx} is looked
+ * up in the samples directory (the {@code docx.samples} system property, by default {@code samples}
+ * or {@code ../samples}); {@code generated-<n>} stands for a {@link SyntheticDocx} document of
+ * {@code n} paragraphs and {@code media-<n>} for a short one with {@code n} small images, both written
+ * once per JVM to a temporary file.
+ */
+public final class BenchmarkDocuments {
+
+    private static final String GENERATED_PREFIX = "generated-";
+    private static final String MEDIA_PREFIX = "media-";
+    private static final Map<String, Path> GENERATED = new ConcurrentHashMap<>();
+
+    private BenchmarkDocuments() {
+    }
+
+    public static Path resolve(String name) {
+        if (name.startsWith(GENERATED_PREFIX) || name.startsWith(MEDIA_PREFIX)) {
+            return GENERATED.computeIfAbsent(name, BenchmarkDocuments::generate);
+        }
+        Path sample = samplesDirectory().resolve(name);
+        if (!Files.isRegularFile(sample)) {
+            throw new IllegalArgumentException("Sample document not found: " + sample.toAbsolutePath());
+        }
+        return sample;
+    }
+
+    /**
+     * Extracts {@code docx} into a new temporary directory, for the unpacked-package benchmarks.
+     */
+    public static Path extract(Path docx) throws IOException {
+        Path directory = Files.createTempDirectory("docx-bench-");
+        try (InputStream input = Files.newInputStream(docx);
+             ZipInputStream zip = new ZipInputStream(input)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                Path target = directory.resolve(entry.getName()).normalize();
+                if (!target.startsWith(directory)) {
+                    throw new IOException("Entry escapes the target directory: " + entry.getName());
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.createDirectories(target.getParent());
+                    Files.copy(zip, target);
+                }
+            }
+        }
+        return directory;
+    }
+
+    public static void delete(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static Path samplesDirectory() {
+        String configured = System.getProperty("docx.samples");
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        Path local = Path.of("samples");
+        return Files.isDirectory(local) ? local : Path.of("..", "samples");
+    }
+
+    private static Path generate(String name) {
+        boolean media = name.startsWith(MEDIA_PREFIX);
+        int count;
+        try {
+            count = Integer.parseInt(name.substring(media ? MEDIA_PREFIX.length() : GENERATED_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid generated document name: " + name, e);
+        }
+        SyntheticDocx docx = media
+                ? SyntheticDocx.builder().paragraphs(10).media(count, 256).build()
+                : SyntheticDocx.builder().paragraphs(count).footnotes(count / 100, 1).build();
+        try {
+            Path target = Files.createTempFile("docx-bench-" + name + "-", ".docx");
+            target.toFile().deleteOnExit();
+            docx.write(target);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to generate " + name, e);
+        }
+    }
+}
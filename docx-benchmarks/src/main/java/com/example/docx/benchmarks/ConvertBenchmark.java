@@ -0,0 +1,55 @@
+package com.example.docx.benchmarks;
+
+import com.example.docx.DocxReader;
+import com.example.docx.html.DocxToHtml;
+import com.example.docx.model.DocxPackage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts an already parsed package to HTML, both into a string and streamed to a discarding
+ * output stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConvertBenchmark {
+
+    @Param({"demo.docx", "file-sample_100kB.docx", "file-sample_1MB.docx", "generated-10000"})
+    public String document;
+
+    private final DocxToHtml converter = new DocxToHtml();
+    private DocxPackage docxPackage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        docxPackage = new DocxReader().read(BenchmarkDocuments.resolve(document));
+    }
+
+    @Benchmark
+    public String convertToString() {
+        return converter.convert(docxPackage);
+    }
+
+    @Benchmark
+    public void convertToStream() throws IOException {
+        converter.convert(docxPackage, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.docx.benchmarks;
+
+import com.example.docx.DocxInspector;
+import com.example.docx.PackageManifest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Package inspection before routing: {@code inspect} builds a {@link PackageManifest} from the central
+ * directory, {@code zipFile} lists the same sizes through {@link ZipFile} for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InspectBenchmark {
+
+    @Param({"file-sample_1MB.docx", "generated-10000", "media-5000"})
+    public String document;
+
+    private final DocxInspector inspector = new DocxInspector();
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        path = BenchmarkDocuments.resolve(document);
+    }
+
+    @Benchmark
+    public PackageManifest inspect() {
+        return inspector.inspect(path);
+    }
+
+    @Benchmark
+    public long zipFile() throws IOException {
+        long total = 0;
+        try (ZipFile zip = new ZipFile(path.toFile())) {
+            for (ZipEntry entry : zip.stream().toList()) {
+                total += entry.getSize();
+            }
+        }
+        return total;
+    }
+}
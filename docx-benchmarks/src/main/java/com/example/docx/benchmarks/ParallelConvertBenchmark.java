@@ -0,0 +1,53 @@
+package com.example.docx.benchmarks;
+
+import com.example.docx.DocxReader;
+import com.example.docx.html.DocxToHtml;
+import com.example.docx.model.DocxPackage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential against parallel HTML conversion of long documents. Parallel conversion sizes its
+ * chunks from {@link Runtime#availableProcessors()}, so the speedup by core count is measured by
+ * repeating the run with {@code -jvmArgsAppend -XX:ActiveProcessorCount=<n>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelConvertBenchmark {
+
+    @Param({"generated-10000", "generated-50000"})
+    public String document;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private DocxToHtml converter;
+    private DocxPackage docxPackage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        converter = DocxToHtml.builder().parallel(parallel).build();
+        docxPackage = new DocxReader().read(BenchmarkDocuments.resolve(document));
+    }
+
+    @Benchmark
+    public String convert() {
+        return converter.convert(docxPackage);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.docx.benchmarks;
+
+import com.example.docx.io.DocxArchive;
+import com.example.docx.model.DocxPackage;
+import com.example.docx.model.document.WordDocument;
+import com.example.docx.model.notes.NoteCollection;
+import com.example.docx.model.numbering.NumberingDefinitions;
+import com.example.docx.model.relationship.RelationshipSet;
+import com.example.docx.model.styles.StyleDefinitions;
+import com.example.docx.model.support.FontTable;
+import com.example.docx.parser.FontTableParser;
+import com.example.docx.parser.MainDocumentParser;
+import com.example.docx.parser.NotesParser;
+import com.example.docx.parser.NumberingParser;
+import com.example.docx.parser.ParsingContext;
+import com.example.docx.parser.RelationshipsParser;
+import com.example.docx.parser.StylesParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each part parser on its own. The package is held in memory so the figures exclude file
+ * access, and every invocation uses a fresh {@link ParsingContext} as {@code DocxReader} does per
+ * package.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"demo.docx", "file-sample_1MB.docx", "generated-10000"})
+    public String document;
+
+    private DocxArchive archive;
+    private RelationshipSet documentRelationships;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        archive = DocxArchive.open(Files.readAllBytes(BenchmarkDocuments.resolve(document)));
+        documentRelationships = new RelationshipsParser().parse(archive, "word/_rels/document.xml.rels");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        archive.close();
+    }
+
+    @Benchmark
+    public WordDocument mainDocument() throws IOException {
+        return new MainDocumentParser(new ParsingContext()).parse(archive, documentRelationships);
+    }
+
+    @Benchmark
+    public StyleDefinitions styles() throws IOException {
+        return new StylesParser(new ParsingContext()).parse(archive, DocxPackage.builder());
+    }
+
+    @Benchmark
+    public NumberingDefinitions numbering() throws IOException {
+        return new NumberingParser(new ParsingContext()).parse(archive);
+    }
+
+    @Benchmark
+    public NoteCollection footnotes() throws IOException {
+        return new NotesParser(new ParsingContext())
+                .parse(archive, "word/footnotes.xml", NoteCollection.Type.FOOTNOTE, DocxPackage.builder());
+    }
+
+    @Benchmark
+    public FontTable fontTable() throws IOException {
+        return new FontTableParser(new ParsingContext()).parse(archive);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.docx.benchmarks;
+
+import com.example.docx.DocxReader;
+import com.example.docx.ReadLimits;
+import com.example.docx.model.DocxPackage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a whole package through {@link DocxReader}, from the zip file and from an unpacked copy, with
+ * and without the default {@link ReadLimits}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadBenchmark {
+
+    @Param({"demo.docx", "file-sample_100kB.docx", "file-sample_1MB.docx", "generated-10000"})
+    public String document;
+
+    @Param({"true", "false"})
+    public boolean limited;
+
+    private DocxReader reader;
+    private Path zip;
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        reader = DocxReader.builder().limits(limited ? ReadLimits.defaults() : ReadLimits.none()).build();
+        zip = BenchmarkDocuments.resolve(document);
+        directory = BenchmarkDocuments.extract(zip);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkDocuments.delete(directory);
+    }
+
+    @Benchmark
+    public DocxPackage readZip() {
+        return reader.read(zip);
+    }
+
+    @Benchmark
+    public DocxPackage readDirectory() {
+        return reader.readDirectory(directory);
+    }
+}
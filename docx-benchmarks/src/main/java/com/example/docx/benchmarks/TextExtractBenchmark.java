@@ -0,0 +1,59 @@
+package com.example.docx.benchmarks;
+
+import com.example.docx.DocxReader;
+import com.example.docx.DocxTextExtractor;
+import com.example.docx.ModelText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text extraction for search indexing: {@code extract} streams the text with
+ * {@link DocxTextExtractor}, while {@code readAndWalk} reads the full package and walks its model
+ * the way an indexer built on {@link DocxReader} would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextExtractBenchmark {
+
+    @Param({"demo.docx", "file-sample_1MB.docx", "generated-10000"})
+    public String document;
+
+    private final DocxReader reader = new DocxReader();
+    private final DocxTextExtractor extractor = new DocxTextExtractor();
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        path = BenchmarkDocuments.resolve(document);
+    }
+
+    @Benchmark
+    public String extract() {
+        StringWriter out = new StringWriter();
+        extractor.extract(path, out);
+        return out.toString();
+    }
+
+    @Benchmark
+    public String readAndWalk() {
+        return ModelText.of(reader.read(path));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.docx.benchmarks;
+
+import com.example.docx.io.DocxArchive;
+import com.example.docx.parser.XmlUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-part parser overhead: {@code pooledBuilder} goes through {@link XmlUtils#parse(InputStream)},
+ * which reuses hardened builders, while {@code freshBuilder} creates and configures a builder for
+ * every part the way {@code XmlUtils} used to. Small parts such as {@code settings.xml} show the
+ * overhead best.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlParserBenchmark {
+
+    @Param({"word/settings.xml", "word/fontTable.xml", "word/styles.xml"})
+    public String part;
+
+    private final DocumentBuilderFactory factory = hardenedFactory();
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (DocxArchive archive = DocxArchive.open(Files.readAllBytes(BenchmarkDocuments.resolve("demo.docx")));
+             InputStream input = archive.open(part)) {
+            bytes = input.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public Document pooledBuilder() throws IOException {
+        return XmlUtils.parse(new ByteArrayInputStream(bytes));
+    }
+
+    @Benchmark
+    public Document freshBuilder() throws Exception {
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(bytes));
+    }
+
+    private static DocumentBuilderFactory hardenedFactory() {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        try {
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+        factory.setExpandEntityReferences(false);
+        return factory;
+    }
+}
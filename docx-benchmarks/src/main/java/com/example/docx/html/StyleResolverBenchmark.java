@@ -0,0 +1,114 @@
+package com.example.docx.html;
+
+import com.example.docx.DocxReader;
+import com.example.docx.benchmarks.BenchmarkDocuments;
+import com.example.docx.model.DocxPackage;
+import com.example.docx.model.document.WordDocument;
+import com.example.docx.model.styles.StyleDefinitions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the effective style of every paragraph and run of a document. {@code resolveDocument}
+ * starts from a new {@link StyleResolver} and so includes building its caches; the other two reuse a
+ * warm resolver. Lives in the {@code html} package because the resolver is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StyleResolverBenchmark {
+
+    @Param({"demo.docx", "file-sample_1MB.docx", "generated-10000"})
+    public String document;
+
+    private StyleDefinitions styles;
+    private StyleResolver warmResolver;
+    private final List<WordDocument.Paragraph> paragraphs = new ArrayList<>();
+    private final List<StyleResolver.ResolvedParagraph> resolvedParagraphs = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DocxPackage docxPackage = new DocxReader().read(BenchmarkDocuments.resolve(document));
+        styles = docxPackage.styles().orElse(StyleDefinitions.empty());
+        docxPackage.document().ifPresent(word -> collect(word.bodyElements()));
+        warmResolver = new StyleResolver(styles, Map.of());
+        for (WordDocument.Paragraph paragraph : paragraphs) {
+            StyleResolver.ResolvedParagraph resolved = warmResolver.resolveParagraph(paragraph.properties(), List.of());
+            resolvedParagraphs.add(resolved);
+            resolveRuns(warmResolver, paragraph, resolved, null);
+        }
+    }
+
+    @Benchmark
+    public void resolveDocument(Blackhole blackhole) {
+        StyleResolver resolver = new StyleResolver(styles, Map.of());
+        for (WordDocument.Paragraph paragraph : paragraphs) {
+            StyleResolver.ResolvedParagraph resolved = resolver.resolveParagraph(paragraph.properties(), List.of());
+            blackhole.consume(resolved);
+            resolveRuns(resolver, paragraph, resolved, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void resolveParagraph(Blackhole blackhole) {
+        for (WordDocument.Paragraph paragraph : paragraphs) {
+            blackhole.consume(warmResolver.resolveParagraph(paragraph.properties(), List.of()));
+        }
+    }
+
+    @Benchmark
+    public void resolveRun(Blackhole blackhole) {
+        for (int i = 0; i < paragraphs.size(); i++) {
+            resolveRuns(warmResolver, paragraphs.get(i), resolvedParagraphs.get(i), blackhole);
+        }
+    }
+
+    private static void resolveRuns(StyleResolver resolver,
+                                    WordDocument.Paragraph paragraph,
+                                    StyleResolver.ResolvedParagraph resolved,
+                                    Blackhole blackhole) {
+        for (WordDocument.ParagraphContent content : paragraph.content()) {
+            if (content instanceof WordDocument.Run run) {
+                StyleResolver.ResolvedRun resolvedRun = resolver.resolveRun(run.properties(), resolved);
+                if (blackhole != null) {
+                    blackhole.consume(resolvedRun);
+                }
+            }
+        }
+    }
+
+    private void collect(List<WordDocument.Block> blocks) {
+        for (WordDocument.Block block : blocks) {
+            if (block instanceof WordDocument.Paragraph paragraph) {
+                paragraphs.add(paragraph);
+            } else if (block instanceof WordDocument.Table table) {
+                for (WordDocument.TableRow row : table.rows()) {
+                    for (WordDocument.TableCell cell : row.cells()) {
+                        collect(cell.content());
+                    }
+                }
+            } else if (block instanceof WordDocument.StructuredDocumentTag sdt) {
+                collect(sdt.content());
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.docx;
+
+import com.example.docx.model.document.WordDocument;
+
+/**
+ * Receives the top-level blocks of {@code word/document.xml} one by one, in document order, as
+ * they are parsed. Blocks are not retained by the reader once the visitor returns.
+ */
+@FunctionalInterface
+public interface BlockVisitor {
+
+    void visitBlock(WordDocument.Block block);
+
+    /**
+     * Called with the body level {@code w:sectPr}, if any. Defaults to ignoring it.
+     */
+    default void visitSectionProperties(WordDocument.SectionProperties sectionProperties) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.docx;
+
+import com.example.docx.io.DocxArchive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Describes a package without reading it: only the end of the zip file and its central directory are
+ * touched, so no part is inflated and the cost grows with the number of entries, not their size.
+ * Meant for routing uploads, for example sending large or unsupported packages to a separate queue
+ * before handing them to {@link DocxReader}.
+ *
+ * <pre>{@code
+ * PackageManifest manifest = new DocxInspector().inspect(path);
+ * if (!manifest.isSupported() || manifest.estimatedParseCost() > HEAVY_LANE) {
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class DocxInspector {
+
+    /**
+     * Inspects a zip package, or an extracted package directory.
+     */
+    public PackageManifest inspect(Path path) {
+        Objects.requireNonNull(path, "path");
+        try {
+            return PackageManifest.of(DocxArchive.readPartSizes(path));
+        } catch (IOException e) {
+            throw new DocxException("Unable to inspect DOCX package: " + path, e);
+        }
+    }
+
+    public PackageManifest inspect(byte[] bytes) {
+        return inspect(ByteBuffer.wrap(Objects.requireNonNull(bytes, "bytes")));
+    }
+
+    /**
+     * Inspects the package held in the remaining bytes of {@code buffer}, which is not modified.
+     */
+    public PackageManifest inspect(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+        try {
+            return PackageManifest.of(DocxArchive.readPartSizes(buffer));
+        } catch (IOException e) {
+            throw new DocxException("Unable to inspect DOCX package from memory", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.docx;
+
+import java.util.Optional;
+
+/**
+ * Thrown as soon as a package exceeds one of its {@link ReadLimits}. Nothing more is read or inflated
+ * once it is thrown, so callers can reject the upload cheaply.
+ */
+public class DocxLimitExceededException extends DocxException {
+
+    private final ReadLimits.Limit limit;
+    private final String partName;
+    private final long threshold;
+
+    public DocxLimitExceededException(ReadLimits.Limit limit, String partName, long threshold) {
+        super((partName != null ? "Part " + partName : "Package") + " exceeds the " + limit + " limit of " + threshold);
+        this.limit = limit;
+        this.partName = partName;
+        this.threshold = threshold;
+    }
+
+    public ReadLimits.Limit limit() {
+        return limit;
+    }
+
+    /**
+     * The part being read, or empty when the package as a whole is over the limit.
+     */
+    public Optional<String> partName() {
+        return Optional.ofNullable(partName);
+    }
+
+    public long threshold() {
+        return threshold;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.docx;
+
+import com.example.docx.model.DocxPackage;
+
+/**
+ * Receives timings and counters from {@link DocxReader} and {@link com.example.docx.html.DocxToHtml}
+ * while they work, so a slow conversion can be traced to zip inflation, XML parsing of a given
+ * part, media loading or rendering. Register one with {@link DocxReader.Builder#listener} and
+ * {@link com.example.docx.html.DocxToHtml.Builder#listener}; without a listener nothing is measured.
+ *
+ * <p>Callbacks run on the reading or converting thread, which for parallel reads means several
+ * threads at once, so implementations must be thread-safe and cheap. {@link DocxMetrics} is a
+ * ready-made implementation that aggregates latency histograms.
+ */
+public interface DocxListener {
+
+    /**
+     * Called once the stream of a part has been closed, or when a stored part is handed out
+     * without copying.
+     */
+    default void partRead(PartRead part) {
+    }
+
+    /**
+     * Called when a stage has finished, with its wall-clock duration.
+     */
+    default void stageCompleted(Stage stage, long nanos) {
+    }
+
+    /**
+     * Called with the elements of the main document once it has been parsed or streamed.
+     */
+    default void documentParsed(ElementCounts counts) {
+    }
+
+    enum Stage {
+        /**
+         * A whole {@link DocxReader} call: {@code read}, {@code open} or {@code stream}.
+         */
+        READ,
+        /**
+         * Part list validation and {@code [Content_Types].xml}.
+         */
+        PACKAGE,
+        /**
+         * Package and document relationships and the document properties.
+         */
+        METADATA,
+        /**
+         * {@code word/document.xml}; when streaming, the time spent in the visitor is included.
+         */
+        MAIN_DOCUMENT,
+        STYLES,
+        NUMBERING,
+        FOOTNOTES,
+        ENDNOTES,
+        FONT_TABLE,
+        SETTINGS,
+        WEB_SETTINGS,
+        THEME,
+        CHARTS,
+        CUSTOM_XML,
+        MEDIA,
+        BINARY_PARTS,
+        /**
+         * A whole {@link com.example.docx.html.DocxToHtml} conversion.
+         */
+        RENDER;
+
+        static Stage of(DocxPackage.PartGroup group) {
+            return switch (group) {
+                case STYLES -> STYLES;
+                case NUMBERING -> NUMBERING;
+                case FOOTNOTES -> FOOTNOTES;
+                case ENDNOTES -> ENDNOTES;
+                case FONT_TABLE -> FONT_TABLE;
+                case SETTINGS -> SETTINGS;
+                case WEB_SETTINGS -> WEB_SETTINGS;
+                case THEME -> THEME;
+                case CHARTS -> CHARTS;
+                case CUSTOM_XML -> CUSTOM_XML;
+                case MEDIA -> MEDIA;
+                case BINARY_PARTS -> BINARY_PARTS;
+            };
+        }
+    }
+
+    /**
+     * One part read from the archive during {@code stage}.
+     *
+     * @param compressedBytes   size of the part in the container, or -1 when the container does not record it
+     * @param uncompressedBytes bytes actually handed to the parser
+     * @param readNanos         time spent pulling those bytes out of the container, inflation included;
+     *                          the rest of the stage is parsing
+     */
+    record PartRead(Stage stage, String partName, long compressedBytes, long uncompressedBytes, long readNanos) {
+    }
+
+    /**
+     * Elements of the main document, nested tables, content controls and hyperlinks included.
+     */
+    record ElementCounts(long paragraphs, long runs, long tables, long drawings) {
+    }
+}
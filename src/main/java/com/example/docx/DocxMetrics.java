@@ -0,0 +1,238 @@
+package com.example.docx;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DocxListener} that aggregates what it receives into per-stage latency histograms and
+ * counters. Recording is lock-free and allocation-free, so one instance can be shared by every
+ * reader and converter of an application and read at any time:
+ *
+ * <pre>{@code
+ * DocxMetrics metrics = new DocxMetrics();
+ * DocxReader reader = DocxReader.builder().listener(metrics).build();
+ * ...
+ * long p99 = metrics.stage(DocxListener.Stage.MAIN_DOCUMENT).latency().percentile(0.99);
+ * }</pre>
+ */
+public final class DocxMetrics implements DocxListener {
+
+    private final Map<Stage, StageMetrics> stages = new EnumMap<>(Stage.class);
+    private final LongAdder documents = new LongAdder();
+    private final LongAdder paragraphs = new LongAdder();
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder tables = new LongAdder();
+    private final LongAdder drawings = new LongAdder();
+
+    public DocxMetrics() {
+        // filled once up front, so the map is only ever read afterwards
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, new StageMetrics());
+        }
+    }
+
+    @Override
+    public void partRead(PartRead part) {
+        StageMetrics metrics = stages.get(part.stage());
+        metrics.parts.increment();
+        if (part.compressedBytes() > 0) {
+            metrics.compressedBytes.add(part.compressedBytes());
+        }
+        metrics.uncompressedBytes.add(part.uncompressedBytes());
+        metrics.readLatency.record(part.readNanos());
+    }
+
+    @Override
+    public void stageCompleted(Stage stage, long nanos) {
+        stages.get(stage).latency.record(nanos);
+    }
+
+    @Override
+    public void documentParsed(ElementCounts counts) {
+        documents.increment();
+        paragraphs.add(counts.paragraphs());
+        runs.add(counts.runs());
+        tables.add(counts.tables());
+        drawings.add(counts.drawings());
+    }
+
+    public StageMetrics stage(Stage stage) {
+        return stages.get(stage);
+    }
+
+    /**
+     * Number of main documents parsed or streamed.
+     */
+    public long documents() {
+        return documents.sum();
+    }
+
+    public long paragraphs() {
+        return paragraphs.sum();
+    }
+
+    public long runs() {
+        return runs.sum();
+    }
+
+    public long tables() {
+        return tables.sum();
+    }
+
+    public long drawings() {
+        return drawings.sum();
+    }
+
+    /**
+     * One line per stage that ran: count, median, 99th percentile and maximum in milliseconds, and
+     * the bytes read.
+     */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<Stage, StageMetrics> entry : stages.entrySet()) {
+            Histogram latency = entry.getValue().latency();
+            if (latency.count() == 0) {
+                continue;
+            }
+            out.append(String.format(Locale.ROOT, "%-13s n=%d p50=%.3fms p99=%.3fms max=%.3fms bytes=%d/%d%n",
+                    entry.getKey(), latency.count(), latency.percentile(0.5) / 1e6, latency.percentile(0.99) / 1e6,
+                    latency.maxNanos() / 1e6, entry.getValue().compressedBytes(), entry.getValue().uncompressedBytes()));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Totals of one {@link Stage}.
+     */
+    public static final class StageMetrics {
+        private final Histogram latency = new Histogram();
+        private final Histogram readLatency = new Histogram();
+        private final LongAdder parts = new LongAdder();
+        private final LongAdder compressedBytes = new LongAdder();
+        private final LongAdder uncompressedBytes = new LongAdder();
+
+        private StageMetrics() {
+        }
+
+        /**
+         * Wall-clock duration of each run of the stage.
+         */
+        public Histogram latency() {
+            return latency;
+        }
+
+        /**
+         * Time spent reading and inflating each part the stage opened.
+         */
+        public Histogram readLatency() {
+            return readLatency;
+        }
+
+        public long parts() {
+            return parts.sum();
+        }
+
+        /**
+         * Stored size of the parts read, where the container records it.
+         */
+        public long compressedBytes() {
+            return compressedBytes.sum();
+        }
+
+        public long uncompressedBytes() {
+            return uncompressedBytes.sum();
+        }
+    }
+
+    /**
+     * Log-linear histogram of nanosecond durations. Each power of two is split into four buckets,
+     * so a percentile is reported within 25% of the recorded value using a fixed array of counters.
+     */
+    public static final class Histogram {
+        private static final int SUB_BUCKETS = 4;
+        private static final int BUCKETS = 63 * SUB_BUCKETS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private Histogram() {
+        }
+
+        void record(long nanos) {
+            long value = Math.max(0, nanos);
+            counts.incrementAndGet(bucket(value));
+            count.increment();
+            total.add(value);
+            max.accumulate(value);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public long totalNanos() {
+            return total.sum();
+        }
+
+        public long maxNanos() {
+            return max.get();
+        }
+
+        public double meanNanos() {
+            long n = count();
+            return n == 0 ? 0 : (double) totalNanos() / n;
+        }
+
+        /**
+         * Returns the upper bound of the bucket holding the given quantile ({@code 0 < quantile <= 1}),
+         * capped at the largest recorded value, or 0 when nothing has been recorded.
+         */
+        public long percentile(double quantile) {
+            if (quantile <= 0 || quantile > 1) {
+                throw new IllegalArgumentException("quantile must be in (0, 1]: " + quantile);
+            }
+            long n = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                n += counts.get(i);
+            }
+            if (n == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * n);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts.get(i);
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), maxNanos());
+                }
+            }
+            return maxNanos();
+        }
+
+        static int bucket(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+            return (exponent - 1) * SUB_BUCKETS + sub;
+        }
+
+        static long upperBound(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int exponent = bucket / SUB_BUCKETS + 1;
+            long width = 1L << (exponent - 2);
+            long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - 2);
+            return lower + width - 1;
+        }
+    }
+}
@@ -32,71 +32,159 @@ import com.example.docx.parser.XmlUtils;
 import com.example.docx.parser.binary.BinaryPartLoader;
 import com.example.docx.parser.binary.MediaLoader;
 
+import jdk.jfr.Event;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
 /**
  * Entry point for reading DOCX packages.
  */
 public final class DocxReader {
 
-    private static final Set<String> ALLOWED_PARTS = Set.of(
-            "[Content_Types].xml",
-            "_rels/.rels",
-            "docProps/app.xml",
-            "docProps/core.xml",
-            "docProps/custom.xml",
-            "word/document.xml",
-            "word/styles.xml",
-            "word/numbering.xml",
-            "word/fontTable.xml",
-            "word/settings.xml",
-            "word/webSettings.xml",
-            "word/theme/theme1.xml",
-            "word/footnotes.xml",
-            "word/endnotes.xml"
-    );
-
-    private static final List<String> ALLOWED_PREFIXES = List.of(
-            "word/_rels/",
-            "word/media/",
-            "word/charts/",
-            "word/charts/_rels/",
-            "word/fonts/",
-            "word/embeddings/",
-            "word/ink/",
-            "word/theme/",
-            "customXml/",
-            "customXml/_rels/"
-    );
-
-    private final ParsingContext parsingContext = new ParsingContext();
+    private static final AtomicLong READ_IDS = new AtomicLong();
 
     private final ContentTypesParser contentTypesParser = new ContentTypesParser();
     private final RelationshipsParser relationshipsParser = new RelationshipsParser();
     private final MetadataParser metadataParser = new MetadataParser();
-    private final MainDocumentParser mainDocumentParser = new MainDocumentParser(parsingContext);
-    private final StylesParser stylesParser = new StylesParser(parsingContext);
     private final CustomXmlLoader customXmlLoader = new CustomXmlLoader();
-    private final NumberingParser numberingParser = new NumberingParser();
-    private final NotesParser notesParser = new NotesParser(parsingContext);
-    private final FontTableParser fontTableParser = new FontTableParser();
+    private final boolean detachedModel;
+    private final boolean parallel;
+    private final boolean memoryMapped;
+    private final PartCache partCache;
+    private final DocxListener listener;
+    private final ReadLimits limits;
     private final SettingsParser settingsParser = new SettingsParser();
     private final ThemeParser themeParser = new ThemeParser();
     private final MediaLoader mediaLoader = new MediaLoader();
     private final BinaryPartLoader binaryPartLoader = new BinaryPartLoader();
 
+    public DocxReader() {
+        this(builder());
+    }
+
+    private DocxReader(Builder builder) {
+        this.detachedModel = builder.detachedModel;
+        this.parallel = builder.parallel;
+        this.memoryMapped = builder.memoryMapped;
+        this.partCache = builder.partCache;
+        this.listener = builder.listener;
+        this.limits = builder.limits;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
     public DocxPackage read(Path path) {
-        try (DocxArchive archive = DocxArchive.open(path)) {
+        try (DocxArchive archive = openArchive(path)) {
             return readInternal(archive);
         } catch (IOException e) {
             throw new DocxException("Unable to read DOCX package: " + path, e);
         }
     }
 
+    /**
+     * Reads a package held in {@code bytes} without writing it to disk. The array is not copied and
+     * must not be modified while media read from it is in use.
+     */
+    public DocxPackage read(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+        try (DocxArchive archive = DocxArchive.open(bytes)) {
+            return readInternal(archive);
+        } catch (IOException e) {
+            throw new DocxException("Unable to read DOCX package from memory", e);
+        }
+    }
+
+    /**
+     * Reads a package from the remaining bytes of {@code buffer}, which may be heap, direct or mapped.
+     */
+    public DocxPackage read(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+        try (DocxArchive archive = DocxArchive.open(buffer)) {
+            return readInternal(archive);
+        } catch (IOException e) {
+            throw new DocxException("Unable to read DOCX package from memory", e);
+        }
+    }
+
+    /**
+     * Reads a package from {@code input}, which is consumed to the end but not closed.
+     */
+    public DocxPackage read(InputStream input) {
+        Objects.requireNonNull(input, "input");
+        try (DocxArchive archive = DocxArchive.open(LimitedArchive.readPackage(input, limits))) {
+            return readInternal(archive);
+        } catch (IOException e) {
+            throw new DocxException("Unable to read DOCX package from stream", e);
+        }
+    }
+
+    /**
+     * Streams the top-level blocks of the main document part to {@code visitor} without building a
+     * {@link DocxPackage} or {@link WordDocument}. Only the package part list and the document
+     * relationships are read besides {@code word/document.xml}, so memory use does not grow with the
+     * length of the document. Works for both zip packages and extracted directories.
+     */
+    public void stream(Path path, BlockVisitor visitor) {
+        Objects.requireNonNull(visitor, "visitor");
+        long start = startTimer();
+        try (DocxArchive container = openArchive(path)) {
+            DocxArchive archive = limited(container);
+            long packageStart = startTimer();
+            validatePackageParts(archive);
+            completed(DocxListener.Stage.PACKAGE, packageStart);
+            long metadataStart = startTimer();
+            RelationshipSet documentRelationships = relationshipsParser.parse(
+                    metered(archive, DocxListener.Stage.METADATA), "word/_rels/document.xml.rels");
+            completed(DocxListener.Stage.METADATA, metadataStart);
+            long documentStart = startTimer();
+            ElementCounter counter = listener == null ? null : new ElementCounter();
+            BlockVisitor target = counter == null ? visitor : counting(visitor, counter);
+            if (!newParsers().mainDocumentParser.stream(metered(archive, DocxListener.Stage.MAIN_DOCUMENT),
+                    documentRelationships, target)) {
+                throw new DocxException("Missing main document part in: " + path);
+            }
+            completed(DocxListener.Stage.MAIN_DOCUMENT, documentStart);
+            if (counter != null) {
+                listener.documentParsed(counter.counts());
+            }
+        } catch (IOException e) {
+            throw new DocxException("Unable to stream DOCX package: " + path, e);
+        }
+        completed(DocxListener.Stage.READ, start);
+    }
+
+    private static BlockVisitor counting(BlockVisitor visitor, ElementCounter counter) {
+        return new BlockVisitor() {
+            @Override
+            public void visitBlock(WordDocument.Block block) {
+                counter.add(block);
+                visitor.visitBlock(block);
+            }
+
+            @Override
+            public void visitSectionProperties(WordDocument.SectionProperties sectionProperties) {
+                visitor.visitSectionProperties(sectionProperties);
+            }
+        };
+    }
+
     public DocxPackage readDirectory(Path directory) {
         if (!Files.isDirectory(directory)) {
             throw new IllegalArgumentException("Path is not a directory: " + directory);
@@ -108,16 +196,133 @@ public final class DocxReader {
         }
     }
 
-    private DocxPackage readInternal(DocxArchive archive) throws IOException {
+    /**
+     * Opens a package whose secondary parts are parsed on first access. Content types, package
+     * relationships, metadata and the main document are read immediately; every
+     * {@link DocxPackage.PartGroup} is deferred, and media bytes are only streamed from the archive
+     * when first requested. The returned package keeps the archive open and must be closed by the
+     * caller.
+     */
+    public DocxPackage open(Path path) {
+        DocxArchive archive = null;
+        long start = startTimer();
+        ReadEvent event = new ReadEvent();
+        event.begin();
+        try {
+            archive = openArchive(path);
+            DocxArchive source = limited(archive);
+            ContentTypes contentTypes = readPackage(source);
+            PackageParsers parsers = newParsers();
+            AtomicBoolean closed = new AtomicBoolean();
+            AutoCloseable release = () -> {
+                closed.set(true);
+                source.close();
+            };
+            DocxPackage docxPackage = readEagerParts(parsers, source, contentTypes)
+                    .lazyParts((group, target) -> loadPartGroup(parsers, source, contentTypes, group, target, closed::get), release)
+                    .build();
+            completed(DocxListener.Stage.READ, start);
+            opened(event, source, parsers.readId, docxPackage, true);
+            return docxPackage;
+        } catch (IOException e) {
+            closeQuietly(archive, e);
+            throw new DocxException("Unable to open DOCX package: " + path, e);
+        } catch (RuntimeException e) {
+            closeQuietly(archive, e);
+            throw e;
+        }
+    }
+
+    private DocxPackage readInternal(DocxArchive container) throws IOException {
+        long start = startTimer();
+        ReadEvent event = new ReadEvent();
+        event.begin();
+        DocxArchive archive = limited(container);
+        ContentTypes contentTypes = readPackage(archive);
+        PackageParsers parsers = newParsers();
+        DocxPackage docxPackage;
+        if (parallel) {
+            docxPackage = readParallel(parsers, archive, contentTypes);
+        } else {
+            DocxPackage.Builder builder = readEagerParts(parsers, archive, contentTypes);
+            for (DocxPackage.PartGroup group : DocxPackage.PartGroup.values()) {
+                loadPartGroup(parsers, archive, contentTypes, group, builder, null);
+            }
+            docxPackage = builder.build();
+        }
+        completed(DocxListener.Stage.READ, start);
+        opened(event, archive, parsers.readId, docxPackage, false);
+        return docxPackage;
+    }
+
+    private ContentTypes readPackage(DocxArchive archive) throws IOException {
+        long start = startTimer();
         validatePackageParts(archive);
+        ContentTypes contentTypes = contentTypesParser.parse(metered(archive, DocxListener.Stage.PACKAGE));
+        completed(DocxListener.Stage.PACKAGE, start);
+        return contentTypes;
+    }
+
+    /**
+     * Parses the main document and every part group on its own virtual thread, then merges the
+     * results in the same order as the sequential path so the package contents are identical.
+     */
+    private DocxPackage readParallel(PackageParsers parsers, DocxArchive archive, ContentTypes contentTypes) throws IOException {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<DocxPackage>> parts = new ArrayList<>();
+            parts.add(executor.submit(() -> readEagerParts(parsers, archive, contentTypes).build()));
+            for (DocxPackage.PartGroup group : DocxPackage.PartGroup.values()) {
+                parts.add(executor.submit(() -> {
+                    DocxPackage.Builder target = DocxPackage.builder();
+                    loadPartGroup(parsers, archive, contentTypes, group, target, null);
+                    return target.build();
+                }));
+            }
+            DocxPackage.Builder builder = DocxPackage.builder();
+            for (Future<DocxPackage> part : parts) {
+                builder.merge(await(part));
+            }
+            return builder.build();
+        } finally {
+            executor.shutdownNow();
+            executor.close();
+        }
+    }
+
+    private static DocxPackage await(Future<DocxPackage> part) throws IOException {
+        try {
+            return part.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading DOCX parts");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new DocxException("Unable to read DOCX parts", cause);
+        }
+    }
 
+    private DocxPackage.Builder readEagerParts(PackageParsers parsers, DocxArchive container, ContentTypes contentTypes) throws IOException {
         DocxPackage.Builder builder = DocxPackage.builder();
 
-        ContentTypes contentTypes = contentTypesParser.parse(archive);
         if (contentTypes != null) {
             builder.contentTypes(contentTypes);
         }
 
+        long start = startTimer();
+        PartParseEvent event = new PartParseEvent();
+        event.begin();
+        PartTally tally = tally(event);
+        DocxArchive archive = metered(container, DocxListener.Stage.METADATA, tally);
         RelationshipSet packageRelationships = relationshipsParser.parse(archive, "_rels/.rels");
         if (packageRelationships != null) {
             builder.packageRelationships(packageRelationships);
@@ -130,77 +335,267 @@ public final class DocxReader {
             builder.relationshipForPart("word/document.xml", documentRelationships);
         }
 
-        WordDocument document = mainDocumentParser.parse(archive, documentRelationships);
+        completed(DocxListener.Stage.METADATA, start);
+        parsed(event, tally, parsers.readId, DocxListener.Stage.METADATA);
+
+        start = startTimer();
+        event = new PartParseEvent();
+        event.begin();
+        tally = tally(event);
+        WordDocument document = parsers.mainDocumentParser.parse(
+                metered(container, DocxListener.Stage.MAIN_DOCUMENT, tally), documentRelationships);
+        completed(DocxListener.Stage.MAIN_DOCUMENT, start);
+        parsed(event, tally, parsers.readId, DocxListener.Stage.MAIN_DOCUMENT);
         if (document != null) {
             builder.document(document);
+            if (listener != null) {
+                ElementCounter counter = new ElementCounter();
+                counter.addAll(document.bodyElements());
+                listener.documentParsed(counter.counts());
+            }
         }
+        return builder;
+    }
 
-        StyleDefinitions styles = stylesParser.parse(archive, builder);
-        if (styles != null) {
-            builder.styles(styles);
+    /**
+     * Parses one group into {@code builder}. With a {@code closed} supplier media is only registered,
+     * and reading it fails once the supplier reports the package closed; without one it is read now.
+     */
+    private void loadPartGroup(PackageParsers parsers,
+                               DocxArchive container,
+                               ContentTypes contentTypes,
+                               DocxPackage.PartGroup group,
+                               DocxPackage.Builder builder,
+                               BooleanSupplier closed) throws IOException {
+        DocxListener.Stage stage = DocxListener.Stage.of(group);
+        long start = startTimer();
+        Event event = group == DocxPackage.PartGroup.MEDIA ? new MediaLoadEvent() : new PartParseEvent();
+        event.begin();
+        PartTally tally = tally(event);
+        DocxArchive archive = metered(container, stage, tally);
+        switch (group) {
+            case STYLES -> {
+                if (archive.exists("word/styles.xml")) {
+                    parsers.stylesParser.parseRelationships(archive, builder);
+                    builder.styles(shared(archive, "word/styles.xml", StyleDefinitions.class,
+                            parsers.stylesParser::parseDefinitions));
+                }
+            }
+            case NUMBERING -> {
+                NumberingDefinitions numbering = shared(archive, "word/numbering.xml", NumberingDefinitions.class,
+                        parsers.numberingParser::parse);
+                if (numbering != null) {
+                    builder.numbering(numbering);
+                }
+            }
+            case FOOTNOTES -> {
+                NoteCollection footnotes = parsers.notesParser.parse(archive, "word/footnotes.xml", NoteCollection.Type.FOOTNOTE, builder);
+                if (footnotes != null) {
+                    builder.footnotes(footnotes);
+                }
+            }
+            case ENDNOTES -> {
+                NoteCollection endnotes = parsers.notesParser.parse(archive, "word/endnotes.xml", NoteCollection.Type.ENDNOTE, builder);
+                if (endnotes != null) {
+                    builder.endnotes(endnotes);
+                }
+            }
+            case FONT_TABLE -> {
+                FontTable fontTable = shared(archive, "word/fontTable.xml", FontTable.class,
+                        parsers.fontTableParser::parse);
+                if (fontTable != null) {
+                    builder.fontTable(fontTable);
+                }
+            }
+            case SETTINGS -> {
+                Settings settings = shared(archive, "word/settings.xml", Settings.class,
+                        settingsParser::parseSettings);
+                if (settings != null) {
+                    builder.settings(settings);
+                }
+            }
+            case WEB_SETTINGS -> {
+                WebSettings webSettings = settingsParser.parseWebSettings(archive);
+                if (webSettings != null) {
+                    builder.webSettings(webSettings);
+                }
+            }
+            case THEME -> {
+                Theme theme = shared(archive, "word/theme/theme1.xml", Theme.class, themeParser::parse);
+                if (theme != null) {
+                    builder.theme(theme);
+                }
+            }
+            case CHARTS -> loadCharts(archive, builder);
+            case CUSTOM_XML -> customXmlLoader.load(archive, builder);
+            case MEDIA -> {
+                if (closed != null) {
+                    mediaLoader.deferMedia(archive, contentTypes, builder, closed);
+                } else {
+                    mediaLoader.loadMedia(archive, contentTypes, builder);
+                }
+            }
+            case BINARY_PARTS -> binaryPartLoader.load(archive, builder);
         }
-
-        NumberingDefinitions numbering = numberingParser.parse(archive);
-        if (numbering != null) {
-            builder.numbering(numbering);
+        completed(stage, start);
+        if (event instanceof MediaLoadEvent media) {
+            loaded(media, tally, container, parsers.readId, closed != null);
+        } else {
+            parsed((PartParseEvent) event, tally, parsers.readId, stage);
         }
+    }
 
-        NoteCollection footnotes = notesParser.parse(archive, "word/footnotes.xml", NoteCollection.Type.FOOTNOTE, builder);
-        if (footnotes != null) {
-            builder.footnotes(footnotes);
+    /**
+     * Parses a part shared between packages of the same template through the {@link PartCache}, if
+     * one is configured.
+     */
+    private <T> T shared(DocxArchive archive, String partName, Class<T> type, PartCache.PartLoader<T> loader) throws IOException {
+        if (partCache == null) {
+            return loader.load(archive);
         }
+        return partCache.get(archive, partName, detachedModel, type, loader);
+    }
 
-        NoteCollection endnotes = notesParser.parse(archive, "word/endnotes.xml", NoteCollection.Type.ENDNOTE, builder);
-        if (endnotes != null) {
-            builder.endnotes(endnotes);
-        }
+    /**
+     * Returns the archive parsers of {@code stage} read from, which reports every part they open
+     * when a listener is registered.
+     */
+    private DocxArchive metered(DocxArchive archive, DocxListener.Stage stage) {
+        return listener == null ? archive : new MeteredArchive(archive, stage, listener);
+    }
+
+    /**
+     * Returns a tally of the parts read for {@code event}, or {@code null} when JFR is not recording
+     * it, in which case the stage is not metered for it at all.
+     */
+    private PartTally tally(Event event) {
+        return event.isEnabled() ? new PartTally(listener) : null;
+    }
 
-        FontTable fontTable = fontTableParser.parse(archive);
-        if (fontTable != null) {
-            builder.fontTable(fontTable);
+    private DocxArchive metered(DocxArchive archive, DocxListener.Stage stage, PartTally tally) {
+        return tally == null ? metered(archive, stage) : new MeteredArchive(archive, stage, tally);
+    }
+
+    private static void parsed(PartParseEvent event, PartTally tally, long readId, DocxListener.Stage stage) {
+        if (tally != null && tally.parts() > 0 && event.shouldCommit()) {
+            event.readId = readId;
+            event.stage = stage.name();
+            tally.describe(event);
+            event.commit();
         }
+    }
 
-        Settings settings = settingsParser.parseSettings(archive);
-        if (settings != null) {
-            builder.settings(settings);
+    private static void loaded(MediaLoadEvent event, PartTally tally, DocxArchive archive, long readId, boolean deferred) throws IOException {
+        if (tally == null || !event.shouldCommit()) {
+            return;
         }
+        if (deferred) {
+            // nothing has been read yet, so describe what was registered
+            for (String entry : archive.list(PackageParts.MEDIA_PREFIX)) {
+                if (!entry.endsWith("/")) {
+                    event.files++;
+                    event.compressedBytes += archive.storedSize(entry).orElse(0);
+                }
+            }
+        } else {
+            tally.describe(event);
+        }
+        if (event.files > 0) {
+            event.readId = readId;
+            event.deferred = deferred;
+            event.commit();
+        }
+    }
 
-        WebSettings webSettings = settingsParser.parseWebSettings(archive);
-        if (webSettings != null) {
-            builder.webSettings(webSettings);
+    private static void opened(ReadEvent event, DocxArchive archive, long readId, DocxPackage docxPackage, boolean lazy) throws IOException {
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.readId = readId;
+        event.packageId = System.identityHashCode(docxPackage);
+        event.lazy = lazy;
+        for (String part : archive.list("")) {
+            event.parts++;
+            event.packageBytes += archive.storedSize(part).orElse(0);
+        }
+        WordDocument document = docxPackage.document().orElse(null);
+        if (document != null) {
+            ElementCounter counter = new ElementCounter();
+            counter.addAll(document.bodyElements());
+            DocxListener.ElementCounts counts = counter.counts();
+            event.blocks = document.bodyElements().size();
+            event.paragraphs = counts.paragraphs();
+            event.tables = counts.tables();
         }
+        event.commit();
+    }
+
+    private long startTimer() {
+        return listener == null ? 0 : System.nanoTime();
+    }
 
-        Theme theme = themeParser.parse(archive);
-        if (theme != null) {
-            builder.theme(theme);
+    private void completed(DocxListener.Stage stage, long start) {
+        if (listener != null) {
+            listener.stageCompleted(stage, System.nanoTime() - start);
         }
+    }
 
-        loadCharts(archive, builder);
-        customXmlLoader.load(archive, builder);
-        mediaLoader.loadMedia(archive, contentTypes, builder);
-        binaryPartLoader.load(archive, builder);
+    /**
+     * Returns the view parsers read {@code archive} through, which enforces the read limits; its
+     * declared part sizes are checked right away.
+     */
+    private DocxArchive limited(DocxArchive archive) throws IOException {
+        return limits.isUnlimited() ? archive : new LimitedArchive(archive, limits);
+    }
 
-        return builder.build();
+    private DocxArchive openArchive(Path path) throws IOException {
+        return memoryMapped ? DocxArchive.openMapped(path) : DocxArchive.open(path);
     }
 
-    private void validatePackageParts(DocxArchive archive) throws IOException {
-        for (String part : archive.list("")) {
-            if (!isAllowedPart(part)) {
-                throw new DocxException("Unsupported part detected: " + part);
-            }
+    private PackageParsers newParsers() {
+        return new PackageParsers(new ParsingContext(!detachedModel), READ_IDS.incrementAndGet());
+    }
+
+    /**
+     * Parsers for a single package. They share one {@link ParsingContext}, so equal run and paragraph
+     * properties are interned across the document, styles and notes of that package only. The read id
+     * ties together the JFR events of that package.
+     */
+    private static final class PackageParsers {
+        private final long readId;
+        private final MainDocumentParser mainDocumentParser;
+        private final StylesParser stylesParser;
+        private final NumberingParser numberingParser;
+        private final NotesParser notesParser;
+        private final FontTableParser fontTableParser;
+
+        private PackageParsers(ParsingContext context, long readId) {
+            this.readId = readId;
+            this.mainDocumentParser = new MainDocumentParser(context);
+            this.stylesParser = new StylesParser(context);
+            this.numberingParser = new NumberingParser(context);
+            this.notesParser = new NotesParser(context);
+            this.fontTableParser = new FontTableParser(context);
         }
     }
 
-    private boolean isAllowedPart(String part) {
-        if (ALLOWED_PARTS.contains(part)) {
-            return true;
+    private static void closeQuietly(DocxArchive archive, Exception failure) {
+        if (archive == null) {
+            return;
+        }
+        try {
+            archive.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
         }
-        for (String prefix : ALLOWED_PREFIXES) {
-            if (part.startsWith(prefix)) {
-                return true;
+    }
+
+    private void validatePackageParts(DocxArchive archive) throws IOException {
+        for (String part : archive.list("")) {
+            if (!PackageParts.isAllowed(part)) {
+                throw new DocxException("Unsupported part detected: " + part);
             }
         }
-        return false;
     }
 
     private void loadCharts(DocxArchive archive, DocxPackage.Builder builder) throws IOException {
@@ -228,4 +623,81 @@ public final class DocxReader {
         return directory + "_rels/" + file + ".rels";
     }
 
+
+    public static final class Builder {
+        private boolean detachedModel;
+        private boolean parallel;
+        private boolean memoryMapped;
+        private PartCache partCache;
+        private DocxListener listener;
+        private ReadLimits limits = ReadLimits.defaults();
+
+        private Builder() {
+        }
+
+        /**
+         * When enabled, parsed properties, styles, numbering and fonts keep only their typed values and
+         * drop the references to the XML elements they were read from ({@code rawProperties()},
+         * {@code rawStyle()}, {@code raw()} and {@code rawDocumentDefaults()} are empty), so the parsed
+         * DOM trees can be garbage collected once reading completes. HTML conversion is unaffected.
+         */
+        public Builder detachedModel(boolean detachedModel) {
+            this.detachedModel = detachedModel;
+            return this;
+        }
+
+        /**
+         * When enabled, {@link DocxReader#read(Path)} parses the main document, styles, numbering, notes,
+         * font table, settings, theme, charts, custom XML and binary parts concurrently on virtual
+         * threads. The resulting package is identical to a sequential read.
+         */
+        public Builder parallel(boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        /**
+         * When enabled, zip packages are memory-mapped and read through {@link com.example.docx.io.MappedZipArchive}
+         * instead of {@link java.util.zip.ZipFile}: the central directory is indexed once and media stored
+         * without compression is shared with the mapping rather than copied.
+         */
+        public Builder memoryMapped(boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
+        /**
+         * Reuses parsed styles, numbering, font table, settings and theme parts across packages
+         * through {@code partCache}, which may be shared with other readers of the same tenant. Parts
+         * are matched by name and a SHA-256 digest of the bytes read, so a cached part is only reused
+         * for byte-identical content. {@code null} (the default) disables caching.
+         */
+        public Builder partCache(PartCache partCache) {
+            this.partCache = partCache;
+            return this;
+        }
+
+        /**
+         * Reports part sizes, stage timings and element counts to {@code listener}. {@code null}
+         * (the default) measures nothing.
+         */
+        public Builder listener(DocxListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Bounds the sizes, compression ratio and XML structure of the packages read, which then fail
+         * with a {@link DocxLimitExceededException}. Defaults to {@link ReadLimits#defaults()}; pass
+         * {@link ReadLimits#none()} for trusted input.
+         */
+        public Builder limits(ReadLimits limits) {
+            this.limits = Objects.requireNonNull(limits, "limits");
+            return this;
+        }
+
+        public DocxReader build() {
+            return new DocxReader(this);
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package com.example.docx;
+
+import com.example.docx.io.DocxArchive;
+import com.example.docx.parser.PlainTextParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Extracts the plain text of a DOCX package for search indexing without going through
+ * {@link DocxReader}. Only {@code word/styles.xml}, {@code word/document.xml} and the footnote and
+ * endnote parts are read, each with a pull parser; no DOM, no {@link com.example.docx.model.DocxPackage}
+ * and no media are created. The body comes first, then the footnotes and the endnotes.
+ *
+ * <p>Text is written as the HTML conversion shows it: hidden runs are left out, field results are
+ * kept and field instructions dropped. Each paragraph, table cell paragraph included, ends with a
+ * line feed; tabs and breaks are written as {@code \t} and {@code \n}. The writer is neither
+ * buffered nor closed by the extractor.
+ */
+public final class DocxTextExtractor {
+
+    private final PlainTextParser parser = new PlainTextParser();
+    private final ReadLimits limits;
+
+    /**
+     * Creates an extractor applying {@link ReadLimits#defaults()}.
+     */
+    public DocxTextExtractor() {
+        this(ReadLimits.defaults());
+    }
+
+    public DocxTextExtractor(ReadLimits limits) {
+        this.limits = Objects.requireNonNull(limits, "limits");
+    }
+
+    public String extract(Path path) {
+        StringWriter out = new StringWriter();
+        extract(path, out);
+        return out.toString();
+    }
+
+    public void extract(Path path, Writer out) {
+        Objects.requireNonNull(out, "out");
+        try (DocxArchive archive = DocxArchive.open(path)) {
+            parser.extract(limited(archive), out);
+        } catch (IOException e) {
+            throw new DocxException("Unable to extract text from DOCX package: " + path, e);
+        }
+    }
+
+    public void extract(byte[] bytes, Writer out) {
+        Objects.requireNonNull(out, "out");
+        try (DocxArchive archive = DocxArchive.open(bytes)) {
+            parser.extract(limited(archive), out);
+        } catch (IOException e) {
+            throw new DocxException("Unable to extract text from memory", e);
+        }
+    }
+
+    /**
+     * Reads {@code input} to the end and extracts its text. The stream is not closed.
+     */
+    public void extract(InputStream input, Writer out) {
+        Objects.requireNonNull(out, "out");
+        try (DocxArchive archive = DocxArchive.open(LimitedArchive.readPackage(input, limits))) {
+            parser.extract(limited(archive), out);
+        } catch (IOException e) {
+            throw new DocxException("Unable to extract text from stream", e);
+        }
+    }
+
+    private DocxArchive limited(DocxArchive archive) throws IOException {
+        return limits.isUnlimited() ? archive : new LimitedArchive(archive, limits);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.docx;
+
+import com.example.docx.model.document.WordDocument;
+
+import java.util.List;
+
+/**
+ * Tallies the paragraphs, runs, tables and drawings of main document blocks for
+ * {@link DocxListener#documentParsed}. Only used while a listener is registered.
+ */
+final class ElementCounter {
+    private long paragraphs;
+    private long runs;
+    private long tables;
+    private long drawings;
+
+    void add(WordDocument.Block block) {
+        if (block instanceof WordDocument.Paragraph paragraph) {
+            paragraphs++;
+            addContent(paragraph.content());
+        } else if (block instanceof WordDocument.Table table) {
+            tables++;
+            for (WordDocument.TableRow row : table.rows()) {
+                for (WordDocument.TableCell cell : row.cells()) {
+                    addAll(cell.content());
+                }
+            }
+        } else if (block instanceof WordDocument.StructuredDocumentTag sdt) {
+            addAll(sdt.content());
+        }
+    }
+
+    void addAll(List<WordDocument.Block> blocks) {
+        for (WordDocument.Block block : blocks) {
+            add(block);
+        }
+    }
+
+    DocxListener.ElementCounts counts() {
+        return new DocxListener.ElementCounts(paragraphs, runs, tables, drawings);
+    }
+
+    private void addContent(List<WordDocument.ParagraphContent> contents) {
+        for (WordDocument.ParagraphContent content : contents) {
+            if (content instanceof WordDocument.Run run) {
+                addRun(run);
+            } else if (content instanceof WordDocument.Hyperlink hyperlink) {
+                hyperlink.runs().forEach(this::addRun);
+            } else if (content instanceof WordDocument.Field field) {
+                field.resultRuns().forEach(this::addRun);
+            } else if (content instanceof WordDocument.StructuredDocumentTagRun sdt) {
+                addContent(sdt.content());
+            }
+        }
+    }
+
+    private void addRun(WordDocument.Run run) {
+        runs++;
+        for (WordDocument.Inline inline : run.elements()) {
+            if (inline instanceof WordDocument.Drawing) {
+                drawings++;
+            }
+        }
+    }
+}
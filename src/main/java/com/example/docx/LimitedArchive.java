@@ -0,0 +1,201 @@
+package com.example.docx;
+
+import com.example.docx.io.DocxArchive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Archive view that enforces {@link ReadLimits}. The sizes the container declares are checked when
+ * the view is created, before anything is inflated; every stream opened through it then counts the
+ * bytes it actually produces, so an entry inflating past its declared size or past the limits fails
+ * while it is being read. XML parts are also fed to an {@link XmlScanner}. Closing the view closes
+ * the underlying archive.
+ */
+final class LimitedArchive implements DocxArchive {
+
+    private final DocxArchive archive;
+    private final ReadLimits limits;
+    private final long declaredBytes;
+    // bytes of parts whose size the container does not record, counted as they are read
+    private final AtomicLong undeclaredBytes = new AtomicLong();
+
+    LimitedArchive(DocxArchive archive, ReadLimits limits) throws IOException {
+        this.archive = archive;
+        this.limits = limits;
+        long total = 0;
+        for (PartSize part : archive.partSizes()) {
+            long size = part.size();
+            if (size < 0) {
+                continue;
+            }
+            if (size > limits.maxEntryBytes()) {
+                throw new DocxLimitExceededException(ReadLimits.Limit.ENTRY_SIZE, part.partName(), limits.maxEntryBytes());
+            }
+            checkRatio(part.partName(), size, part.storedSize());
+            total += size;
+            if (total > limits.maxTotalBytes()) {
+                throw new DocxLimitExceededException(ReadLimits.Limit.TOTAL_SIZE, null, limits.maxTotalBytes());
+            }
+        }
+        this.declaredBytes = total;
+    }
+
+    /**
+     * Reads a whole package from {@code input}, failing as soon as it grows past the total size limit.
+     */
+    static byte[] readPackage(InputStream input, ReadLimits limits) throws IOException {
+        long max = Math.min(limits.maxTotalBytes(), Integer.MAX_VALUE - 9);
+        byte[] bytes = input.readNBytes((int) max + 1);
+        if (bytes.length > max) {
+            throw new DocxLimitExceededException(ReadLimits.Limit.TOTAL_SIZE, null, limits.maxTotalBytes());
+        }
+        return bytes;
+    }
+
+    @Override
+    public InputStream open(String partName) throws IOException {
+        long declared = declaredSize(partName);
+        long stored = archive.storedSize(partName).orElse(-1);
+        XmlScanner scanner = PackageParts.isXml(partName) ? new XmlScanner(partName, limits) : null;
+        return new LimitedStream(archive.open(partName), partName, declared, stored, scanner);
+    }
+
+    @Override
+    public boolean exists(String partName) {
+        return archive.exists(partName);
+    }
+
+    @Override
+    public Set<String> list(String prefix) throws IOException {
+        return archive.list(prefix);
+    }
+
+    @Override
+    public Optional<ByteBuffer> uncompressedView(String partName) throws IOException {
+        // stored parts are not inflated and their size was checked up front
+        return archive.uncompressedView(partName);
+    }
+
+    @Override
+    public Optional<Checksum> checksum(String partName) throws IOException {
+        return archive.checksum(partName);
+    }
+
+    @Override
+    public OptionalLong storedSize(String partName) throws IOException {
+        return archive.storedSize(partName);
+    }
+
+    @Override
+    public List<PartSize> partSizes() throws IOException {
+        return archive.partSizes();
+    }
+
+    @Override
+    public void close() throws IOException {
+        archive.close();
+    }
+
+    private long declaredSize(String partName) throws IOException {
+        return archive.checksum(partName).map(Checksum::size).orElse(-1L);
+    }
+
+    private void checkRatio(String partName, long size, long stored) {
+        if (size > ReadLimits.RATIO_GRACE_BYTES && stored > 0 && size / stored > limits.maxCompressionRatio()) {
+            throw new DocxLimitExceededException(ReadLimits.Limit.COMPRESSION_RATIO, partName, limits.maxCompressionRatio());
+        }
+    }
+
+    private final class LimitedStream extends InputStream {
+        private final InputStream input;
+        private final String partName;
+        private final long declared;
+        private final long stored;
+        private final XmlScanner scanner;
+        private long bytes;
+
+        LimitedStream(InputStream input, String partName, long declared, long stored, XmlScanner scanner) {
+            this.input = input;
+            this.partName = partName;
+            this.declared = declared;
+            this.stored = stored;
+            this.scanner = scanner;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = input.read();
+            if (value >= 0) {
+                count(1);
+                if (scanner != null) {
+                    scanner.scan((byte) value);
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = input.read(buffer, offset, length);
+            if (count > 0) {
+                count(count);
+                if (scanner != null) {
+                    scanner.scan(buffer, offset, count);
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public byte[] readAllBytes() throws IOException {
+            if (declared < 0 || declared > Integer.MAX_VALUE - 8) {
+                return super.readAllBytes();
+            }
+            // the declared size passed the limits, so it can be allocated at once and filled in place
+            byte[] all = new byte[(int) declared];
+            int count = input.readNBytes(all, 0, all.length);
+            count(count);
+            if (scanner != null) {
+                scanner.scan(all, 0, count);
+            }
+            if (input.read() >= 0) {
+                count(1);
+            }
+            return count == all.length ? all : Arrays.copyOf(all, count);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return input.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+
+        private void count(int count) {
+            bytes += count;
+            if (bytes > limits.maxEntryBytes()) {
+                throw new DocxLimitExceededException(ReadLimits.Limit.ENTRY_SIZE, partName, limits.maxEntryBytes());
+            }
+            if (declared >= 0) {
+                if (bytes > declared) {
+                    // the entry inflates to more than the central directory admits
+                    throw new DocxLimitExceededException(ReadLimits.Limit.COMPRESSION_RATIO, partName, limits.maxCompressionRatio());
+                }
+            } else if (undeclaredBytes.addAndGet(count) + declaredBytes > limits.maxTotalBytes()) {
+                throw new DocxLimitExceededException(ReadLimits.Limit.TOTAL_SIZE, null, limits.maxTotalBytes());
+            }
+            checkRatio(partName, bytes, stored);
+        }
+    }
+}
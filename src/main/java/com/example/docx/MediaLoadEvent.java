@@ -0,0 +1,38 @@
+package com.example.docx;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the media of one read, either loaded or, for {@link DocxReader#open},
+ * registered to be streamed on demand.
+ */
+@Name("com.example.docx.MediaLoad")
+@Label("DOCX Media Load")
+@Category("DOCX")
+@Description("Loading or deferring the files under word/media")
+@StackTrace(false)
+final class MediaLoadEvent extends jdk.jfr.Event {
+
+    @Label("Read Id")
+    long readId;
+
+    @Label("Deferred")
+    boolean deferred;
+
+    @Label("Files")
+    int files;
+
+    @Label("Compressed Size")
+    @DataAmount
+    long compressedBytes;
+
+    @Label("Uncompressed Size")
+    @Description("Bytes read now; 0 when deferred")
+    @DataAmount
+    long uncompressedBytes;
+}
@@ -0,0 +1,143 @@
+package com.example.docx;
+
+import com.example.docx.io.DocxArchive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Archive view handed to the parsers of one stage when a {@link DocxListener} is registered. Every
+ * part opened through it reports its sizes and the time spent reading it once its stream is
+ * closed. Closing the view does not close the underlying archive, which stays owned by the reader.
+ */
+final class MeteredArchive implements DocxArchive {
+
+    private final DocxArchive archive;
+    private final DocxListener.Stage stage;
+    private final DocxListener listener;
+
+    MeteredArchive(DocxArchive archive, DocxListener.Stage stage, DocxListener listener) {
+        this.archive = archive;
+        this.stage = stage;
+        this.listener = listener;
+    }
+
+    @Override
+    public InputStream open(String partName) throws IOException {
+        long start = System.nanoTime();
+        InputStream input = archive.open(partName);
+        return new MeteredStream(input, partName, storedSize(partName), System.nanoTime() - start);
+    }
+
+    @Override
+    public boolean exists(String partName) {
+        return archive.exists(partName);
+    }
+
+    @Override
+    public Set<String> list(String prefix) throws IOException {
+        return archive.list(prefix);
+    }
+
+    @Override
+    public Optional<ByteBuffer> uncompressedView(String partName) throws IOException {
+        Optional<ByteBuffer> view = archive.uncompressedView(partName);
+        if (view.isPresent()) {
+            long size = view.get().remaining();
+            listener.partRead(new DocxListener.PartRead(stage, partName, size, size, 0));
+        }
+        return view;
+    }
+
+    @Override
+    public Optional<Checksum> checksum(String partName) throws IOException {
+        return archive.checksum(partName);
+    }
+
+    @Override
+    public OptionalLong storedSize(String partName) throws IOException {
+        return archive.storedSize(partName);
+    }
+
+    @Override
+    public List<PartSize> partSizes() throws IOException {
+        return archive.partSizes();
+    }
+
+    @Override
+    public void close() {
+        // the underlying archive is closed by its owner
+    }
+
+    private final class MeteredStream extends InputStream {
+        private final InputStream input;
+        private final String partName;
+        private final long compressedBytes;
+        private long bytes;
+        private long nanos;
+        private boolean closed;
+
+        MeteredStream(InputStream input, String partName, OptionalLong storedSize, long openNanos) {
+            this.input = input;
+            this.partName = partName;
+            this.compressedBytes = storedSize.orElse(-1);
+            this.nanos = openNanos;
+        }
+
+        @Override
+        public int read() throws IOException {
+            long start = System.nanoTime();
+            int value = input.read();
+            nanos += System.nanoTime() - start;
+            if (value >= 0) {
+                bytes++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            long start = System.nanoTime();
+            int count = input.read(buffer, offset, length);
+            nanos += System.nanoTime() - start;
+            if (count > 0) {
+                bytes += count;
+            }
+            return count;
+        }
+
+        @Override
+        public byte[] readAllBytes() throws IOException {
+            // keeps the single-copy fast path of the underlying stream
+            long start = System.nanoTime();
+            byte[] all = input.readAllBytes();
+            nanos += System.nanoTime() - start;
+            bytes += all.length;
+            return all;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return input.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return input.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+            if (!closed) {
+                closed = true;
+                listener.partRead(new DocxListener.PartRead(stage, partName, compressedBytes, bytes, nanos));
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.docx;
+
+import com.example.docx.io.DocxArchive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Part list and sizes of a package, as recorded by its zip central directory, returned by
+ * {@link DocxInspector}. Nothing in it required inflating a part, so it is cheap enough to decide how
+ * to handle a document before reading it. Immutable and safe to share between threads.
+ */
+public final class PackageManifest {
+
+    /**
+     * Binary parts are copied rather than parsed, which costs roughly this many times less per byte
+     * than XML in {@link DocxReader}.
+     */
+    private static final int BINARY_COST_DIVISOR = 64;
+
+    private final List<Part> parts;
+    private final List<String> unsupportedParts;
+    private final long compressedBytes;
+    private final long uncompressedBytes;
+    private final long xmlBytes;
+    private final int mediaCount;
+    private final long mediaBytes;
+
+    private PackageManifest(List<Part> parts) {
+        this.parts = parts;
+        List<String> unsupported = new ArrayList<>();
+        long compressed = 0;
+        long uncompressed = 0;
+        long xml = 0;
+        int media = 0;
+        long mediaSize = 0;
+        for (int i = 0; i < parts.size(); i++) {
+            Part part = parts.get(i);
+            if (!part.allowed()) {
+                unsupported.add(part.name());
+            }
+            long size = Math.max(0, part.uncompressedBytes());
+            compressed += Math.max(0, part.compressedBytes());
+            uncompressed += size;
+            if (PackageParts.isXml(part.name())) {
+                xml += size;
+            }
+            if (part.name().startsWith(PackageParts.MEDIA_PREFIX) && !part.name().endsWith("/")) {
+                media++;
+                mediaSize += size;
+            }
+        }
+        this.unsupportedParts = List.copyOf(unsupported);
+        this.compressedBytes = compressed;
+        this.uncompressedBytes = uncompressed;
+        this.xmlBytes = xml;
+        this.mediaCount = media;
+        this.mediaBytes = mediaSize;
+    }
+
+    static PackageManifest of(List<DocxArchive.PartSize> sizes) {
+        List<Part> parts = new ArrayList<>(sizes.size());
+        for (DocxArchive.PartSize size : sizes) {
+            parts.add(new Part(size.partName(), size.storedSize(), size.size(), PackageParts.isAllowed(size.partName())));
+        }
+        return new PackageManifest(List.copyOf(parts));
+    }
+
+    /**
+     * Every entry of the package, in the order of its central directory.
+     */
+    public List<Part> parts() {
+        return parts;
+    }
+
+    public Optional<Part> part(String name) {
+        for (Part part : parts) {
+            if (part.name().equals(name)) {
+                return Optional.of(part);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean hasMainDocument() {
+        return part(PackageParts.MAIN_DOCUMENT).isPresent();
+    }
+
+    /**
+     * Parts {@link DocxReader} refuses to read, in package order.
+     */
+    public List<String> unsupportedParts() {
+        return unsupportedParts;
+    }
+
+    /**
+     * Whether the part list passes the validation of {@link DocxReader}. The parts themselves may
+     * still be malformed.
+     */
+    public boolean isSupported() {
+        return unsupportedParts.isEmpty();
+    }
+
+    /**
+     * Size of the parts in the container, not counting zip headers.
+     */
+    public long compressedBytes() {
+        return compressedBytes;
+    }
+
+    public long uncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    /**
+     * Uncompressed size of the XML parts, relationships included.
+     */
+    public long xmlBytes() {
+        return xmlBytes;
+    }
+
+    /**
+     * Number of files under {@code word/media/}.
+     */
+    public int mediaCount() {
+        return mediaCount;
+    }
+
+    public long mediaBytes() {
+        return mediaBytes;
+    }
+
+    /**
+     * Relative cost of reading the package with {@link DocxReader}, in XML bytes: the uncompressed XML
+     * plus every other part weighted down by how much cheaper copying it is than parsing. Useful to
+     * compare packages, or against a threshold calibrated on the target machine; not a duration.
+     */
+    public long estimatedParseCost() {
+        return xmlBytes + (uncompressedBytes - xmlBytes) / BINARY_COST_DIVISOR;
+    }
+
+    @Override
+    public String toString() {
+        return "PackageManifest[parts=" + parts.size() + ", compressedBytes=" + compressedBytes
+                + ", uncompressedBytes=" + uncompressedBytes + ", xmlBytes=" + xmlBytes + ", mediaCount=" + mediaCount
+                + ", unsupportedParts=" + unsupportedParts + "]";
+    }
+
+    /**
+     * One entry of the package.
+     *
+     * @param compressedBytes   size in the container, or -1 when not recorded
+     * @param uncompressedBytes size once inflated, or -1 when not recorded
+     * @param allowed           whether {@link DocxReader} accepts a part of that name
+     */
+    public record Part(String name, long compressedBytes, long uncompressedBytes, boolean allowed) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.docx;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The parts a package may contain. {@link DocxReader} rejects any other part, and
+ * {@link PackageManifest} reports them without opening the package.
+ */
+final class PackageParts {
+
+    static final String MAIN_DOCUMENT = "word/document.xml";
+    static final String MEDIA_PREFIX = "word/media/";
+
+    private static final Set<String> ALLOWED_PARTS = Set.of(
+            "[Content_Types].xml",
+            "_rels/.rels",
+            "docProps/app.xml",
+            "docProps/core.xml",
+            "docProps/custom.xml",
+            "word/document.xml",
+            "word/styles.xml",
+            "word/numbering.xml",
+            "word/fontTable.xml",
+            "word/settings.xml",
+            "word/webSettings.xml",
+            "word/theme/theme1.xml",
+            "word/footnotes.xml",
+            "word/endnotes.xml"
+    );
+
+    private static final List<String> ALLOWED_PREFIXES = List.of(
+            "word/_rels/",
+            "word/media/",
+            "word/charts/",
+            "word/charts/_rels/",
+            "word/fonts/",
+            "word/embeddings/",
+            "word/ink/",
+            "word/theme/",
+            "customXml/",
+            "customXml/_rels/"
+    );
+
+    private PackageParts() {
+    }
+
+    static boolean isAllowed(String part) {
+        if (ALLOWED_PARTS.contains(part)) {
+            return true;
+        }
+        for (String prefix : ALLOWED_PREFIXES) {
+            if (part.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isXml(String part) {
+        return part.endsWith(".xml") || part.endsWith(".rels");
+    }
+}
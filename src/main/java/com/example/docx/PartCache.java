@@ -0,0 +1,196 @@
+package com.example.docx;
+
+import com.example.docx.io.DocxArchive;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache of parsed shared parts for {@link DocxReader}. Packages created from
+ * the same template carry byte-identical {@code word/styles.xml}, {@code word/numbering.xml},
+ * {@code word/fontTable.xml}, {@code word/settings.xml} and {@code word/theme/theme1.xml}; with a
+ * cache those parts are parsed once and the result is handed to every later package whose part has
+ * the same name and the same SHA-256 digest. The digest is computed over the bytes actually read,
+ * never taken from the container, so a hit still inflates the part but skips parsing it.
+ *
+ * <p>Entries are evicted in least-recently-used order once {@link #maxEntries()} is reached. Cached
+ * values, including any DOM they expose, are shared between packages and must not be modified. One
+ * cache can be shared by several readers, but not across tenants that do not trust each other:
+ * hits are observable through timing and the counters, and reveal that a part with the same
+ * content was read before.
+ */
+public final class PartCache {
+
+    private final int maxEntries;
+    private final Map<Key, Object> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private PartCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > PartCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Creates a cache holding at most {@code maxEntries} parsed parts.
+     */
+    public static PartCache create(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        return new PartCache(maxEntries);
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Number of parts served from the cache.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of parts that were parsed because no cached entry matched.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the cached value for {@code partName} or parses it with {@code loader}. The part is
+     * read once to compute its digest; on a miss {@code loader} parses those same bytes. Missing
+     * parts are handed to the loader and not counted. Two readers missing on the same part at once
+     * may both parse it; the last result wins.
+     */
+    <T> T get(DocxArchive archive, String partName, boolean detachedModel, Class<T> type, PartLoader<T> loader) throws IOException {
+        if (!archive.exists(partName)) {
+            return loader.load(archive);
+        }
+        byte[] content;
+        try (InputStream input = archive.open(partName)) {
+            content = input.readAllBytes();
+        }
+        Key key = new Key(partName, ByteBuffer.wrap(digest(content)), detachedModel);
+        Object cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return type.cast(cached);
+        }
+        misses.increment();
+        T value = loader.load(new ReadPart(archive, partName, content));
+        if (value != null) {
+            synchronized (entries) {
+                entries.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    private static byte[] digest(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    interface PartLoader<T> {
+        T load(DocxArchive archive) throws IOException;
+    }
+
+    // the detached flag is part of the key because it changes the shape of the parsed model
+    private record Key(String partName, ByteBuffer digest, boolean detachedModel) {
+    }
+
+    /**
+     * Serves the part that was digested from memory, so the parser sees exactly the bytes the key
+     * was computed from, and everything else from the package.
+     */
+    private static final class ReadPart implements DocxArchive {
+        private final DocxArchive archive;
+        private final String partName;
+        private final byte[] content;
+
+        ReadPart(DocxArchive archive, String partName, byte[] content) {
+            this.archive = archive;
+            this.partName = partName;
+            this.content = content;
+        }
+
+        @Override
+        public InputStream open(String name) throws IOException {
+            return name.equals(partName) ? new ByteArrayInputStream(content) : archive.open(name);
+        }
+
+        @Override
+        public boolean exists(String name) {
+            return archive.exists(name);
+        }
+
+        @Override
+        public Set<String> list(String prefix) throws IOException {
+            return archive.list(prefix);
+        }
+
+        @Override
+        public Optional<ByteBuffer> uncompressedView(String name) throws IOException {
+            return name.equals(partName) ? Optional.empty() : archive.uncompressedView(name);
+        }
+
+        @Override
+        public Optional<Checksum> checksum(String name) throws IOException {
+            return archive.checksum(name);
+        }
+
+        @Override
+        public OptionalLong storedSize(String name) throws IOException {
+            return archive.storedSize(name);
+        }
+
+        @Override
+        public List<PartSize> partSizes() throws IOException {
+            return archive.partSizes();
+        }
+
+        @Override
+        public void close() {
+            // the underlying archive is closed by its owner
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.docx;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one stage of a read that opened at least one part: the metadata, the main
+ * document or a {@link com.example.docx.model.DocxPackage.PartGroup} other than media.
+ */
+@Name("com.example.docx.PartParse")
+@Label("DOCX Part Parse")
+@Category("DOCX")
+@Description("Reading and parsing the parts of one stage")
+@StackTrace(false)
+final class PartParseEvent extends jdk.jfr.Event {
+
+    @Label("Read Id")
+    long readId;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Part Name")
+    @Description("Parts opened, in order")
+    String partName;
+
+    @Label("Parts")
+    int parts;
+
+    @Label("Compressed Size")
+    @DataAmount
+    long compressedBytes;
+
+    @Label("Uncompressed Size")
+    @DataAmount
+    long uncompressedBytes;
+}
@@ -0,0 +1,50 @@
+package com.example.docx;
+
+import java.util.StringJoiner;
+
+/**
+ * Sums the parts a stage opened for its {@link PartParseEvent} or {@link MediaLoadEvent}, forwarding
+ * each one to the registered listener, if any. Only used while one of those events is enabled.
+ */
+final class PartTally implements DocxListener {
+    private final DocxListener listener;
+    private final StringJoiner partNames = new StringJoiner(", ");
+    private int parts;
+    private long compressedBytes;
+    private long uncompressedBytes;
+
+    PartTally(DocxListener listener) {
+        this.listener = listener;
+    }
+
+    // deferred media may still be read from other threads once the stage is over
+    @Override
+    public synchronized void partRead(PartRead part) {
+        parts++;
+        partNames.add(part.partName());
+        if (part.compressedBytes() > 0) {
+            compressedBytes += part.compressedBytes();
+        }
+        uncompressedBytes += part.uncompressedBytes();
+        if (listener != null) {
+            listener.partRead(part);
+        }
+    }
+
+    synchronized void describe(PartParseEvent event) {
+        event.partName = partNames.toString();
+        event.parts = parts;
+        event.compressedBytes = compressedBytes;
+        event.uncompressedBytes = uncompressedBytes;
+    }
+
+    synchronized void describe(MediaLoadEvent event) {
+        event.files = parts;
+        event.compressedBytes = compressedBytes;
+        event.uncompressedBytes = uncompressedBytes;
+    }
+
+    synchronized int parts() {
+        return parts;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.docx;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one {@link DocxReader#read} or {@link DocxReader#open} call. The part events
+ * of the same call share its {@code readId}; conversions of the result share its {@code packageId}.
+ */
+@Name("com.example.docx.Read")
+@Label("DOCX Read")
+@Category("DOCX")
+@Description("Opening a DOCX package and parsing its parts")
+@StackTrace(false)
+final class ReadEvent extends jdk.jfr.Event {
+
+    @Label("Read Id")
+    long readId;
+
+    @Label("Package Id")
+    @Description("Identity hash code of the DocxPackage that was returned")
+    int packageId;
+
+    @Label("Lazy")
+    @Description("Part groups are parsed on first access")
+    boolean lazy;
+
+    @Label("Parts")
+    int parts;
+
+    @Label("Package Size")
+    @Description("Stored size of all parts, where the container records it")
+    @DataAmount
+    long packageBytes;
+
+    @Label("Blocks")
+    @Description("Top-level blocks of the document body")
+    int blocks;
+
+    @Label("Paragraphs")
+    long paragraphs;
+
+    @Label("Tables")
+    long tables;
+}
@@ -0,0 +1,211 @@
+package com.example.docx;
+
+/**
+ * Bounds on the resources a single package may use while it is read, so a hostile upload fails
+ * with a {@link DocxLimitExceededException} instead of filling the heap. Sizes recorded in the zip
+ * central directory are checked before anything is inflated, and the bytes actually inflated are
+ * checked again while parts are streamed, so a package lying about its sizes is stopped as well.
+ *
+ * <p>XML parts are scanned as they are read: the number of elements, their nesting depth and the
+ * longest run of character data or attribute value are counted on the raw UTF-8 bytes, before the
+ * parser builds anything from them. Parts encoded in UTF-16 are only bounded by their size.
+ *
+ * <pre>{@code
+ * DocxReader reader = DocxReader.builder()
+ *         .limits(ReadLimits.builder().maxEntryBytes(32 << 20).build())
+ *         .build();
+ * }</pre>
+ */
+public final class ReadLimits {
+
+    /**
+     * Entries smaller than this are never rejected for their compression ratio; short XML parts
+     * routinely compress better than large ones.
+     */
+    static final long RATIO_GRACE_BYTES = 1 << 20;
+
+    private static final ReadLimits DEFAULTS = builder().build();
+    private static final ReadLimits NONE = new Builder()
+            .maxTotalBytes(Long.MAX_VALUE)
+            .maxEntryBytes(Long.MAX_VALUE)
+            .maxCompressionRatio(Long.MAX_VALUE)
+            .maxXmlElements(Long.MAX_VALUE)
+            .maxXmlDepth(Integer.MAX_VALUE)
+            .maxTextLength(Long.MAX_VALUE)
+            .build();
+
+    private final long maxTotalBytes;
+    private final long maxEntryBytes;
+    private final long maxCompressionRatio;
+    private final long maxXmlElements;
+    private final int maxXmlDepth;
+    private final long maxTextLength;
+
+    private ReadLimits(Builder builder) {
+        this.maxTotalBytes = builder.maxTotalBytes;
+        this.maxEntryBytes = builder.maxEntryBytes;
+        this.maxCompressionRatio = builder.maxCompressionRatio;
+        this.maxXmlElements = builder.maxXmlElements;
+        this.maxXmlDepth = builder.maxXmlDepth;
+        this.maxTextLength = builder.maxTextLength;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The limits {@link DocxReader} and {@link DocxTextExtractor} apply unless told otherwise. They are
+     * far above what any real document needs.
+     */
+    public static ReadLimits defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * No limits at all, for packages from a trusted source.
+     */
+    public static ReadLimits none() {
+        return NONE;
+    }
+
+    /**
+     * Sum of the uncompressed sizes of all parts of the package.
+     */
+    public long maxTotalBytes() {
+        return maxTotalBytes;
+    }
+
+    /**
+     * Uncompressed size of any single part.
+     */
+    public long maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /**
+     * Uncompressed size of a part divided by its compressed size, checked once a part is larger than
+     * 1 MiB.
+     */
+    public long maxCompressionRatio() {
+        return maxCompressionRatio;
+    }
+
+    /**
+     * Elements in any single XML part.
+     */
+    public long maxXmlElements() {
+        return maxXmlElements;
+    }
+
+    /**
+     * Nesting depth of elements in any XML part.
+     */
+    public int maxXmlDepth() {
+        return maxXmlDepth;
+    }
+
+    /**
+     * Bytes of a single text node, CDATA section or attribute value.
+     */
+    public long maxTextLength() {
+        return maxTextLength;
+    }
+
+    boolean isUnlimited() {
+        return this == NONE;
+    }
+
+    @Override
+    public String toString() {
+        return "ReadLimits[maxTotalBytes=" + maxTotalBytes + ", maxEntryBytes=" + maxEntryBytes
+                + ", maxCompressionRatio=" + maxCompressionRatio + ", maxXmlElements=" + maxXmlElements
+                + ", maxXmlDepth=" + maxXmlDepth + ", maxTextLength=" + maxTextLength + "]";
+    }
+
+    /**
+     * The limit a {@link DocxLimitExceededException} reports.
+     */
+    public enum Limit {
+        TOTAL_SIZE,
+        ENTRY_SIZE,
+        /**
+         * Also reported when a part inflates to more bytes than the central directory declares.
+         */
+        COMPRESSION_RATIO,
+        XML_ELEMENTS,
+        XML_DEPTH,
+        TEXT_LENGTH
+    }
+
+    public static final class Builder {
+        private long maxTotalBytes = 1L << 30;
+        private long maxEntryBytes = 256L << 20;
+        private long maxCompressionRatio = 200;
+        private long maxXmlElements = 20_000_000;
+        private int maxXmlDepth = 512;
+        private long maxTextLength = 64L << 20;
+
+        private Builder() {
+        }
+
+        /**
+         * Defaults to 1 GiB.
+         */
+        public Builder maxTotalBytes(long maxTotalBytes) {
+            this.maxTotalBytes = requirePositive(maxTotalBytes, "maxTotalBytes");
+            return this;
+        }
+
+        /**
+         * Defaults to 256 MiB.
+         */
+        public Builder maxEntryBytes(long maxEntryBytes) {
+            this.maxEntryBytes = requirePositive(maxEntryBytes, "maxEntryBytes");
+            return this;
+        }
+
+        /**
+         * Defaults to 200.
+         */
+        public Builder maxCompressionRatio(long maxCompressionRatio) {
+            this.maxCompressionRatio = requirePositive(maxCompressionRatio, "maxCompressionRatio");
+            return this;
+        }
+
+        /**
+         * Defaults to 20 million.
+         */
+        public Builder maxXmlElements(long maxXmlElements) {
+            this.maxXmlElements = requirePositive(maxXmlElements, "maxXmlElements");
+            return this;
+        }
+
+        /**
+         * Defaults to 512.
+         */
+        public Builder maxXmlDepth(int maxXmlDepth) {
+            this.maxXmlDepth = (int) requirePositive(maxXmlDepth, "maxXmlDepth");
+            return this;
+        }
+
+        /**
+         * Defaults to 64 MiB.
+         */
+        public Builder maxTextLength(long maxTextLength) {
+            this.maxTextLength = requirePositive(maxTextLength, "maxTextLength");
+            return this;
+        }
+
+        public ReadLimits build() {
+            return new ReadLimits(this);
+        }
+
+        private static long requirePositive(long value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive: " + value);
+            }
+            return value;
+        }
+    }
+}
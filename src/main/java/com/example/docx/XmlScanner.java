@@ -0,0 +1,192 @@
+package com.example.docx;
+
+/**
+ * Counts the elements, nesting depth and text runs of an XML part from its raw bytes, so
+ * {@link ReadLimits} are enforced before the parser allocates anything for them. Every markup
+ * character is ASCII, so UTF-8 input can be scanned byte by byte; a part that starts like UTF-16 is
+ * left to the size limits.
+ */
+final class XmlScanner {
+    private static final int TEXT = 0;
+    private static final int MARKUP = 1;
+    private static final int START_TAG = 2;
+    private static final int QUOTED = 3;
+    private static final int END_TAG = 4;
+    private static final int BANG = 5;
+    private static final int COMMENT = 6;
+    private static final int CDATA_OPEN = 7;
+    private static final int CDATA = 8;
+    private static final int PROCESSING_INSTRUCTION = 9;
+    private static final int DECLARATION = 10;
+
+    private final String partName;
+    private final long maxElements;
+    private final int maxDepth;
+    private final long maxTextLength;
+    private int state = TEXT;
+    private long position;
+    private long elements;
+    private int depth;
+    private long text;
+    // consecutive '-', ']' or '?' seen while looking for the end of a comment, CDATA section or PI
+    private int marker;
+    private boolean slash;
+    private byte quote;
+    private boolean disabled;
+
+    XmlScanner(String partName, ReadLimits limits) {
+        this.partName = partName;
+        this.maxElements = limits.maxXmlElements();
+        this.maxDepth = limits.maxXmlDepth();
+        this.maxTextLength = limits.maxTextLength();
+    }
+
+    void scan(byte[] bytes, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && !disabled) {
+            // runs of text, attribute values and tag names are skipped in a tight loop
+            if (position >= 2 && (state == TEXT || state == QUOTED || state == START_TAG)) {
+                int start = i;
+                if (state == START_TAG) {
+                    while (i < end && bytes[i] != '>' && bytes[i] != '"' && bytes[i] != '\'') {
+                        i++;
+                    }
+                    if (i > start) {
+                        slash = bytes[i - 1] == '/';
+                    }
+                } else {
+                    byte stop = state == TEXT ? (byte) '<' : quote;
+                    while (i < end && bytes[i] != stop) {
+                        i++;
+                    }
+                    text(i - start);
+                }
+                position += i - start;
+                if (i == end) {
+                    return;
+                }
+            }
+            scan(bytes[i++]);
+        }
+    }
+
+    void scan(byte c) {
+        if (position++ < 2 && (c == 0 || position == 1 && (c == (byte) 0xFE || c == (byte) 0xFF))) {
+            disabled = true;
+            return;
+        }
+        switch (state) {
+            case TEXT -> {
+                if (c == '<') {
+                    state = MARKUP;
+                } else {
+                    text();
+                }
+            }
+            case MARKUP -> {
+                text = 0;
+                if (c == '/') {
+                    state = END_TAG;
+                } else if (c == '?') {
+                    marker = 0;
+                    state = PROCESSING_INSTRUCTION;
+                } else if (c == '!') {
+                    state = BANG;
+                } else {
+                    if (++elements > maxElements) {
+                        throw new DocxLimitExceededException(ReadLimits.Limit.XML_ELEMENTS, partName, maxElements);
+                    }
+                    if (++depth > maxDepth) {
+                        throw new DocxLimitExceededException(ReadLimits.Limit.XML_DEPTH, partName, maxDepth);
+                    }
+                    slash = false;
+                    state = START_TAG;
+                }
+            }
+            case START_TAG -> {
+                if (c == '"' || c == '\'') {
+                    quote = c;
+                    text = 0;
+                    state = QUOTED;
+                } else if (c == '>') {
+                    if (slash) {
+                        depth--;
+                    }
+                    text = 0;
+                    state = TEXT;
+                } else {
+                    slash = c == '/';
+                }
+            }
+            case QUOTED -> {
+                if (c == quote) {
+                    slash = false;
+                    state = START_TAG;
+                } else {
+                    text();
+                }
+            }
+            case END_TAG -> {
+                if (c == '>') {
+                    depth--;
+                    state = TEXT;
+                }
+            }
+            case BANG -> {
+                marker = 0;
+                state = c == '-' ? COMMENT : c == '[' ? CDATA_OPEN : DECLARATION;
+            }
+            case COMMENT -> {
+                if (c == '-') {
+                    marker++;
+                } else if (c == '>' && marker >= 2) {
+                    state = TEXT;
+                } else {
+                    marker = 0;
+                }
+            }
+            case CDATA_OPEN -> {
+                if (c == '[') {
+                    state = CDATA;
+                }
+            }
+            case CDATA -> {
+                if (c == ']') {
+                    marker++;
+                } else if (c == '>' && marker >= 2) {
+                    text = 0;
+                    state = TEXT;
+                    return;
+                } else {
+                    marker = 0;
+                }
+                text();
+            }
+            case PROCESSING_INSTRUCTION -> {
+                if (c == '>' && marker == 1) {
+                    state = TEXT;
+                } else {
+                    marker = c == '?' ? 1 : 0;
+                }
+            }
+            default -> {
+                // a document type declaration, which the parsers reject anyway
+                if (c == '>') {
+                    state = TEXT;
+                }
+            }
+        }
+    }
+
+    private void text() {
+        text(1);
+    }
+
+    private void text(int bytes) {
+        text += bytes;
+        if (text > maxTextLength) {
+            throw new DocxLimitExceededException(ReadLimits.Limit.TEXT_LENGTH, partName, maxTextLength);
+        }
+    }
+}
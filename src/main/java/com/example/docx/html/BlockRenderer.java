@@ -2,7 +2,13 @@ package com.example.docx.html;
 
 import com.example.docx.model.document.WordDocument;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 final class BlockRenderer {
     private final RenderContext context;
@@ -14,54 +20,113 @@ final class BlockRenderer {
         this.context = context;
         this.paragraphRenderer = new ParagraphRenderer(context);
         this.tableRenderer = new TableRenderer(context, this);
-        this.structuredDocumentTagRenderer = new StructuredDocumentTagRenderer(context, this);
+        this.structuredDocumentTagRenderer = new StructuredDocumentTagRenderer(this);
     }
 
-    String renderBlocks(List<WordDocument.Block> blocks) {
-        if (blocks == null || blocks.isEmpty()) {
-            return "";
+    void renderBlocks(List<WordDocument.Block> blocks, StringBuilder out) {
+        if (blocks == null) {
+            return;
         }
-        StringBuilder builder = new StringBuilder();
         for (WordDocument.Block block : blocks) {
-            String html = renderBlock(block, List.of());
-            if (!html.isEmpty()) {
-                builder.append(html).append('\n');
+            int start = out.length();
+            renderBlock(block, List.of(), out);
+            if (out.length() > start) {
+                out.append('\n');
             }
         }
-        return builder.toString();
     }
 
-    String renderBlock(WordDocument.Block block, List<WordDocument.RunProperties> extraRunFallbacks) {
-        if (block instanceof WordDocument.Paragraph paragraph) {
-            return paragraphRenderer.renderParagraph(paragraph, extraRunFallbacks);
-        }
-        if (block instanceof WordDocument.Table table) {
-            return tableRenderer.renderTable(table, extraRunFallbacks);
+    /**
+     * Renders each block into {@code scratch}, which is cleared and reused for every block, and copies
+     * the non-empty results to {@code output}.
+     */
+    void renderBlocks(List<WordDocument.Block> blocks, StringBuilder scratch, Appendable output) throws IOException {
+        for (WordDocument.Block block : blocks) {
+            scratch.setLength(0);
+            renderBlock(block, List.of(), scratch);
+            if (!scratch.isEmpty()) {
+                output.append(scratch).append('\n');
+            }
         }
-        if (block instanceof WordDocument.StructuredDocumentTag sdt) {
-            return structuredDocumentTagRenderer.renderStructuredDocumentTag(sdt, extraRunFallbacks);
+    }
+
+    /**
+     * Renders {@code blocks} like {@link #renderBlocks(List, StringBuilder)}, split into
+     * {@code chunks} consecutive runs of blocks that are rendered on virtual threads. Each chunk
+     * records its class registrations, and the chunks are stitched back in order through
+     * {@link StyleRegistry#replay}, so the result is identical to a sequential rendering.
+     */
+    void renderBlocksInParallel(List<WordDocument.Block> blocks, int chunks, StringBuilder out) {
+        int size = blocks.size();
+        List<Future<Chunk>> rendered = new ArrayList<>(chunks);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < chunks; i++) {
+                List<WordDocument.Block> slice = blocks.subList((int) ((long) size * i / chunks), (int) ((long) size * (i + 1) / chunks));
+                rendered.add(executor.submit(() -> renderChunk(slice)));
+            }
+            for (Future<Chunk> future : rendered) {
+                Chunk chunk = await(future);
+                context.styleRegistry().replay(chunk.registry(), chunk.html(), out);
+            }
         }
-        if (block instanceof WordDocument.SectionBreak) {
-            return "<span class=\"docx-section-break\"></span>";
+    }
+
+    private Chunk renderChunk(List<WordDocument.Block> blocks) {
+        StyleRegistry registry = StyleRegistry.recording();
+        RenderContext chunkContext = new RenderContext(context.styleResolver(), context.hyperlinkResolver(),
+                registry, context.themeColors());
+        StringBuilder html = new StringBuilder();
+        new BlockRenderer(chunkContext).renderBlocks(blocks, html);
+        return new Chunk(registry, html);
+    }
+
+    private static Chunk await(Future<Chunk> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rendering blocks", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Unable to render blocks", cause);
         }
-        if (block instanceof WordDocument.Bookmark bookmark) {
-            return renderBookmark(bookmark);
+    }
+
+    void renderBlock(WordDocument.Block block, List<WordDocument.RunProperties> extraRunFallbacks, StringBuilder out) {
+        if (block instanceof WordDocument.Paragraph paragraph) {
+            paragraphRenderer.renderParagraph(paragraph, extraRunFallbacks, out);
+        } else if (block instanceof WordDocument.Table table) {
+            tableRenderer.renderTable(table, extraRunFallbacks, out);
+        } else if (block instanceof WordDocument.StructuredDocumentTag sdt) {
+            structuredDocumentTagRenderer.renderStructuredDocumentTag(sdt, extraRunFallbacks, out);
+        } else if (block instanceof WordDocument.SectionBreak) {
+            out.append("<span class=\"docx-section-break\"></span>");
+        } else if (block instanceof WordDocument.Bookmark bookmark) {
+            renderBookmark(bookmark, out);
         }
-        return "";
     }
 
-    private String renderBookmark(WordDocument.Bookmark bookmark) {
+    private void renderBookmark(WordDocument.Bookmark bookmark, StringBuilder out) {
         if (bookmark.kind() != WordDocument.Bookmark.Kind.START) {
-            return "";
+            return;
         }
         String name = bookmark.name().orElse(bookmark.id().orElse(null));
         if (name == null || name.isBlank()) {
-            return "";
+            return;
         }
-        return "<a id=\"" + DocxHtmlUtils.escapeHtmlAttribute(name) + "\"></a>";
+        DocxHtmlUtils.appendEscapedHtmlAttribute(out.append("<a id=\""), name).append("\"></a>");
     }
 
     RenderContext context() {
         return context;
     }
+
+    private record Chunk(StyleRegistry registry, StringBuilder html) {
+    }
 }
@@ -0,0 +1,38 @@
+package com.example.docx.html;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one {@link DocxToHtml} conversion. {@code packageId} matches the
+ * {@code com.example.docx.Read} event of the package converted.
+ */
+@Name("com.example.docx.Convert")
+@Label("DOCX Convert")
+@Category("DOCX")
+@Description("Rendering a DOCX package as HTML")
+@StackTrace(false)
+final class ConvertEvent extends jdk.jfr.Event {
+
+    @Label("Package Id")
+    @Description("Identity hash code of the DocxPackage converted")
+    int packageId;
+
+    @Label("Blocks")
+    @Description("Top-level blocks of the document body")
+    int blocks;
+
+    @Label("Chunks")
+    @Description("Parts of the body rendered in parallel; 1 when rendered on the calling thread")
+    int chunks;
+
+    @Label("Streamed")
+    boolean streamed;
+
+    @Label("HTML Length")
+    @Description("Characters of HTML produced, or -1 when streamed")
+    long htmlChars;
+}
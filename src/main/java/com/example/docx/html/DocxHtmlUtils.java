@@ -1,9 +1,7 @@
 package com.example.docx.html;
 
 import com.example.docx.model.document.WordDocument;
-import com.example.docx.parser.Namespaces;
-import com.example.docx.parser.XmlUtils;
-import org.w3c.dom.Element;
+import com.example.docx.parser.FormattingParser;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -201,35 +199,55 @@ final class DocxHtmlUtils {
         if (value == null) {
             return "";
         }
-        StringBuilder builder = new StringBuilder(value.length());
-        for (char c : value.toCharArray()) {
+        return appendEscapedHtml(new StringBuilder(value.length()), value).toString();
+    }
+
+    static String escapeHtmlAttribute(String value) {
+        if (value == null) {
+            return "";
+        }
+        return appendEscapedHtmlAttribute(new StringBuilder(value.length()), value).toString();
+    }
+
+    static StringBuilder appendEscapedHtml(StringBuilder builder, String value) {
+        if (value == null) {
+            return builder;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
             switch (c) {
                 case '<' -> builder.append("&lt;");
                 case '>' -> builder.append("&gt;");
                 case '&' -> builder.append("&amp;");
                 case '"' -> builder.append("&quot;");
                 case '\'' -> builder.append("&#39;");
+                case '\u0000' -> {
+                    // not allowed in HTML, and reserved for class placeholders in parallel rendering
+                }
                 default -> builder.append(c);
             }
         }
-        return builder.toString();
+        return builder;
     }
 
-    static String escapeHtmlAttribute(String value) {
+    static StringBuilder appendEscapedHtmlAttribute(StringBuilder builder, String value) {
         if (value == null) {
-            return "";
+            return builder;
         }
-        StringBuilder builder = new StringBuilder(value.length());
-        for (char c : value.toCharArray()) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
             switch (c) {
                 case '<' -> builder.append("&lt;");
                 case '>' -> builder.append("&gt;");
                 case '&' -> builder.append("&amp;");
                 case '"' -> builder.append("&quot;");
+                case '\u0000' -> {
+                    // see appendEscapedHtml
+                }
                 default -> builder.append(c);
             }
         }
-        return builder.toString();
+        return builder;
     }
 
     static String paragraphShadingColor(WordDocument.ParagraphProperties properties,
@@ -237,9 +255,8 @@ final class DocxHtmlUtils {
         if (properties == null) {
             return null;
         }
-        return properties.rawProperties()
-                .map(element -> shadingColorFromElement(element, themeColors))
-                .orElse(null);
+        return shadingColor(properties.shading()
+                .orElseGet(() -> FormattingParser.parseShading(properties.rawProperties().orElse(null))), themeColors);
     }
 
     static String tableShadingColor(WordDocument.TableProperties properties,
@@ -247,9 +264,8 @@ final class DocxHtmlUtils {
         if (properties == null) {
             return null;
         }
-        return properties.rawProperties()
-                .map(element -> shadingColorFromElement(element, themeColors))
-                .orElse(null);
+        return shadingColor(properties.shading()
+                .orElseGet(() -> FormattingParser.parseShading(properties.rawProperties().orElse(null))), themeColors);
     }
 
     static String tableRowShadingColor(WordDocument.TableRowProperties properties,
@@ -257,9 +273,8 @@ final class DocxHtmlUtils {
         if (properties == null) {
             return null;
         }
-        return properties.rawProperties()
-                .map(element -> shadingColorFromElement(element, themeColors))
-                .orElse(null);
+        return shadingColor(properties.shading()
+                .orElseGet(() -> FormattingParser.parseShading(properties.rawProperties().orElse(null))), themeColors);
     }
 
     static String tableCellShadingColor(WordDocument.TableCellProperties properties,
@@ -267,9 +282,8 @@ final class DocxHtmlUtils {
         if (properties == null) {
             return null;
         }
-        return properties.rawProperties()
-                .map(element -> shadingColorFromElement(element, themeColors))
-                .orElse(null);
+        return shadingColor(properties.shading()
+                .orElseGet(() -> FormattingParser.parseShading(properties.rawProperties().orElse(null))), themeColors);
     }
 
     static TableBorders tableBorders(WordDocument.TableProperties properties,
@@ -277,9 +291,9 @@ final class DocxHtmlUtils {
         if (properties == null) {
             return TableBorders.empty();
         }
-        return properties.rawProperties()
-                .map(element -> tableBordersFromRaw(element, themeColors))
-                .orElse(TableBorders.empty());
+        return tableBorders(properties.borders()
+                .orElseGet(() -> FormattingParser.parseBorders(properties.rawProperties().orElse(null), "tblBorders")),
+                themeColors);
     }
 
     static BorderDefinition tableCellBorders(WordDocument.TableCellProperties properties,
@@ -287,9 +301,9 @@ final class DocxHtmlUtils {
         if (properties == null) {
             return BorderDefinition.empty();
         }
-        return properties.rawProperties()
-                .map(element -> bordersFromChild(element, "tcBorders", themeColors))
-                .orElse(BorderDefinition.empty());
+        return borderDefinition(properties.borders()
+                .orElseGet(() -> FormattingParser.parseBorders(properties.rawProperties().orElse(null), "tcBorders")),
+                themeColors);
     }
 
     static BorderDefinition paragraphBorders(WordDocument.ParagraphProperties properties,
@@ -297,9 +311,9 @@ final class DocxHtmlUtils {
         if (properties == null) {
             return BorderDefinition.empty();
         }
-        return properties.rawProperties()
-                .map(element -> bordersFromChild(element, "pBdr", themeColors))
-                .orElse(BorderDefinition.empty());
+        return borderDefinition(properties.borders()
+                .orElseGet(() -> FormattingParser.parseBorders(properties.rawProperties().orElse(null), "pBdr")),
+                themeColors);
     }
 
     static BorderDefinition runBorders(WordDocument.RunProperties properties,
@@ -307,99 +321,74 @@ final class DocxHtmlUtils {
         if (properties == null) {
             return BorderDefinition.empty();
         }
-        return properties.rawProperties()
-                .map(element -> {
-                    Element border = XmlUtils.firstChild(element, Namespaces.WORD_MAIN, "bdr").orElse(null);
-                    if (border == null) {
-                        return BorderDefinition.empty();
-                    }
-                    BorderDefinition.BorderEdge edge = parseBorderEdge(border, themeColors);
-                    if (edge == null) {
-                        return BorderDefinition.empty();
-                    }
-                    return BorderDefinition.of(edge, edge, edge, edge);
-                })
-                .orElse(BorderDefinition.empty());
-    }
-
-    static String shadingColorFromElement(Element parent, Map<String, String> themeColors) {
-        if (parent == null) {
-            return null;
+        WordDocument.Border border = properties.border()
+                .orElseGet(() -> FormattingParser.parseRunBorder(properties.rawProperties().orElse(null)));
+        BorderDefinition.BorderEdge edge = borderEdge(border, themeColors);
+        if (edge == null) {
+            return BorderDefinition.empty();
         }
-        Element shading = XmlUtils.firstChild(parent, Namespaces.WORD_MAIN, "shd").orElse(null);
+        return BorderDefinition.of(edge, edge, edge, edge);
+    }
+
+    static String shadingColor(WordDocument.Shading shading, Map<String, String> themeColors) {
         if (shading == null) {
             return null;
         }
-        String fill = firstNonBlank(XmlUtils.attribute(shading, "w:fill"), XmlUtils.attribute(shading, "fill"));
-        String direct = normalizeDirectShadingFill(fill);
+        String direct = normalizeDirectShadingFill(shading.fill().orElse(null));
         if (direct != null) {
             return direct;
         }
-        String themeFill = firstNonBlank(XmlUtils.attribute(shading, "w:themeFill"), XmlUtils.attribute(shading, "themeFill"));
+        String themeFill = shading.themeFill().orElse(null);
         if (themeFill != null) {
             String base = resolveThemeColor(themeFill, themeColors);
             if (base != null) {
-                String tint = firstNonBlank(XmlUtils.attribute(shading, "w:themeFillTint"), XmlUtils.attribute(shading, "themeFillTint"));
-                String shade = firstNonBlank(XmlUtils.attribute(shading, "w:themeFillShade"), XmlUtils.attribute(shading, "themeFillShade"));
-                return applyThemeTintShade(base, tint, shade);
+                return applyThemeTintShade(base, shading.themeFillTint().orElse(null), shading.themeFillShade().orElse(null));
             }
         }
-        String themeColor = firstNonBlank(XmlUtils.attribute(shading, "w:themeColor"), XmlUtils.attribute(shading, "themeColor"));
+        String themeColor = shading.themeColor().orElse(null);
         if (themeColor != null) {
             String base = resolveThemeColor(themeColor, themeColors);
             if (base != null) {
-                String tint = firstNonBlank(XmlUtils.attribute(shading, "w:themeTint"), XmlUtils.attribute(shading, "themeTint"));
-                String shade = firstNonBlank(XmlUtils.attribute(shading, "w:themeShade"), XmlUtils.attribute(shading, "themeShade"));
-                return applyThemeTintShade(base, tint, shade);
+                return applyThemeTintShade(base, shading.themeTint().orElse(null), shading.themeShade().orElse(null));
             }
         }
         return null;
     }
 
-    static TableBorders tableBordersFromRaw(Element properties, Map<String, String> themeColors) {
-        if (properties == null) {
-            return TableBorders.empty();
-        }
-        Element borders = XmlUtils.firstChild(properties, Namespaces.WORD_MAIN, "tblBorders").orElse(null);
+    static TableBorders tableBorders(WordDocument.Borders borders, Map<String, String> themeColors) {
         if (borders == null) {
             return TableBorders.empty();
         }
-        BorderDefinition perimeter = BorderDefinition.of(
-                parseBorderEdge(XmlUtils.firstChild(borders, Namespaces.WORD_MAIN, "top").orElse(null), themeColors),
-                parseBorderEdge(XmlUtils.firstChild(borders, Namespaces.WORD_MAIN, "right").orElse(null), themeColors),
-                parseBorderEdge(XmlUtils.firstChild(borders, Namespaces.WORD_MAIN, "bottom").orElse(null), themeColors),
-                parseBorderEdge(XmlUtils.firstChild(borders, Namespaces.WORD_MAIN, "left").orElse(null), themeColors)
-        );
+        BorderDefinition perimeter = borderDefinition(borders, themeColors);
         BorderDefinition insideH = BorderDefinition.empty();
         BorderDefinition insideV = BorderDefinition.empty();
-        BorderDefinition.BorderEdge horiz = parseBorderEdge(XmlUtils.firstChild(borders, Namespaces.WORD_MAIN, "insideH").orElse(null), themeColors);
+        BorderDefinition.BorderEdge horiz = borderEdge(borders.insideHorizontal().orElse(null), themeColors);
         if (horiz != null) {
             insideH = BorderDefinition.of(horiz, null, horiz, null);
         }
-        BorderDefinition.BorderEdge vert = parseBorderEdge(XmlUtils.firstChild(borders, Namespaces.WORD_MAIN, "insideV").orElse(null), themeColors);
+        BorderDefinition.BorderEdge vert = borderEdge(borders.insideVertical().orElse(null), themeColors);
         if (vert != null) {
             insideV = BorderDefinition.of(null, vert, null, vert);
         }
         return new TableBorders(perimeter, insideH, insideV);
     }
 
-    private static BorderDefinition bordersFromChild(Element parent, String localName, Map<String, String> themeColors) {
-        Element borders = XmlUtils.firstChild(parent, Namespaces.WORD_MAIN, localName).orElse(null);
+    static BorderDefinition borderDefinition(WordDocument.Borders borders, Map<String, String> themeColors) {
         if (borders == null) {
             return BorderDefinition.empty();
         }
-        BorderDefinition.BorderEdge top = parseBorderEdge(XmlUtils.firstChild(borders, Namespaces.WORD_MAIN, "top").orElse(null), themeColors);
-        BorderDefinition.BorderEdge right = parseBorderEdge(XmlUtils.firstChild(borders, Namespaces.WORD_MAIN, "right").orElse(null), themeColors);
-        BorderDefinition.BorderEdge bottom = parseBorderEdge(XmlUtils.firstChild(borders, Namespaces.WORD_MAIN, "bottom").orElse(null), themeColors);
-        BorderDefinition.BorderEdge left = parseBorderEdge(XmlUtils.firstChild(borders, Namespaces.WORD_MAIN, "left").orElse(null), themeColors);
-        return BorderDefinition.of(top, right, bottom, left);
+        return BorderDefinition.of(
+                borderEdge(borders.top().orElse(null), themeColors),
+                borderEdge(borders.right().orElse(null), themeColors),
+                borderEdge(borders.bottom().orElse(null), themeColors),
+                borderEdge(borders.left().orElse(null), themeColors));
     }
 
-    private static BorderDefinition.BorderEdge parseBorderEdge(Element element, Map<String, String> themeColors) {
-        if (element == null) {
+    private static BorderDefinition.BorderEdge borderEdge(WordDocument.Border border, Map<String, String> themeColors) {
+        if (border == null) {
             return null;
         }
-        String value = firstNonBlank(XmlUtils.attribute(element, "w:val"), XmlUtils.attribute(element, "val"));
+        String value = border.style().orElse(null);
         if (value == null || value.isBlank()) {
             return null;
         }
@@ -407,8 +396,8 @@ final class DocxHtmlUtils {
         if (style == null || "none".equals(style)) {
             return null;
         }
-        CssLength width = borderWidth(XmlUtils.intAttribute(element, "w:sz"));
-        String color = resolveBorderColor(element, themeColors);
+        CssLength width = borderWidth(border.size().orElse(null));
+        String color = resolveBorderColor(border, themeColors);
         return new BorderDefinition.BorderEdge(width, style, color);
     }
 
@@ -419,19 +408,16 @@ final class DocxHtmlUtils {
         return CssLength.points(size / 8.0d);
     }
 
-    private static String resolveBorderColor(Element element, Map<String, String> themeColors) {
-        String direct = firstNonBlank(XmlUtils.attribute(element, "w:color"), XmlUtils.attribute(element, "color"));
-        String color = normalizeColor(direct).orElse(null);
+    private static String resolveBorderColor(WordDocument.Border border, Map<String, String> themeColors) {
+        String color = normalizeColor(border.color().orElse(null)).orElse(null);
         if (color != null) {
             return color;
         }
-        String themeColor = firstNonBlank(XmlUtils.attribute(element, "w:themeColor"), XmlUtils.attribute(element, "themeColor"));
+        String themeColor = border.themeColor().orElse(null);
         if (themeColor != null) {
             String base = resolveThemeColor(themeColor, themeColors);
             if (base != null) {
-                String tint = firstNonBlank(XmlUtils.attribute(element, "w:themeTint"), XmlUtils.attribute(element, "themeTint"));
-                String shade = firstNonBlank(XmlUtils.attribute(element, "w:themeShade"), XmlUtils.attribute(element, "themeShade"));
-                return applyThemeTintShade(base, tint, shade);
+                return applyThemeTintShade(base, border.themeTint().orElse(null), border.themeShade().orElse(null));
             }
         }
         return null;
@@ -494,16 +480,6 @@ final class DocxHtmlUtils {
         return themeColors.get(key.trim().toLowerCase(Locale.ROOT));
     }
 
-    private static String firstNonBlank(String first, String second) {
-        if (first != null && !first.isBlank()) {
-            return first;
-        }
-        if (second != null && !second.isBlank()) {
-            return second;
-        }
-        return null;
-    }
-
     private static String applyThemeTintShade(String baseColor, String tintHex, String shadeHex) {
         if (baseColor == null || baseColor.length() != 7 || !baseColor.startsWith("#")) {
             return baseColor;
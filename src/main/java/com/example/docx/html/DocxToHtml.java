@@ -1,5 +1,6 @@
 package com.example.docx.html;
 
+import com.example.docx.DocxListener;
 import com.example.docx.model.DocxPackage;
 import com.example.docx.model.document.WordDocument;
 import com.example.docx.model.relationship.RelationshipSet;
@@ -10,12 +11,27 @@ import com.example.docx.parser.XmlUtils;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Converts a {@link DocxPackage} to a standalone HTML document. Instances are thread-safe.
+ *
+ * <p>A converter remembers the styles it resolved for the styles and theme parts of recent packages,
+ * keyed on the identity of those parts. Packages only share them when they were read through a
+ * {@link com.example.docx.PartCache}, or when the same package is converted again; packages read
+ * by a plain {@link com.example.docx.DocxReader} always resolve their styles anew.
+ */
 public final class DocxToHtml {
 
     static final String DOCUMENT_PART = "word/document.xml";
@@ -27,49 +43,210 @@ public final class DocxToHtml {
             new WordDocument.ParagraphProperties(null, null, null, null, null,
                     null, false, false, false, List.of(), null);
 
+    private static final String EMPTY_DOCUMENT = "<p class=\"docx-paragraph docx-empty\">Document vide</p>";
+    private static final String HTML_TAIL = "\n</body>\n</html>";
+    private static final int MAX_TEMPLATES = 64;
+    private static final int MAX_CANDIDATES = 1024;
+    private static final int MIN_CHUNK_BLOCKS = 256;
+    private static final int CHUNKS_PER_CORE = 4;
+
     private final String language;
+    private final boolean parallel;
+    private final int processors;
+    private final DocxListener listener;
+    // resolved styles per styles and theme part pair, most recently used last
+    private final Map<TemplateKey, Template> templates = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TemplateKey, Template> eldest) {
+            return size() > MAX_TEMPLATES;
+        }
+    };
+    // pairs seen once, weakly referenced so that one-off packages are not retained
+    private final Map<Candidate, Boolean> candidates = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Candidate, Boolean> eldest) {
+            return size() > MAX_CANDIDATES;
+        }
+    };
 
     public DocxToHtml() {
         this("fr");
     }
 
     public DocxToHtml(String language) {
-        this.language = language == null || language.isBlank() ? "fr" : language;
+        this(builder().language(language));
+    }
+
+    private DocxToHtml(Builder builder) {
+        this.language = builder.language == null || builder.language.isBlank() ? "fr" : builder.language;
+        this.parallel = builder.parallel;
+        this.processors = builder.processors > 0 ? builder.processors : Runtime.getRuntime().availableProcessors();
+        this.listener = builder.listener;
+    }
+
+    public static Builder builder() {
+        return new Builder();
     }
 
     public String convert(DocxPackage docxPackage) {
+        long start = listener == null ? 0 : System.nanoTime();
+        ConvertEvent event = new ConvertEvent();
+        event.begin();
+        Conversion conversion = prepare(docxPackage);
+        StringBuilder body = new StringBuilder();
+        int chunks = 1;
+        if (conversion.isEmpty()) {
+            body.append(EMPTY_DOCUMENT);
+        } else {
+            List<WordDocument.Block> blocks = conversion.document().bodyElements();
+            chunks = parallel ? chunkCount(blocks.size()) : 1;
+            if (chunks > 1) {
+                conversion.blockRenderer().renderBlocksInParallel(blocks, chunks, body);
+            } else {
+                conversion.blockRenderer().renderBlocks(blocks, body);
+            }
+        }
+        String head = head(conversion);
+        String html = new StringBuilder(head.length() + body.length() + HTML_TAIL.length())
+                .append(head)
+                .append(body)
+                .append(HTML_TAIL)
+                .toString();
+        rendered(start);
+        if (event.shouldCommit()) {
+            converted(event, docxPackage, conversion, chunks, html.length());
+        }
+        return html;
+    }
+
+    /**
+     * Writes the same HTML as {@link #convert(DocxPackage)} to {@code output} one top-level block at a
+     * time, so the whole document is never held in memory. The style sheet has to precede the body, so
+     * the blocks are rendered twice: a first pass registers every CSS class and is discarded, then the
+     * head is written and the second pass streams the body. Both passes reuse a single buffer.
+     */
+    public void convert(DocxPackage docxPackage, Appendable output) throws IOException {
+        Objects.requireNonNull(output, "output");
+        long start = listener == null ? 0 : System.nanoTime();
+        ConvertEvent event = new ConvertEvent();
+        event.begin();
+        Conversion conversion = prepare(docxPackage);
+        StringBuilder scratch = new StringBuilder();
+        if (!conversion.isEmpty()) {
+            for (WordDocument.Block block : conversion.document().bodyElements()) {
+                scratch.setLength(0);
+                conversion.blockRenderer().renderBlock(block, List.of(), scratch);
+            }
+        }
+        output.append(head(conversion));
+        if (conversion.isEmpty()) {
+            output.append(EMPTY_DOCUMENT);
+        } else {
+            conversion.blockRenderer().renderBlocks(conversion.document().bodyElements(), scratch, output);
+        }
+        output.append(HTML_TAIL);
+        rendered(start);
+        if (event.shouldCommit()) {
+            event.streamed = true;
+            converted(event, docxPackage, conversion, 1, -1);
+        }
+    }
+
+    private void rendered(long start) {
+        if (listener != null) {
+            listener.stageCompleted(DocxListener.Stage.RENDER, System.nanoTime() - start);
+        }
+    }
+
+    private static void converted(ConvertEvent event, DocxPackage docxPackage, Conversion conversion, int chunks, long htmlChars) {
+        event.packageId = System.identityHashCode(docxPackage);
+        event.blocks = conversion.isEmpty() ? 0 : conversion.document().bodyElements().size();
+        event.chunks = chunks;
+        event.htmlChars = htmlChars;
+        event.commit();
+    }
+
+    /**
+     * Writes the HTML to {@code output} encoded as UTF-8. The stream is flushed but not closed.
+     */
+    public void convert(DocxPackage docxPackage, OutputStream output) throws IOException {
+        Objects.requireNonNull(output, "output");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        convert(docxPackage, writer);
+        writer.flush();
+    }
+
+    /**
+     * Splits the body into a few chunks per core, each at least {@value #MIN_CHUNK_BLOCKS} blocks long,
+     * so short documents and single-core machines still render on the calling thread.
+     */
+    private int chunkCount(int blocks) {
+        if (processors < 2) {
+            return 1;
+        }
+        return Math.max(1, Math.min(processors * CHUNKS_PER_CORE, blocks / MIN_CHUNK_BLOCKS));
+    }
+
+    private Conversion prepare(DocxPackage docxPackage) {
         Objects.requireNonNull(docxPackage, "docxPackage");
         WordDocument document = docxPackage.document().orElse(null);
-        StyleDefinitions styles = docxPackage.styles().orElse(StyleDefinitions.empty());
-        Map<String, String> themeColors = extractThemeColors(docxPackage);
-        StyleResolver styleResolver = new StyleResolver(styles, themeColors);
+        Template template = template(docxPackage);
         RelationshipSet relationships = docxPackage.relationshipsByPart().get(DOCUMENT_PART);
         HyperlinkResolver hyperlinkResolver = new HyperlinkResolver(relationships);
-        StyleResolver.ResolvedParagraph baseParagraph = styleResolver.resolveParagraph(null, List.of());
-        StyleResolver.ResolvedRun baseRun = styleResolver.resolveRun(EMPTY_RUN_PROPERTIES, baseParagraph);
-        StyleRegistry registry = new StyleRegistry(ParagraphCss.from(baseParagraph, baseRun), RunCss.from(baseRun));
-
-        RenderContext renderContext = new RenderContext(styleResolver, hyperlinkResolver, registry, themeColors);
-        BlockRenderer blockRenderer = new BlockRenderer(renderContext);
+        StyleRegistry registry = new StyleRegistry(template.baseParagraph(), template.baseRun());
 
-        String bodyContent;
-        if (document == null || document.bodyElements().isEmpty()) {
-            bodyContent = "<p class=\"docx-paragraph docx-empty\">Document vide</p>";
-        } else {
-            bodyContent = blockRenderer.renderBlocks(document.bodyElements());
-        }
-
-        return buildHtml(document, registry, bodyContent);
+        RenderContext renderContext = new RenderContext(template.styleResolver().forDocument(), hyperlinkResolver,
+                registry, template.themeColors());
+        return new Conversion(document, registry, new BlockRenderer(renderContext));
     }
 
-    private static Map<String, String> extractThemeColors(DocxPackage docxPackage) {
-        if (docxPackage == null) {
-            return Map.of();
+    /**
+     * Returns the resolved styles for a styles and theme part pair, compared by identity. Packages
+     * read through a {@link com.example.docx.PartCache} share these parts when they come from the
+     * same template, so their conversions resolve the styles and base CSS only once; without a
+     * cache every package has its own parts and never hits. A pair is only kept once it has
+     * been seen twice, so converting unrelated packages does not pin their styles in memory. Two
+     * conversions missing at once may both resolve them; either result is equivalent.
+     */
+    private Template template(DocxPackage docxPackage) {
+        StyleDefinitions styles = docxPackage.styles().orElse(null);
+        Theme theme = docxPackage.theme().orElse(null);
+        TemplateKey key = new TemplateKey(styles, theme);
+        Template template;
+        boolean admit;
+        synchronized (templates) {
+            template = templates.get(key);
+            if (template != null) {
+                return template;
+            }
+            Candidate candidate = new Candidate(key);
+            admit = candidates.remove(candidate) != null;
+            if (!admit) {
+                candidates.put(candidate, Boolean.TRUE);
+            }
         }
-        return docxPackage.theme()
-                .flatMap(Theme::document)
-                .map(DocxToHtml::readThemeColorScheme)
-                .orElse(Map.of());
+        StyleResolutionEvent event = new StyleResolutionEvent();
+        event.begin();
+        Map<String, String> themeColors = theme == null
+                ? Map.of()
+                : theme.document().map(DocxToHtml::readThemeColorScheme).orElse(Map.of());
+        StyleResolver styleResolver = new StyleResolver(styles != null ? styles : StyleDefinitions.empty(), themeColors);
+        StyleResolver.ResolvedParagraph baseParagraph = styleResolver.resolveParagraph(null, List.of());
+        StyleResolver.ResolvedRun baseRun = styleResolver.resolveRun(EMPTY_RUN_PROPERTIES, baseParagraph);
+        template = new Template(styleResolver, themeColors, ParagraphCss.from(baseParagraph, baseRun), RunCss.from(baseRun));
+        if (admit) {
+            synchronized (templates) {
+                templates.put(key, template);
+            }
+        }
+        if (event.shouldCommit()) {
+            event.packageId = System.identityHashCode(docxPackage);
+            event.styles = styles != null ? styles.styles().size() : 0;
+            event.themeColors = themeColors.size();
+            event.cached = admit;
+            event.commit();
+        }
+        return template;
     }
 
     private static Map<String, String> readThemeColorScheme(Document document) {
@@ -121,15 +298,114 @@ public final class DocxToHtml {
         return null;
     }
 
-    private String buildHtml(WordDocument document, StyleRegistry registry, String bodyContent) {
+    private String head(Conversion conversion) {
         StringBuilder builder = new StringBuilder();
         builder.append("<!DOCTYPE html>\n");
         builder.append("<html lang=\"").append(DocxHtmlUtils.escapeHtmlAttribute(language)).append("\">\n");
         builder.append("<head>\n<meta charset=\"utf-8\">\n<style>\n");
-        builder.append(registry.buildCss(document));
+        builder.append(conversion.registry().buildCss(conversion.document()));
         builder.append("</style>\n</head>\n<body class=\"docx-body\">\n");
-        builder.append(bodyContent);
-        builder.append("\n</body>\n</html>");
         return builder.toString();
     }
+
+    private record Template(StyleResolver styleResolver, Map<String, String> themeColors,
+                            ParagraphCss baseParagraph, RunCss baseRun) {
+    }
+
+    private record TemplateKey(StyleDefinitions styles, Theme theme) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TemplateKey that && styles == that.styles && theme == that.theme;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(styles) + System.identityHashCode(theme);
+        }
+    }
+
+    /**
+     * A pair seen once, compared by the identity of its parts while they are alive. A collected part
+     * never matches again, and its entry is evicted with the oldest candidates.
+     */
+    private record Candidate(WeakReference<StyleDefinitions> styles, WeakReference<Theme> theme, int hash) {
+        Candidate(TemplateKey key) {
+            this(key.styles() == null ? null : new WeakReference<>(key.styles()),
+                    key.theme() == null ? null : new WeakReference<>(key.theme()),
+                    key.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Candidate that && hash == that.hash
+                    && sameReferent(styles, that.styles) && sameReferent(theme, that.theme);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static boolean sameReferent(WeakReference<?> a, WeakReference<?> b) {
+            if (a == null || b == null) {
+                return a == b;
+            }
+            Object referent = a.get();
+            return referent != null && referent == b.get();
+        }
+    }
+
+    private record Conversion(WordDocument document, StyleRegistry registry, BlockRenderer blockRenderer) {
+        boolean isEmpty() {
+            return document == null || document.bodyElements().isEmpty();
+        }
+    }
+
+    public static final class Builder {
+        private String language;
+        private boolean parallel;
+        private int processors;
+        private DocxListener listener;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the {@code lang} attribute of the generated document; blank values fall back to {@code fr}.
+         */
+        public Builder language(String language) {
+            this.language = language;
+            return this;
+        }
+
+        /**
+         * When enabled, {@link DocxToHtml#convert(DocxPackage)} renders long bodies as several chunks of
+         * top-level blocks on virtual threads and joins them in order. The HTML, including every CSS
+         * class name, is identical to a sequential conversion. The streaming {@code convert} overloads
+         * stay sequential so their memory use remains bounded by a single block.
+         */
+        public Builder parallel(boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        /**
+         * Reports the duration of every conversion to {@code listener} as {@link DocxListener.Stage#RENDER}.
+         * {@code null} (the default) measures nothing.
+         */
+        public Builder listener(DocxListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        // overrides the detected core count, so tests can exercise chunking on any machine
+        Builder processors(int processors) {
+            this.processors = processors;
+            return this;
+        }
+
+        public DocxToHtml build() {
+            return new DocxToHtml(this);
+        }
+    }
 }
@@ -2,11 +2,14 @@ package com.example.docx.html;
 
 import com.example.docx.model.document.WordDocument;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
 
+/**
+ * Renders paragraphs and their inline content by appending to the caller's buffer. Elements whose
+ * wrapper depends on whether they produce any content are written speculatively and truncated again
+ * when they turn out to be empty.
+ */
 final class ParagraphRenderer {
     private final RenderContext context;
 
@@ -14,184 +17,170 @@ final class ParagraphRenderer {
         this.context = context;
     }
 
-    String renderParagraph(WordDocument.Paragraph paragraph, List<WordDocument.RunProperties> extraRunFallbacks) {
+    void renderParagraph(WordDocument.Paragraph paragraph, List<WordDocument.RunProperties> extraRunFallbacks, StringBuilder out) {
         StyleResolver.ResolvedParagraph resolved = context.styleResolver().resolveParagraph(paragraph.properties(), extraRunFallbacks);
         StyleResolver.ResolvedRun defaultRun = context.styleResolver().resolveRun(DocxToHtml.EMPTY_RUN_PROPERTIES, resolved);
         ParagraphCss css = ParagraphCss.from(resolved, defaultRun);
         String paragraphClass = context.styleRegistry().registerParagraph(css);
-        StringBuilder inner = new StringBuilder();
+        out.append("<p class=\"docx-paragraph ").append(paragraphClass).append("\">");
+        int contentStart = out.length();
         for (WordDocument.ParagraphContent content : paragraph.content()) {
-            inner.append(renderParagraphContent(content, resolved));
+            renderParagraphContent(content, resolved, out);
         }
-        if (inner.length() == 0) {
-            inner.append("&nbsp;");
+        if (out.length() == contentStart) {
+            out.append("&nbsp;");
         }
-        return "<p class=\"docx-paragraph " + paragraphClass + "\">" + inner + "</p>";
+        out.append("</p>");
     }
 
-    private String renderParagraphContent(WordDocument.ParagraphContent content,
-                                          StyleResolver.ResolvedParagraph paragraph) {
+    private void renderParagraphContent(WordDocument.ParagraphContent content,
+                                        StyleResolver.ResolvedParagraph paragraph,
+                                        StringBuilder out) {
         if (content instanceof WordDocument.Run run) {
-            return renderRun(run, paragraph);
+            renderRun(run, paragraph, out);
+        } else if (content instanceof WordDocument.Hyperlink hyperlink) {
+            renderHyperlink(hyperlink, paragraph, out);
+        } else if (content instanceof WordDocument.BookmarkStart bookmarkStart) {
+            renderBookmarkStart(bookmarkStart, out);
+        } else if (content instanceof WordDocument.Field field) {
+            renderField(field, paragraph, out);
+        } else if (content instanceof WordDocument.StructuredDocumentTagRun sdt) {
+            renderStructuredDocumentTagRun(sdt, paragraph, out);
         }
-        if (content instanceof WordDocument.Hyperlink hyperlink) {
-            return renderHyperlink(hyperlink, paragraph);
-        }
-        if (content instanceof WordDocument.BookmarkStart bookmarkStart) {
-            return renderBookmarkStart(bookmarkStart);
-        }
-        if (content instanceof WordDocument.Field field) {
-            return renderField(field, paragraph);
-        }
-        if (content instanceof WordDocument.StructuredDocumentTagRun sdt) {
-            return renderStructuredDocumentTagRun(sdt, paragraph);
-        }
-        return "";
     }
 
-    private String renderHyperlink(WordDocument.Hyperlink hyperlink, StyleResolver.ResolvedParagraph paragraph) {
-        StringBuilder content = new StringBuilder();
+    private void renderHyperlink(WordDocument.Hyperlink hyperlink, StyleResolver.ResolvedParagraph paragraph, StringBuilder out) {
+        int start = out.length();
+        out.append("<a class=\"docx-link\" href=\"");
+        String href = context.hyperlinkResolver()
+                .resolve(hyperlink.relationshipId().orElse(null), hyperlink.anchor().orElse(null))
+                .orElse(null);
+        if (href != null) {
+            DocxHtmlUtils.appendEscapedHtmlAttribute(out, href);
+        } else {
+            out.append('#');
+        }
+        out.append("\">");
+        int contentStart = out.length();
         for (WordDocument.Run run : hyperlink.runs()) {
-            content.append(renderRun(run, paragraph));
+            renderRun(run, paragraph, out);
         }
-        if (content.length() == 0) {
-            return "";
+        if (out.length() == contentStart) {
+            out.setLength(start);
+            return;
         }
-        String href = context.hyperlinkResolver()
-                .resolve(hyperlink.relationshipId().orElse(null), hyperlink.anchor().orElse(null))
-                .map(DocxHtmlUtils::escapeHtmlAttribute)
-                .orElse("#");
-        return "<a class=\"docx-link\" href=\"" + href + "\">" + content + "</a>";
+        out.append("</a>");
     }
 
-    private String renderField(WordDocument.Field field, StyleResolver.ResolvedParagraph paragraph) {
-        StringBuilder result = new StringBuilder();
+    private void renderField(WordDocument.Field field, StyleResolver.ResolvedParagraph paragraph, StringBuilder out) {
+        int start = out.length();
+        out.append("<span class=\"docx-field\">");
+        int contentStart = out.length();
         for (WordDocument.Run run : field.resultRuns()) {
-            result.append(renderRun(run, paragraph));
+            renderRun(run, paragraph, out);
         }
-        if (result.length() == 0) {
+        if (out.length() == contentStart) {
             for (WordDocument.Run run : field.instructionRuns()) {
-                result.append(renderRun(run, paragraph));
+                renderRun(run, paragraph, out);
             }
         }
-        if (result.length() == 0) {
-            return "";
+        if (out.length() == contentStart) {
+            out.setLength(start);
+            return;
         }
-        return "<span class=\"docx-field\">" + result + "</span>";
+        out.append("</span>");
     }
 
-    private String renderStructuredDocumentTagRun(WordDocument.StructuredDocumentTagRun sdt,
-                                                  StyleResolver.ResolvedParagraph paragraph) {
-        StringBuilder builder = new StringBuilder();
-        builder.append("<span class=\"docx-sdt-inline\"");
-        sdt.properties().tag().ifPresent(tag -> builder.append(" data-tag=\"").append(DocxHtmlUtils.escapeHtmlAttribute(tag)).append("\""));
-        sdt.properties().alias().ifPresent(alias -> builder.append(" data-alias=\"").append(DocxHtmlUtils.escapeHtmlAttribute(alias)).append("\""));
-        sdt.properties().id().ifPresent(id -> builder.append(" data-id=\"").append(DocxHtmlUtils.escapeHtmlAttribute(id)).append("\""));
-        builder.append(">");
+    private void renderStructuredDocumentTagRun(WordDocument.StructuredDocumentTagRun sdt,
+                                                StyleResolver.ResolvedParagraph paragraph,
+                                                StringBuilder out) {
+        out.append("<span class=\"docx-sdt-inline\"");
+        StructuredDocumentTagRenderer.appendDataAttributes(sdt.properties(), out);
+        out.append(">");
         for (WordDocument.ParagraphContent child : sdt.content()) {
-            builder.append(renderParagraphContent(child, paragraph));
+            renderParagraphContent(child, paragraph, out);
         }
-        builder.append("</span>");
-        return builder.toString();
+        out.append("</span>");
     }
 
-    String renderRun(WordDocument.Run run, StyleResolver.ResolvedParagraph paragraph) {
+    void renderRun(WordDocument.Run run, StyleResolver.ResolvedParagraph paragraph, StringBuilder out) {
         StyleResolver.ResolvedRun resolvedRun = context.styleResolver().resolveRun(run.properties(), paragraph);
         if (resolvedRun.vanish()) {
-            return "";
+            return;
         }
-        StringBuilder content = new StringBuilder();
+        int start = out.length();
         for (WordDocument.Inline inline : run.elements()) {
-            String fragment = renderInline(inline);
-            if (!fragment.isEmpty()) {
-                content.append(fragment);
-            }
+            renderInline(inline, out);
         }
-        if (content.length() == 0) {
-            return "";
+        if (out.length() == start) {
+            return;
         }
         RunCss css = RunCss.from(resolvedRun);
         String declarations = css.declarations();
         if (declarations.isEmpty()) {
-            return content.toString();
+            return;
         }
+        // the class is registered only once the run is known to produce content, so the span is
+        // inserted in front of the content already written
         String className = context.styleRegistry().registerRun(css);
-        return "<span class=\"docx-span " + className + "\">" + content + "</span>";
+        out.insert(start, "\">").insert(start, className).insert(start, "<span class=\"docx-span ");
+        out.append("</span>");
     }
 
-    private String renderInline(WordDocument.Inline inline) {
+    private void renderInline(WordDocument.Inline inline, StringBuilder out) {
         if (inline instanceof WordDocument.Text text) {
-            return renderText(text);
-        }
-        if (inline instanceof WordDocument.Break br) {
-            return renderBreak(br);
-        }
-        if (inline instanceof WordDocument.Tab) {
-            return "<span class=\"docx-tab\">&emsp;</span>";
-        }
-        if (inline instanceof WordDocument.Drawing drawing) {
-            return renderDrawing(drawing);
-        }
-        if (inline instanceof WordDocument.FootnoteReference footnoteReference) {
-            return "<sup class=\"docx-note-ref\" data-note-type=\"footnote\">" + footnoteReference.id() + "</sup>";
-        }
-        if (inline instanceof WordDocument.EndnoteReference endnoteReference) {
-            return "<sup class=\"docx-note-ref\" data-note-type=\"endnote\">" + endnoteReference.id() + "</sup>";
-        }
-        if (inline instanceof WordDocument.CommentReference commentReference) {
-            return "<sup class=\"docx-note-ref\" data-note-type=\"comment\">" + commentReference.id() + "</sup>";
-        }
-        if (inline instanceof WordDocument.FieldInstruction) {
-            return "";
-        }
-        if (inline instanceof WordDocument.FieldCharacter) {
-            return "";
-        }
-        if (inline instanceof WordDocument.Symbol symbol) {
-            return renderSymbol(symbol);
-        }
-        if (inline instanceof WordDocument.SoftHyphen) {
-            return "&shy;";
-        }
-        if (inline instanceof WordDocument.NoBreakHyphen) {
-            return "&#8209;";
-        }
-        if (inline instanceof WordDocument.Separator separator) {
-            return "<span class=\"docx-note-separator\" data-kind=\"" + separator.kind().name().toLowerCase(Locale.ROOT) + "\"></span>";
-        }
-        if (inline instanceof WordDocument.ReferenceMark) {
-            return "";
-        }
-        return "";
+            DocxHtmlUtils.appendEscapedHtml(out, text.text());
+        } else if (inline instanceof WordDocument.Break br) {
+            renderBreak(br, out);
+        } else if (inline instanceof WordDocument.Tab) {
+            out.append("<span class=\"docx-tab\">&emsp;</span>");
+        } else if (inline instanceof WordDocument.Drawing drawing) {
+            renderDrawing(drawing, out);
+        } else if (inline instanceof WordDocument.FootnoteReference footnoteReference) {
+            out.append("<sup class=\"docx-note-ref\" data-note-type=\"footnote\">").append(footnoteReference.id()).append("</sup>");
+        } else if (inline instanceof WordDocument.EndnoteReference endnoteReference) {
+            out.append("<sup class=\"docx-note-ref\" data-note-type=\"endnote\">").append(endnoteReference.id()).append("</sup>");
+        } else if (inline instanceof WordDocument.CommentReference commentReference) {
+            out.append("<sup class=\"docx-note-ref\" data-note-type=\"comment\">").append(commentReference.id()).append("</sup>");
+        } else if (inline instanceof WordDocument.Symbol symbol) {
+            renderSymbol(symbol, out);
+        } else if (inline instanceof WordDocument.SoftHyphen) {
+            out.append("&shy;");
+        } else if (inline instanceof WordDocument.NoBreakHyphen) {
+            out.append("&#8209;");
+        } else if (inline instanceof WordDocument.Separator separator) {
+            out.append("<span class=\"docx-note-separator\" data-kind=\"")
+                    .append(separator.kind().name().toLowerCase(Locale.ROOT)).append("\"></span>");
+        }
+        // field instructions, field characters and reference marks produce no output
     }
 
-    private String renderBreak(WordDocument.Break br) {
-        return switch (br.type()) {
+    private void renderBreak(WordDocument.Break br, StringBuilder out) {
+        out.append(switch (br.type()) {
             case PAGE -> "<span class=\"docx-page-break\"></span>";
             case COLUMN -> "<span class=\"docx-column-break\"></span>";
             default -> "<br/>";
-        };
+        });
     }
 
-    private String renderDrawing(WordDocument.Drawing drawing) {
-        StringBuilder builder = new StringBuilder("<span class=\"docx-drawing\"");
-        drawing.relationshipId().ifPresent(rel -> builder.append(" data-rel=\"").append(DocxHtmlUtils.escapeHtmlAttribute(rel)).append("\""));
+    private void renderDrawing(WordDocument.Drawing drawing, StringBuilder out) {
+        out.append("<span class=\"docx-drawing\"");
+        drawing.relationshipId().ifPresent(rel -> DocxHtmlUtils.appendEscapedHtmlAttribute(out.append(" data-rel=\""), rel).append("\""));
         if (drawing.width() > 0 && drawing.height() > 0) {
-            builder.append(" data-size=\"").append(drawing.width()).append("x").append(drawing.height()).append("\"");
+            out.append(" data-size=\"").append(drawing.width()).append("x").append(drawing.height()).append("\"");
         }
-        builder.append(">");
-        builder.append("[Image");
+        out.append(">");
+        out.append("[Image");
         drawing.description().ifPresent(desc -> {
             if (!desc.isBlank()) {
-                builder.append(": ").append(DocxHtmlUtils.escapeHtml(desc));
+                DocxHtmlUtils.appendEscapedHtml(out.append(": "), desc);
             }
         });
-        builder.append("]");
-        builder.append("</span>");
-        return builder.toString();
+        out.append("]");
+        out.append("</span>");
     }
 
-    private String renderSymbol(WordDocument.Symbol symbol) {
+    private void renderSymbol(WordDocument.Symbol symbol, StringBuilder out) {
         String code = symbol.charCode();
         int codePoint = -1;
         if (code != null) {
@@ -206,27 +195,17 @@ final class ParagraphRenderer {
             }
         }
         if (codePoint == -1) {
-            return DocxHtmlUtils.escapeHtml(code == null ? "" : code);
+            DocxHtmlUtils.appendEscapedHtml(out, code == null ? "" : code);
+            return;
         }
-        return DocxHtmlUtils.escapeHtml(new String(Character.toChars(codePoint)));
-    }
-
-    private String renderText(WordDocument.Text text) {
-        String value = text.text();
-        if (value.isEmpty()) {
-            return "";
-        }
-        /*if (text.preserveSpace()) {
-            return value.replace(" ", "&nbsp;");
-        }*/
-        return DocxHtmlUtils.escapeHtml(value);
+        DocxHtmlUtils.appendEscapedHtml(out, new String(Character.toChars(codePoint)));
     }
 
-    private String renderBookmarkStart(WordDocument.BookmarkStart bookmarkStart) {
+    private void renderBookmarkStart(WordDocument.BookmarkStart bookmarkStart, StringBuilder out) {
         String name = bookmarkStart.name().orElse(bookmarkStart.id().orElse(null));
         if (name == null || name.isBlank()) {
-            return "";
+            return;
         }
-        return "<a id=\"" + DocxHtmlUtils.escapeHtmlAttribute(name) + "\"></a>";
+        DocxHtmlUtils.appendEscapedHtmlAttribute(out.append("<a id=\""), name).append("\"></a>");
     }
 }
@@ -1,9 +1,7 @@
 package com.example.docx.html;
 
 import com.example.docx.model.document.WordDocument;
-import com.example.docx.parser.Namespaces;
-import com.example.docx.parser.XmlUtils;
-import org.w3c.dom.Element;
+import com.example.docx.parser.FormattingParser;
 
 import java.util.Map;
 
@@ -70,15 +68,8 @@ final class ResolvedTableStyle {
         if (properties == null) {
             return null;
         }
-        Element raw = properties.rawProperties().orElse(null);
-        if (raw == null) {
-            return null;
-        }
-        Element cnfStyle = XmlUtils.firstChild(raw, Namespaces.WORD_MAIN, "cnfStyle").orElse(null);
-        if (cnfStyle == null) {
-            return null;
-        }
-        String value = firstNonBlank(XmlUtils.attribute(cnfStyle, "w:val"), XmlUtils.attribute(cnfStyle, "val"));
+        String value = properties.conditionalFormatting()
+                .orElseGet(() -> FormattingParser.parseConditionalFormatting(properties.rawProperties().orElse(null)));
         if (value == null || value.isBlank()) {
             return null;
         }
@@ -132,14 +123,4 @@ final class ResolvedTableStyle {
         builder.append(value);
         return builder.toString();
     }
-
-    private static String firstNonBlank(String first, String second) {
-        if (first != null && !first.isBlank()) {
-            return first;
-        }
-        if (second != null && !second.isBlank()) {
-            return second;
-        }
-        return null;
-    }
 }
@@ -2,10 +2,21 @@ package com.example.docx.html;
 
 import com.example.docx.model.document.WordDocument;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Hands out CSS class names in order of first registration and builds the style sheet. A recording
+ * registry (see {@link #recording()}) names nothing itself: it returns placeholders and keeps the
+ * registrations of one chunk of blocks, which {@link #replay} later names in document order, so
+ * chunks rendered concurrently produce the same class names as a sequential pass.
+ */
 final class StyleRegistry {
+    // U+0000 is dropped when text and attributes are escaped, so it never appears in rendered markup
+    private static final String PLACEHOLDER = "\u0000";
+
     private final Map<ParagraphCss, String> paragraphClasses = new LinkedHashMap<>();
     private final Map<RunCss, String> runClasses = new LinkedHashMap<>();
     private final Map<TableCss, String> tableClasses = new LinkedHashMap<>();
@@ -13,6 +24,7 @@ final class StyleRegistry {
     private final Map<TableCellCss, String> cellClasses = new LinkedHashMap<>();
     private final ParagraphCss baseParagraph;
     private final RunCss baseRun;
+    private final List<Object> recorded;
     private int paragraphIndex = 1;
     private int runIndex = 1;
     private int tableIndex = 1;
@@ -24,17 +36,35 @@ final class StyleRegistry {
     private static final double TWIP_TO_CM = 0.0017638889d;
 
     StyleRegistry(ParagraphCss baseParagraph, RunCss baseRun) {
+        this(baseParagraph, baseRun, null);
+    }
+
+    private StyleRegistry(ParagraphCss baseParagraph, RunCss baseRun, List<Object> recorded) {
         this.baseParagraph = baseParagraph == null ? ParagraphCss.empty() : baseParagraph;
         this.baseRun = baseRun == null ? RunCss.empty() : baseRun;
+        this.recorded = recorded;
+    }
+
+    /**
+     * Returns a registry for rendering one chunk of blocks on its own thread.
+     */
+    static StyleRegistry recording() {
+        return new StyleRegistry(null, null, new ArrayList<>());
     }
 
     String registerParagraph(ParagraphCss css) {
         ParagraphCss key = css == null ? ParagraphCss.empty() : css;
+        if (recorded != null) {
+            return record(key);
+        }
         return paragraphClasses.computeIfAbsent(key, unused -> "p" + paragraphIndex++);
     }
 
     String registerRun(RunCss css) {
         RunCss key = css == null ? RunCss.empty() : css;
+        if (recorded != null) {
+            return record(key);
+        }
         return runClasses.computeIfAbsent(key, unused -> "s" + runIndex++);
     }
 
@@ -42,6 +72,9 @@ final class StyleRegistry {
         if (css == null || !css.hasDeclarations()) {
             return null;
         }
+        if (recorded != null) {
+            return record(css);
+        }
         return tableClasses.computeIfAbsent(css, unused -> "t" + tableIndex++);
     }
 
@@ -49,6 +82,9 @@ final class StyleRegistry {
         if (css == null || !css.hasDeclarations()) {
             return null;
         }
+        if (recorded != null) {
+            return record(css);
+        }
         return rowClasses.computeIfAbsent(css, unused -> "r" + rowIndex++);
     }
 
@@ -56,9 +92,49 @@ final class StyleRegistry {
         if (css == null || !css.hasDeclarations()) {
             return null;
         }
+        if (recorded != null) {
+            return record(css);
+        }
         return cellClasses.computeIfAbsent(css, unused -> "c" + cellIndex++);
     }
 
+    private String record(Object css) {
+        recorded.add(css);
+        return PLACEHOLDER + (recorded.size() - 1) + PLACEHOLDER;
+    }
+
+    /**
+     * Registers everything {@code chunk} recorded, in the order it was recorded, and appends
+     * {@code html} to {@code out} with each placeholder replaced by the class name it received.
+     * Replaying the chunks of a body in order therefore names classes exactly like a sequential
+     * rendering, including classes whose markup was discarded again.
+     */
+    void replay(StyleRegistry chunk, StringBuilder html, StringBuilder out) {
+        String[] names = new String[chunk.recorded.size()];
+        for (int i = 0; i < names.length; i++) {
+            Object css = chunk.recorded.get(i);
+            if (css instanceof ParagraphCss paragraph) {
+                names[i] = registerParagraph(paragraph);
+            } else if (css instanceof RunCss run) {
+                names[i] = registerRun(run);
+            } else if (css instanceof TableCss table) {
+                names[i] = registerTable(table);
+            } else if (css instanceof TableRowCss row) {
+                names[i] = registerRow(row);
+            } else {
+                names[i] = registerCell((TableCellCss) css);
+            }
+        }
+        int copied = 0;
+        int start;
+        while ((start = html.indexOf(PLACEHOLDER, copied)) >= 0) {
+            int end = html.indexOf(PLACEHOLDER, start + 1);
+            out.append(html, copied, start).append(names[Integer.parseInt(html, start + 1, end, 10)]);
+            copied = end + 1;
+        }
+        out.append(html, copied, html.length());
+    }
+
     String buildCss(WordDocument document) {
         PageLayout layout = resolvePageLayout(document);
         StringBuilder builder = new StringBuilder();
@@ -0,0 +1,33 @@
+package com.example.docx.html;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the resolution of the document defaults and theme colors of a styles and
+ * theme pair. Conversions that reuse a cached resolution do not emit it.
+ */
+@Name("com.example.docx.StyleResolution")
+@Label("DOCX Style Resolution")
+@Category("DOCX")
+@Description("Resolving the base styles and theme colors used by a conversion")
+@StackTrace(false)
+final class StyleResolutionEvent extends jdk.jfr.Event {
+
+    @Label("Package Id")
+    @Description("Identity hash code of the DocxPackage being converted")
+    int packageId;
+
+    @Label("Styles")
+    int styles;
+
+    @Label("Theme Colors")
+    int themeColors;
+
+    @Label("Cached")
+    @Description("The resolution was kept for later conversions of the same template")
+    boolean cached;
+}
@@ -2,11 +2,13 @@ package com.example.docx.html;
 
 import com.example.docx.model.document.WordDocument;
 import com.example.docx.model.styles.StyleDefinitions;
+import com.example.docx.parser.FormattingParser;
 import com.example.docx.parser.Namespaces;
 import com.example.docx.parser.XmlUtils;
 import org.w3c.dom.Element;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 final class StyleResolver {
@@ -16,10 +18,19 @@ final class StyleResolver {
     private final WordDocument.ParagraphProperties docDefaultParagraphProperties;
     private final WordDocument.RunProperties docDefaultRunProperties;
     private final Map<String, String> themeColors;
+    // style memos are keyed by style id and can be shared by every document using the same definitions
+    private final Map<String, EffectiveParagraphStyle> paragraphStyles;
+    private final Map<String, List<WordDocument.RunProperties>> characterStyles;
+    private final Map<String, ResolvedTableStyle> tableStyles;
+    private final Map<PropertiesKey, ResolvedParagraph> resolvedParagraphs = new ConcurrentHashMap<>();
+    private final Map<PropertiesKey, ResolvedRun> resolvedRuns = new ConcurrentHashMap<>();
 
     StyleResolver(StyleDefinitions definitions, Map<String, String> themeColors) {
         this.definitions = definitions == null ? StyleDefinitions.empty() : definitions;
         this.themeColors = themeColors == null ? Map.of() : Map.copyOf(themeColors);
+        this.paragraphStyles = new ConcurrentHashMap<>();
+        this.characterStyles = new ConcurrentHashMap<>();
+        this.tableStyles = new ConcurrentHashMap<>();
         this.stylesById = new LinkedHashMap<>(this.definitions.styles());
         this.defaultCharacterRunProperties = this.definitions.styles().values().stream()
                 .filter(style -> "character".equals(style.type()))
@@ -28,18 +39,95 @@ final class StyleResolver {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
         Element docDefaults = this.definitions.rawDocumentDefaults().orElse(null);
-        this.docDefaultParagraphProperties = docDefaults == null ? null : parseParagraphDefaults(docDefaults);
-        this.docDefaultRunProperties = docDefaults == null ? null : parseRunDefaults(docDefaults);
+        this.docDefaultParagraphProperties = this.definitions.defaultParagraphProperties()
+                .orElseGet(() -> docDefaults == null ? null : parseParagraphDefaults(docDefaults));
+        this.docDefaultRunProperties = this.definitions.defaultRunProperties()
+                .orElseGet(() -> docDefaults == null ? null : parseRunDefaults(docDefaults));
+    }
+
+    private StyleResolver(StyleResolver shared) {
+        this.definitions = shared.definitions;
+        this.themeColors = shared.themeColors;
+        this.stylesById = shared.stylesById;
+        this.defaultCharacterRunProperties = shared.defaultCharacterRunProperties;
+        this.docDefaultParagraphProperties = shared.docDefaultParagraphProperties;
+        this.docDefaultRunProperties = shared.docDefaultRunProperties;
+        this.paragraphStyles = shared.paragraphStyles;
+        this.characterStyles = shared.characterStyles;
+        this.tableStyles = shared.tableStyles;
+    }
+
+    /**
+     * Returns a resolver for a single document that shares the flattened styles of this one. The
+     * memos for direct formatting are keyed by the identity of one document's properties, so each
+     * document gets its own instead of growing a shared resolver without bound.
+     */
+    StyleResolver forDocument() {
+        return new StyleResolver(this);
     }
 
     ResolvedParagraph resolveParagraph(WordDocument.ParagraphProperties properties,
                                        List<WordDocument.RunProperties> extraRunFallbacks) {
         WordDocument.ParagraphProperties effective = properties == null ? DocxToHtml.EMPTY_PARAGRAPH_PROPERTIES : properties;
-        String effectiveStyleId = effective.styleId().orElse(null);
-        List<StyleDefinitions.Style> paragraphChain = styleChain(effectiveStyleId);
-        LinkedHashSet<String> visited = paragraphChain.stream()
-                .map(StyleDefinitions.Style::styleId)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<WordDocument.RunProperties> additionalFallbacks = extraRunFallbacks == null ? List.of() : extraRunFallbacks;
+        return resolvedParagraphs.computeIfAbsent(new PropertiesKey(effective, additionalFallbacks),
+                key -> mergeParagraph(effective, additionalFallbacks));
+    }
+
+    /**
+     * Applies the direct paragraph properties over the precomputed style of their paragraph style.
+     */
+    private ResolvedParagraph mergeParagraph(WordDocument.ParagraphProperties effective,
+                                             List<WordDocument.RunProperties> additionalFallbacks) {
+        EffectiveParagraphStyle style = effectiveParagraphStyle(effective.styleId().orElse(null));
+        WordDocument.RunProperties markRunProperties = paragraphRunProperties(effective).orElse(null);
+        List<WordDocument.RunProperties> runFallbacks;
+        if (markRunProperties == null && additionalFallbacks.isEmpty()) {
+            runFallbacks = style.runFallbacks();
+        } else {
+            List<WordDocument.RunProperties> merged = new ArrayList<>(style.runFallbacks().size() + additionalFallbacks.size() + 1);
+            if (markRunProperties != null) {
+                merged.add(markRunProperties);
+            }
+            merged.addAll(style.leadingRunFallbacks());
+            merged.addAll(additionalFallbacks);
+            merged.addAll(style.trailingRunFallbacks());
+            runFallbacks = List.copyOf(merged);
+        }
+
+        String shading = DocxHtmlUtils.paragraphShadingColor(effective, themeColors);
+        if (shading == null) {
+            shading = style.shadingColor();
+        }
+        BorderDefinition border = DocxHtmlUtils.paragraphBorders(effective, themeColors);
+        if ((border == null || border.isEmpty()) && style.border() != null) {
+            border = style.border();
+        }
+        return new ResolvedParagraph(
+                effective.alignment().orElse(style.alignment()),
+                effective.indentation().orElse(style.indentation()),
+                effective.spacing().orElse(style.spacing()),
+                effective.keepTogether() || style.keepTogether(),
+                effective.keepWithNext() || style.keepWithNext(),
+                effective.pageBreakBefore() || style.pageBreakBefore(),
+                shading, border, runFallbacks);
+    }
+
+    private EffectiveParagraphStyle effectiveParagraphStyle(String styleId) {
+        return paragraphStyles.computeIfAbsent(styleId == null ? "" : styleId, this::flattenParagraphStyle);
+    }
+
+    /**
+     * Flattens the style chain of {@code styleId}, the default paragraph style hierarchy, linked
+     * character styles and the document defaults into the values a paragraph inherits when it has no
+     * direct formatting of its own.
+     */
+    private EffectiveParagraphStyle flattenParagraphStyle(String styleId) {
+        List<StyleDefinitions.Style> paragraphChain = styleChain(styleId);
+        Set<String> visited = new HashSet<>();
+        for (StyleDefinitions.Style style : paragraphChain) {
+            visited.add(style.styleId());
+        }
         for (String defaultId : definitions.defaultParagraphStyleHierarchy()) {
             if (visited.add(defaultId)) {
                 StyleDefinitions.Style style = stylesById.get(defaultId);
@@ -50,112 +138,122 @@ final class StyleResolver {
         }
 
         List<WordDocument.ParagraphProperties> paragraphFallbacks = new ArrayList<>();
-        List<WordDocument.RunProperties> runFallbacks = new ArrayList<>();
-        List<WordDocument.RunProperties> additionalFallbacks = extraRunFallbacks == null ? List.of() : extraRunFallbacks;
-
-        paragraphRunProperties(effective).ifPresent(runFallbacks::add);
-
+        List<WordDocument.RunProperties> leading = new ArrayList<>();
         for (StyleDefinitions.Style style : paragraphChain) {
             style.paragraphProperties().ifPresent(paragraphFallbacks::add);
-            style.runProperties().ifPresent(runFallbacks::add);
+            style.runProperties().ifPresent(leading::add);
             style.paragraphProperties()
                     .flatMap(StyleResolver::paragraphRunProperties)
-                    .ifPresent(runFallbacks::add);
+                    .ifPresent(leading::add);
             style.link().ifPresent(linkId -> {
                 StyleDefinitions.Style linked = stylesById.get(linkId);
                 if (linked != null) {
-                    linked.runProperties().ifPresent(runFallbacks::add);
+                    linked.runProperties().ifPresent(leading::add);
                 }
             });
         }
         if (docDefaultParagraphProperties != null) {
             paragraphFallbacks.add(docDefaultParagraphProperties);
-            paragraphRunProperties(docDefaultParagraphProperties).ifPresent(runFallbacks::add);
+            paragraphRunProperties(docDefaultParagraphProperties).ifPresent(leading::add);
         }
-        if (!additionalFallbacks.isEmpty()) {
-            runFallbacks.addAll(additionalFallbacks);
-        }
-        runFallbacks.addAll(defaultCharacterRunProperties);
+        List<WordDocument.RunProperties> trailing = new ArrayList<>(defaultCharacterRunProperties);
         if (docDefaultRunProperties != null) {
-            runFallbacks.add(docDefaultRunProperties);
-        }
-        if (effective.styleId().filter("Title"::equals).isPresent()) {
-        }
-
-        WordDocument.Alignment alignment = effective.alignment().orElseGet(() ->
-                paragraphFallbacks.stream()
-                        .map(p -> p.alignment().orElse(null))
-                        .filter(Objects::nonNull)
-                        .findFirst()
-                        .orElse(null));
-        WordDocument.Indentation indentation = effective.indentation().orElseGet(() ->
-                paragraphFallbacks.stream()
-                        .map(p -> p.indentation().orElse(null))
-                        .filter(Objects::nonNull)
-                        .findFirst()
-                        .orElse(null));
-        WordDocument.Spacing spacing = effective.spacing().orElseGet(() ->
-                paragraphFallbacks.stream()
-                        .map(p -> p.spacing().orElse(null))
-                        .filter(Objects::nonNull)
-                        .findFirst()
-                        .orElse(null));
-        boolean keepTogether = effective.keepTogether() || paragraphFallbacks.stream().anyMatch(WordDocument.ParagraphProperties::keepTogether);
-        boolean keepWithNext = effective.keepWithNext() || paragraphFallbacks.stream().anyMatch(WordDocument.ParagraphProperties::keepWithNext);
-        boolean pageBreakBefore = effective.pageBreakBefore() || paragraphFallbacks.stream().anyMatch(WordDocument.ParagraphProperties::pageBreakBefore);
-        String shading = DocxHtmlUtils.paragraphShadingColor(effective, themeColors);
-        if (shading == null) {
-            for (WordDocument.ParagraphProperties fallback : paragraphFallbacks) {
+            trailing.add(docDefaultRunProperties);
+        }
+
+        WordDocument.Alignment alignment = null;
+        WordDocument.Indentation indentation = null;
+        WordDocument.Spacing spacing = null;
+        boolean keepTogether = false;
+        boolean keepWithNext = false;
+        boolean pageBreakBefore = false;
+        String shading = null;
+        BorderDefinition border = null;
+        for (WordDocument.ParagraphProperties fallback : paragraphFallbacks) {
+            if (alignment == null) {
+                alignment = fallback.alignment().orElse(null);
+            }
+            if (indentation == null) {
+                indentation = fallback.indentation().orElse(null);
+            }
+            if (spacing == null) {
+                spacing = fallback.spacing().orElse(null);
+            }
+            keepTogether |= fallback.keepTogether();
+            keepWithNext |= fallback.keepWithNext();
+            pageBreakBefore |= fallback.pageBreakBefore();
+            if (shading == null) {
                 shading = DocxHtmlUtils.paragraphShadingColor(fallback, themeColors);
-                if (shading != null) {
-                    break;
-                }
             }
-        }
-        BorderDefinition border = DocxHtmlUtils.paragraphBorders(effective, themeColors);
-        if (border == null || border.isEmpty()) {
-            for (WordDocument.ParagraphProperties fallback : paragraphFallbacks) {
+            if (border == null) {
                 BorderDefinition candidate = DocxHtmlUtils.paragraphBorders(fallback, themeColors);
                 if (candidate != null && !candidate.isEmpty()) {
                     border = candidate;
-                    break;
                 }
             }
         }
-
-        return new ResolvedParagraph(alignment, indentation, spacing, keepTogether, keepWithNext, pageBreakBefore, shading, border, List.copyOf(runFallbacks));
+        List<WordDocument.RunProperties> all = new ArrayList<>(leading);
+        all.addAll(trailing);
+        return new EffectiveParagraphStyle(alignment, indentation, spacing, keepTogether, keepWithNext,
+                pageBreakBefore, shading, border, List.copyOf(leading), List.copyOf(trailing), List.copyOf(all));
     }
 
     ResolvedRun resolveRun(WordDocument.RunProperties properties, ResolvedParagraph paragraph) {
         WordDocument.RunProperties effective = properties == null ? DocxToHtml.EMPTY_RUN_PROPERTIES : properties;
-        List<WordDocument.RunProperties> cascade = new ArrayList<>();
-        cascade.add(effective);
-        effective.styleId().ifPresent(styleId -> {
-            for (StyleDefinitions.Style style : styleChain(styleId)) {
+        return resolvedRuns.computeIfAbsent(new PropertiesKey(effective, paragraph.runFallbacks()),
+                key -> cascadeRun(effective, paragraph.runFallbacks()));
+    }
+
+    private ResolvedRun cascadeRun(WordDocument.RunProperties effective, List<WordDocument.RunProperties> runFallbacks) {
+        RunCascade cascade = new RunCascade();
+        cascade.accept(effective);
+        String styleId = effective.styleId().orElse(null);
+        if (styleId != null) {
+            for (WordDocument.RunProperties characterStyle : characterStyleRuns(styleId)) {
+                cascade.accept(characterStyle);
+            }
+        }
+        for (WordDocument.RunProperties fallback : runFallbacks) {
+            cascade.accept(fallback);
+        }
+        return cascade.resolve();
+    }
+
+    private List<WordDocument.RunProperties> characterStyleRuns(String styleId) {
+        return characterStyles.computeIfAbsent(styleId, id -> {
+            List<WordDocument.RunProperties> runs = new ArrayList<>();
+            for (StyleDefinitions.Style style : styleChain(id)) {
                 if ("character".equals(style.type())) {
-                    style.runProperties().ifPresent(cascade::add);
+                    style.runProperties().ifPresent(runs::add);
                 }
             }
+            return List.copyOf(runs);
         });
-        cascade.addAll(paragraph.runFallbacks());
-
-        boolean bold = false;
-        boolean italic = false;
-        boolean underline = false;
-        String underlineType = null;
-        boolean strike = false;
-        boolean doubleStrike = false;
-        boolean smallCaps = false;
-        boolean allCaps = false;
-        boolean vanish = false;
-        String color = null;
-        String highlight = null;
-        String verticalAlign = null;
-        Integer size = null;
-        Integer complexSize = null;
-        Map<String, String> fonts = new LinkedHashMap<>();
+    }
 
-        for (WordDocument.RunProperties runProperties : cascade) {
+    /**
+     * Folds run properties from the most to the least specific: toggles are OR-ed, values keep the
+     * first one found and fonts are merged slot by slot.
+     */
+    private final class RunCascade {
+        private boolean bold;
+        private boolean italic;
+        private boolean underline;
+        private String underlineType;
+        private boolean strike;
+        private boolean doubleStrike;
+        private boolean smallCaps;
+        private boolean allCaps;
+        private boolean vanish;
+        private String color;
+        private String highlight;
+        private String verticalAlign;
+        private Integer size;
+        private Integer complexSize;
+        private final Map<String, String> fonts = new LinkedHashMap<>();
+        private BorderDefinition border;
+
+        void accept(WordDocument.RunProperties runProperties) {
             if (runProperties.bold()) {
                 bold = true;
             }
@@ -204,24 +302,22 @@ final class StyleResolver {
             if (!runProperties.fonts().isEmpty()) {
                 runProperties.fonts().forEach(fonts::putIfAbsent);
             }
-        }
-        if (size == null && complexSize != null) {
-            size = complexSize;
-        }
-        List<String> fontStack = DocxHtmlUtils.computeFontStack(fonts);
-        BorderDefinition border = BorderDefinition.empty();
-        for (WordDocument.RunProperties runProperties : cascade) {
-            BorderDefinition candidate = DocxHtmlUtils.runBorders(runProperties, themeColors);
-            if (candidate != null && !candidate.isEmpty()) {
-                border = candidate;
-                break;
+            if (border == null) {
+                BorderDefinition candidate = DocxHtmlUtils.runBorders(runProperties, themeColors);
+                if (candidate != null && !candidate.isEmpty()) {
+                    border = candidate;
+                }
             }
         }
 
-        return new ResolvedRun(bold, italic, underline, underlineType, strike, doubleStrike,
-                smallCaps, allCaps, vanish, Optional.ofNullable(color),
-                Optional.ofNullable(highlight), Optional.ofNullable(verticalAlign),
-                Optional.ofNullable(size), fontStack, border);
+        ResolvedRun resolve() {
+            Integer effectiveSize = size == null ? complexSize : size;
+            return new ResolvedRun(bold, italic, underline, underlineType, strike, doubleStrike,
+                    smallCaps, allCaps, vanish, Optional.ofNullable(color),
+                    Optional.ofNullable(highlight), Optional.ofNullable(verticalAlign),
+                    Optional.ofNullable(effectiveSize), DocxHtmlUtils.computeFontStack(fonts),
+                    border == null ? BorderDefinition.empty() : border);
+        }
     }
 
     private List<StyleDefinitions.Style> styleChain(String styleId) {
@@ -332,6 +428,9 @@ final class StyleResolver {
         if (properties == null) {
             return Optional.empty();
         }
+        if (properties.markRunProperties().isPresent()) {
+            return properties.markRunProperties();
+        }
         return properties.rawProperties()
                 .flatMap(pPr -> XmlUtils.firstChild(pPr, Namespaces.WORD_MAIN, "rPr"))
                 .map(StyleResolver::toRunProperties);
@@ -418,6 +517,10 @@ final class StyleResolver {
         if (styleId == null || styleId.isBlank()) {
             return ResolvedTableStyle.empty();
         }
+        return tableStyles.computeIfAbsent(styleId, this::flattenTableStyle);
+    }
+
+    private ResolvedTableStyle flattenTableStyle(String styleId) {
         Map<TableStyleRegion, RegionStyle> regions = new EnumMap<>(TableStyleRegion.class);
         String tableBackground = null;
         BorderDefinition tablePerimeter = BorderDefinition.empty();
@@ -428,50 +531,63 @@ final class StyleResolver {
             StyleDefinitions.TableStyleProperties tableProps = style.tableProperties().orElse(null);
             if (tableProps != null) {
                 Element raw = tableProps.rawProperties().orElse(null);
-                if (raw != null) {
-                    if (tableBackground == null) {
-                        tableBackground = DocxHtmlUtils.shadingColorFromElement(raw, themeColors);
-                    }
-                    DocxHtmlUtils.TableBorders borders = DocxHtmlUtils.tableBordersFromRaw(raw, themeColors);
-                    tablePerimeter = tablePerimeter.fillMissing(borders.perimeter());
-                    insideHorizontal = insideHorizontal.fillMissing(borders.insideHorizontal());
-                    insideVertical = insideVertical.fillMissing(borders.insideVertical());
+                WordDocument.Shading shading = tableProps.shading()
+                        .orElseGet(() -> FormattingParser.parseShading(raw));
+                WordDocument.Borders tableBorders = tableProps.borders()
+                        .orElseGet(() -> FormattingParser.parseBorders(raw, "tblBorders"));
+                if (tableBackground == null) {
+                    tableBackground = DocxHtmlUtils.shadingColor(shading, themeColors);
                 }
+                DocxHtmlUtils.TableBorders borders = DocxHtmlUtils.tableBorders(tableBorders, themeColors);
+                tablePerimeter = tablePerimeter.fillMissing(borders.perimeter());
+                insideHorizontal = insideHorizontal.fillMissing(borders.insideHorizontal());
+                insideVertical = insideVertical.fillMissing(borders.insideVertical());
             }
-            style.rawStyle().ifPresent(raw -> {
-                for (Element tblStylePr : XmlUtils.children(raw, Namespaces.WORD_MAIN, "tblStylePr")) {
-                    String type = tblStylePr.getAttributeNS(Namespaces.WORD_MAIN, "type");
-                    TableStyleRegion region = TableStyleRegion.from(type);
-                    if (region == null || regions.containsKey(region)) {
-                        continue;
-                    }
-                    RegionStyle regionStyle = parseTableRegion(tblStylePr);
-                    if (regionStyle != null) {
-                        regions.put(region, regionStyle);
-                    }
+            for (StyleDefinitions.TableStyleOverride override : tableStyleOverrides(style)) {
+                TableStyleRegion region = TableStyleRegion.from(override.type());
+                if (region == null || regions.containsKey(region)) {
+                    continue;
                 }
-            });
+                RegionStyle regionStyle = parseTableRegion(override);
+                if (regionStyle != null) {
+                    regions.put(region, regionStyle);
+                }
+            }
         }
         return new ResolvedTableStyle(tableBackground, regions, tablePerimeter, insideHorizontal, insideVertical);
     }
 
-    private RegionStyle parseTableRegion(Element tblStylePr) {
-        if (tblStylePr == null) {
-            return null;
+    private static List<StyleDefinitions.TableStyleOverride> tableStyleOverrides(StyleDefinitions.Style style) {
+        if (!style.tableStyleOverrides().isEmpty()) {
+            return style.tableStyleOverrides();
         }
-        Element tcPr = XmlUtils.firstChild(tblStylePr, Namespaces.WORD_MAIN, "tcPr").orElse(null);
-        String background = DocxHtmlUtils.shadingColorFromElement(tcPr, themeColors);
-        if (background == null) {
-            Element tblPr = XmlUtils.firstChild(tblStylePr, Namespaces.WORD_MAIN, "tblPr").orElse(null);
-            background = DocxHtmlUtils.shadingColorFromElement(tblPr, themeColors);
+        Element raw = style.rawStyle().orElse(null);
+        if (raw == null) {
+            return List.of();
         }
-        Element rPr = XmlUtils.firstChild(tblStylePr, Namespaces.WORD_MAIN, "rPr").orElse(null);
-        WordDocument.RunProperties runProperties = toRunProperties(rPr);
-        BorderDefinition borders = BorderDefinition.empty();
-        if (tcPr != null) {
-            WordDocument.TableCellProperties fake = new WordDocument.TableCellProperties(null, null, null, null, false, tcPr);
-            borders = DocxHtmlUtils.tableCellBorders(fake, themeColors);
+        List<StyleDefinitions.TableStyleOverride> overrides = new ArrayList<>();
+        for (Element tblStylePr : XmlUtils.children(raw, Namespaces.WORD_MAIN, "tblStylePr")) {
+            Element tblPr = XmlUtils.firstChild(tblStylePr, Namespaces.WORD_MAIN, "tblPr").orElse(null);
+            Element tcPr = XmlUtils.firstChild(tblStylePr, Namespaces.WORD_MAIN, "tcPr").orElse(null);
+            overrides.add(new StyleDefinitions.TableStyleOverride(
+                    tblStylePr.getAttributeNS(Namespaces.WORD_MAIN, "type"),
+                    toRunProperties(XmlUtils.firstChild(tblStylePr, Namespaces.WORD_MAIN, "rPr").orElse(null)),
+                    tblPr == null ? null : new WordDocument.TableProperties(null, null, null, null,
+                            FormattingParser.parseShading(tblPr), null, null),
+                    tcPr == null ? null : new WordDocument.TableCellProperties(null, null, null, null, false,
+                            FormattingParser.parseShading(tcPr), FormattingParser.parseBorders(tcPr, "tcBorders"), null)));
+        }
+        return overrides;
+    }
+
+    private RegionStyle parseTableRegion(StyleDefinitions.TableStyleOverride override) {
+        WordDocument.TableCellProperties cellProperties = override.cellProperties().orElse(null);
+        String background = DocxHtmlUtils.tableCellShadingColor(cellProperties, themeColors);
+        if (background == null) {
+            background = DocxHtmlUtils.tableShadingColor(override.tableProperties().orElse(null), themeColors);
         }
+        WordDocument.RunProperties runProperties = override.runProperties().orElse(null);
+        BorderDefinition borders = DocxHtmlUtils.tableCellBorders(cellProperties, themeColors);
         if (background == null && runProperties == null && (borders == null || borders.isEmpty())) {
             return null;
         }
@@ -508,6 +624,55 @@ final class StyleResolver {
         }
     }
 
+    /**
+     * Memo key comparing by identity: parsed properties are interned, so equal inputs are the same
+     * objects. Fallback lists are compared element by element, as table rows and paragraphs with direct
+     * run properties build a new list holding the same fallbacks.
+     */
+    private record PropertiesKey(Object properties, List<WordDocument.RunProperties> fallbacks) {
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof PropertiesKey that) || properties != that.properties) {
+                return false;
+            }
+            if (fallbacks == that.fallbacks) {
+                return true;
+            }
+            int size = fallbacks.size();
+            if (size != that.fallbacks.size()) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (fallbacks.get(i) != that.fallbacks.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(properties);
+            for (WordDocument.RunProperties fallback : fallbacks) {
+                hash = 31 * hash + System.identityHashCode(fallback);
+            }
+            return hash;
+        }
+    }
+
+    private record EffectiveParagraphStyle(WordDocument.Alignment alignment,
+                                           WordDocument.Indentation indentation,
+                                           WordDocument.Spacing spacing,
+                                           boolean keepTogether,
+                                           boolean keepWithNext,
+                                           boolean pageBreakBefore,
+                                           String shadingColor,
+                                           BorderDefinition border,
+                                           List<WordDocument.RunProperties> leadingRunFallbacks,
+                                           List<WordDocument.RunProperties> trailingRunFallbacks,
+                                           List<WordDocument.RunProperties> runFallbacks) {
+    }
+
     public record RegionStyle(String backgroundColor,
                                WordDocument.RunProperties runProperties,
                                BorderDefinition borders) {
@@ -3,7 +3,9 @@ package com.example.docx.html;
 import com.example.docx.model.document.WordDocument;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 final class TableRenderer {
@@ -15,7 +17,7 @@ final class TableRenderer {
         this.blockRenderer = blockRenderer;
     }
 
-    String renderTable(WordDocument.Table table, List<WordDocument.RunProperties> inheritedRunFallbacks) {
+    void renderTable(WordDocument.Table table, List<WordDocument.RunProperties> inheritedRunFallbacks, StringBuilder out) {
         ResolvedTableStyle tableStyle = context.styleResolver().resolveTableStyle(table.properties());
         int rowCount = table.rows().size();
         String tableBackground = DocxHtmlUtils.tableShadingColor(table.properties(), context.themeColors());
@@ -26,15 +28,14 @@ final class TableRenderer {
         BorderDefinition tablePerimeter = tableStyle.tableBorders().overrideWith(directBorders.perimeter());
         BorderDefinition insideHorizontal = tableStyle.insideHorizontal().overrideWith(directBorders.insideHorizontal());
         BorderDefinition insideVertical = tableStyle.insideVertical().overrideWith(directBorders.insideVertical());
-        List<String> tableClasses = new ArrayList<>();
-        tableClasses.add("docx-table");
         TableCss tableCss = new TableCss(tableBackground, tablePerimeter);
         String tableClass = context.styleRegistry().registerTable(tableCss);
+        out.append("<table class=\"docx-table");
         if (tableClass != null) {
-            tableClasses.add(tableClass);
+            out.append(' ').append(tableClass);
         }
-        StringBuilder builder = new StringBuilder();
-        builder.append("<table class=\"").append(String.join(" ", tableClasses)).append("\">");
+        out.append("\">");
+        Map<StyleResolver.RegionStyle, List<WordDocument.RunProperties>> regionFallbacks = new IdentityHashMap<>(4);
         for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
             WordDocument.TableRow row = table.rows().get(rowIndex);
             StyleResolver.RegionStyle region = tableStyle.rowRegion(row.properties(), rowIndex, rowCount);
@@ -42,22 +43,18 @@ final class TableRenderer {
             if (rowBackground == null && region != null) {
                 rowBackground = region.backgroundColor();
             }
-            List<WordDocument.RunProperties> rowFallbacks = new ArrayList<>(inheritedRunFallbacks);
+            List<WordDocument.RunProperties> rowFallbacks = inheritedRunFallbacks;
             if (region != null && region.runProperties() != null) {
-                rowFallbacks.add(region.runProperties());
+                // rows of one region share their fallback list instead of copying it per row
+                rowFallbacks = regionFallbacks.computeIfAbsent(region, r -> withRegion(inheritedRunFallbacks, r));
             }
-            List<String> rowClasses = new ArrayList<>();
             TableRowCss rowCss = new TableRowCss(rowBackground);
             String rowClass = context.styleRegistry().registerRow(rowCss);
+            out.append("<tr");
             if (rowClass != null) {
-                rowClasses.add("docx-row");
-                rowClasses.add(rowClass);
+                out.append(" class=\"docx-row ").append(rowClass).append("\"");
             }
-            builder.append("<tr");
-            if (!rowClasses.isEmpty()) {
-                builder.append(" class=\"").append(String.join(" ", rowClasses)).append("\"");
-            }
-            builder.append(">");
+            out.append(">");
             int columnCount = row.cells().size();
             for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
                 WordDocument.TableCell cell = row.cells().get(columnIndex);
@@ -82,64 +79,60 @@ final class TableRenderer {
                     rightEdge = (columnIndex == columnCount - 1) ? tablePerimeter.right() : insideVertical.right();
                 }
                 BorderDefinition finalBorder = BorderDefinition.of(topEdge, rightEdge, bottomEdge, leftEdge);
-                builder.append(renderTableCell(cell, rowBackground, tableBackground, rowFallbacks, finalBorder));
+                renderTableCell(cell, rowBackground, tableBackground, rowFallbacks, finalBorder, out);
             }
-            builder.append("</tr>");
+            out.append("</tr>");
         }
-        builder.append("</table>");
-        return builder.toString();
+        out.append("</table>");
+    }
+
+    private static List<WordDocument.RunProperties> withRegion(List<WordDocument.RunProperties> inherited,
+                                                               StyleResolver.RegionStyle region) {
+        List<WordDocument.RunProperties> fallbacks = new ArrayList<>(inherited.size() + 1);
+        fallbacks.addAll(inherited);
+        fallbacks.add(region.runProperties());
+        return List.copyOf(fallbacks);
     }
 
-    private String renderTableCell(WordDocument.TableCell cell,
-                                   String rowBackground,
-                                   String tableBackground,
-                                   List<WordDocument.RunProperties> rowRunFallbacks,
-                                   BorderDefinition borders) {
+    private void renderTableCell(WordDocument.TableCell cell,
+                                 String rowBackground,
+                                 String tableBackground,
+                                 List<WordDocument.RunProperties> rowRunFallbacks,
+                                 BorderDefinition borders,
+                                 StringBuilder out) {
         List<WordDocument.RunProperties> effectiveFallbacks = rowRunFallbacks == null || rowRunFallbacks.isEmpty()
                 ? List.of()
                 : List.copyOf(rowRunFallbacks);
-        StringBuilder content = new StringBuilder();
+        // the content is rendered first so that nested tables register their classes before this cell,
+        // then the opening tag is inserted in front of it
+        int start = out.length();
         for (WordDocument.Block block : cell.content()) {
-            String fragment = blockRenderer.renderBlock(block, effectiveFallbacks);
-            if (!fragment.isEmpty()) {
-                content.append(fragment);
-            }
+            blockRenderer.renderBlock(block, effectiveFallbacks, out);
         }
-        if (content.length() == 0) {
-            content.append("&nbsp;");
+        if (out.length() == start) {
+            out.append("&nbsp;");
         }
-        List<String> classes = new ArrayList<>();
-        classes.add("docx-cell");
-        cell.properties().verticalAlignment().ifPresent(val -> {
-            switch (val) {
-                case "center" -> classes.add("docx-cell-middle");
-                case "bottom" -> classes.add("docx-cell-bottom");
-                default -> {
-                }
-            }
-        });
         String background = DocxHtmlUtils.tableCellShadingColor(cell.properties(), context.themeColors());
         if (Objects.equals(background, rowBackground) || Objects.equals(background, tableBackground)) {
             background = null;
         }
         TableCellCss cellCss = new TableCellCss(background, borders);
         String cellClass = context.styleRegistry().registerCell(cellCss);
-        if (cellClass != null) {
-            classes.add(cellClass);
-        }
-        StringBuilder builder = new StringBuilder();
-        builder.append("<td");
-        if (!classes.isEmpty()) {
-            builder.append(" class=\"").append(String.join(" ", classes)).append("\"");
-        }
-        cell.properties().gridSpan().ifPresent(span -> {
-            if (span != null && span > 1) {
-                builder.append(" colspan=\"").append(span).append("\"");
-            }
-        });
-        builder.append(">");
-        builder.append(content);
-        builder.append("</td>");
-        return builder.toString();
+        // the tag is built in one concatenation and inserted once, so the content moves only once
+        String verticalClass = cell.properties().verticalAlignment().map(TableRenderer::verticalAlignmentClass).orElse("");
+        String separator = cellClass == null ? "" : " ";
+        String registeredClass = cellClass == null ? "" : cellClass;
+        int span = cell.properties().gridSpan().orElse(1);
+        String colspan = span > 1 ? " colspan=\"" + span + '"' : "";
+        out.insert(start, "<td class=\"docx-cell" + verticalClass + separator + registeredClass + '"' + colspan + '>');
+        out.append("</td>");
+    }
+
+    private static String verticalAlignmentClass(String verticalAlignment) {
+        return switch (verticalAlignment) {
+            case "center" -> " docx-cell-middle";
+            case "bottom" -> " docx-cell-bottom";
+            default -> "";
+        };
     }
 }
@@ -2,18 +2,26 @@ package com.example.docx.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 /**
  * Abstraction over the physical DOCX container (zip archive or extracted directory).
+ * Implementations allow {@link #open(String)}, {@link #exists(String)} and {@link #list(String)} to be
+ * called concurrently; each returned stream belongs to the caller.
  */
 public interface DocxArchive extends AutoCloseable {
 
@@ -23,6 +31,44 @@ public interface DocxArchive extends AutoCloseable {
 
     Set<String> list(String prefix) throws IOException;
 
+    /**
+     * Returns a read-only view of a part whose bytes are stored uncompressed, without copying them,
+     * or an empty optional when the part has to be read through {@link #open(String)}.
+     */
+    default Optional<ByteBuffer> uncompressedView(String partName) throws IOException {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the CRC-32 and uncompressed size the zip central directory records for a part, or an
+     * empty optional when the part is missing or the container keeps no such record.
+     */
+    default Optional<Checksum> checksum(String partName) throws IOException {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the number of bytes a part occupies in the container, compressed when the container
+     * compresses it, or an empty optional when the part is missing or the size is not recorded.
+     */
+    default OptionalLong storedSize(String partName) throws IOException {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Returns the name and sizes of every part without opening any of them, as {@link #list(String)},
+     * {@link #storedSize(String)} and {@link #checksum(String)} would report them. Zip containers
+     * answer from the central directory alone.
+     */
+    default List<PartSize> partSizes() throws IOException {
+        List<PartSize> result = new ArrayList<>();
+        for (String partName : list("")) {
+            result.add(new PartSize(partName, storedSize(partName).orElse(-1),
+                    checksum(partName).map(Checksum::size).orElse(-1L)));
+        }
+        return result;
+    }
+
     @Override
     void close() throws IOException;
 
@@ -34,6 +80,93 @@ public interface DocxArchive extends AutoCloseable {
         return new ZipDocxArchive(path);
     }
 
+    /**
+     * Like {@link #open(Path)}, but memory-maps zip packages through {@link MappedZipArchive}.
+     */
+    static DocxArchive openMapped(Path path) throws IOException {
+        Objects.requireNonNull(path, "path");
+        if (Files.isDirectory(path)) {
+            return new DirectoryArchive(path);
+        }
+        return new MappedZipArchive(path);
+    }
+
+    /**
+     * Returns what {@link #partSizes()} would for the package at {@code path} without opening it: for
+     * a zip file only the end record and the central directory are read, in directory order.
+     */
+    static List<PartSize> readPartSizes(Path path) throws IOException {
+        Objects.requireNonNull(path, "path");
+        if (Files.isDirectory(path)) {
+            return new DirectoryArchive(path).partSizes();
+        }
+        return MappedZipArchive.readPartSizes(path);
+    }
+
+    /**
+     * Like {@link #readPartSizes(Path)}, for a zip package held in the remaining bytes of
+     * {@code buffer}, which is not modified.
+     */
+    static List<PartSize> readPartSizes(ByteBuffer buffer) throws IOException {
+        return MappedZipArchive.readPartSizes(buffer.slice().order(ByteOrder.LITTLE_ENDIAN), 0);
+    }
+
+    /**
+     * Opens a zip package held in memory. The central directory is indexed straight from
+     * {@code buffer} and parts are inflated on demand; the buffer must not be modified while the
+     * archive or any media read from it is in use.
+     */
+    static DocxArchive open(ByteBuffer buffer) throws IOException {
+        return new MappedZipArchive(Objects.requireNonNull(buffer, "buffer"));
+    }
+
+    /**
+     * Opens a zip package held in {@code bytes} without copying them.
+     */
+    static DocxArchive open(byte[] bytes) throws IOException {
+        return open(ByteBuffer.wrap(Objects.requireNonNull(bytes, "bytes")));
+    }
+
+    /**
+     * Reads {@code input} to the end and opens the package from memory. The stream is not closed.
+     * Nothing bounds how much is read, so this is for trusted input only: read uploads through
+     * {@link #open(InputStream, long)} or {@code DocxReader.read(InputStream)}, which enforces its
+     * {@code ReadLimits}.
+     */
+    static DocxArchive open(InputStream input) throws IOException {
+        return open(Objects.requireNonNull(input, "input").readAllBytes());
+    }
+
+    /**
+     * Like {@link #open(InputStream)}, but fails with an {@link IOException} as soon as the package
+     * grows past {@code maxBytes}, without buffering more than that.
+     */
+    static DocxArchive open(InputStream input, long maxBytes) throws IOException {
+        Objects.requireNonNull(input, "input");
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must not be negative: " + maxBytes);
+        }
+        long max = Math.min(maxBytes, Integer.MAX_VALUE - 9);
+        byte[] bytes = input.readNBytes((int) max + 1);
+        if (bytes.length > max) {
+            throw new IOException("Package is larger than " + max + " bytes");
+        }
+        return open(bytes);
+    }
+
+    /**
+     * CRC-32 and uncompressed size of a zip entry, as stored in the central directory.
+     */
+    record Checksum(long crc32, long size) {
+    }
+
+    /**
+     * Size of a part in the container and uncompressed; either is -1 when the container does not
+     * record it.
+     */
+    record PartSize(String partName, long storedSize, long size) {
+    }
+
     final class DirectoryArchive implements DocxArchive {
         private final Path root;
 
@@ -53,6 +186,22 @@ public interface DocxArchive extends AutoCloseable {
             return Files.exists(resolved);
         }
 
+        @Override
+        public OptionalLong storedSize(String partName) throws IOException {
+            Path resolved = root.resolve(partName.replace('/', java.io.File.separatorChar));
+            return Files.isRegularFile(resolved) ? OptionalLong.of(Files.size(resolved)) : OptionalLong.empty();
+        }
+
+        @Override
+        public List<PartSize> partSizes() throws IOException {
+            List<PartSize> result = new ArrayList<>();
+            for (String partName : list("")) {
+                long size = Files.size(root.resolve(partName.replace('/', java.io.File.separatorChar)));
+                result.add(new PartSize(partName, size, size));
+            }
+            return result;
+        }
+
         @Override
         public Set<String> list(String prefix) throws IOException {
             Set<String> result = new HashSet<>();
@@ -77,6 +226,10 @@ public interface DocxArchive extends AutoCloseable {
         }
     }
 
+    /**
+     * Zip backed archive. {@link ZipFile} serialises access to the central directory and hands out
+     * independent inflater streams, so parts can be read from several threads at once.
+     */
     final class ZipDocxArchive implements DocxArchive {
         private final ZipFile zipFile;
 
@@ -98,6 +251,31 @@ public interface DocxArchive extends AutoCloseable {
             return zipFile.getEntry(partName) != null;
         }
 
+        @Override
+        public Optional<Checksum> checksum(String partName) {
+            ZipEntry entry = zipFile.getEntry(partName);
+            if (entry == null || entry.getCrc() == -1 || entry.getSize() == -1) {
+                return Optional.empty();
+            }
+            return Optional.of(new Checksum(entry.getCrc(), entry.getSize()));
+        }
+
+        @Override
+        public OptionalLong storedSize(String partName) {
+            ZipEntry entry = zipFile.getEntry(partName);
+            if (entry == null || entry.getCompressedSize() == -1) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(entry.getCompressedSize());
+        }
+
+        @Override
+        public List<PartSize> partSizes() {
+            return zipFile.stream()
+                    .map(entry -> new PartSize(entry.getName(), entry.getCompressedSize(), entry.getSize()))
+                    .toList();
+        }
+
         @Override
         public Set<String> list(String prefix) {
             Set<String> result = new HashSet<>();
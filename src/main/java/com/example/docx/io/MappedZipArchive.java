@@ -0,0 +1,462 @@
+package com.example.docx.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Zip backed archive that memory-maps the package, or works on a package already held in memory,
+ * and reads the central directory once.
+ *
+ * <p>Entry names are kept in a sorted array, so {@link #exists(String)} is a binary search and
+ * {@link #list(String)} costs {@code O(log n + k)} for {@code k} matching entries. STORED entries are
+ * returned as slices of the buffer (see {@link #uncompressedView(String)}) and DEFLATED entries
+ * are inflated straight from it, so no part is copied before it is requested. The index is
+ * immutable and every stream reads its own duplicate of the buffer, so the archive can be used from
+ * several threads at once.
+ */
+public final class MappedZipArchive implements DocxArchive {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_END_SIZE = 56;
+    private static final int TAIL_GUESS = 1024;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+    private static final int FLAG_ENCRYPTED = 0x1;
+
+    private final ByteBuffer buffer;
+    private final String[] names;
+    private final Entry[] entries;
+    private volatile boolean closed;
+
+    /**
+     * Maps {@code path} read-only and indexes its central directory.
+     */
+    public MappedZipArchive(Path path) throws IOException {
+        this(map(path));
+    }
+
+    /**
+     * Indexes the zip package contained in the remaining bytes of {@code buffer}.
+     */
+    MappedZipArchive(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.slice().asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        Entry[] indexed = readCentralDirectory(this.buffer);
+        Arrays.sort(indexed, (left, right) -> left.name.compareTo(right.name));
+        this.entries = indexed;
+        this.names = new String[indexed.length];
+        for (int i = 0; i < indexed.length; i++) {
+            names[i] = indexed[i].name;
+        }
+    }
+
+    @Override
+    public InputStream open(String partName) throws IOException {
+        Entry entry = entry(partName);
+        if (entry == null) {
+            throw new IOException("Missing part: " + partName);
+        }
+        ByteBuffer data = data(entry);
+        if (entry.method == STORED) {
+            return new ByteBufferInputStream(data);
+        }
+        return new InflatingInputStream(data, entry.size);
+    }
+
+    @Override
+    public boolean exists(String partName) {
+        return entry(partName) != null;
+    }
+
+    @Override
+    public Set<String> list(String prefix) {
+        int start = lowerBound(prefix);
+        if (start == names.length || !names[start].startsWith(prefix)) {
+            return Collections.emptySet();
+        }
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = start; i < names.length && names[i].startsWith(prefix); i++) {
+            result.add(names[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public List<PartSize> partSizes() {
+        List<PartSize> result = new ArrayList<>(entries.length);
+        for (Entry entry : entries) {
+            result.add(new PartSize(entry.name, entry.compressedSize, entry.size));
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<ByteBuffer> uncompressedView(String partName) throws IOException {
+        Entry entry = entry(partName);
+        if (entry == null || entry.method != STORED) {
+            return Optional.empty();
+        }
+        return Optional.of(data(entry));
+    }
+
+    @Override
+    public Optional<Checksum> checksum(String partName) {
+        Entry entry = entry(partName);
+        return entry == null ? Optional.empty() : Optional.of(new Checksum(entry.crc32, entry.size));
+    }
+
+    @Override
+    public OptionalLong storedSize(String partName) {
+        Entry entry = entry(partName);
+        return entry == null ? OptionalLong.empty() : OptionalLong.of(entry.compressedSize);
+    }
+
+    @Override
+    public void close() {
+        // the mapping is released by the garbage collector once no slice refers to it
+        closed = true;
+    }
+
+    private Entry entry(String partName) {
+        int index = Arrays.binarySearch(names, partName);
+        if (index < 0 && !partName.endsWith("/")) {
+            index = Arrays.binarySearch(names, partName + "/");
+        }
+        return index < 0 ? null : entries[index];
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = names.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private ByteBuffer data(Entry entry) throws IOException {
+        if (closed) {
+            throw new IOException("Archive is closed");
+        }
+        long header = entry.localHeaderOffset;
+        if (header + LOCAL_HEADER_SIZE > buffer.limit() || buffer.getInt((int) header) != LOCAL_HEADER_SIGNATURE) {
+            throw new ZipException("Invalid local header for entry: " + entry.name);
+        }
+        long start = header + LOCAL_HEADER_SIZE
+                + Short.toUnsignedInt(buffer.getShort((int) header + 26))
+                + Short.toUnsignedInt(buffer.getShort((int) header + 28));
+        if (start + entry.compressedSize > buffer.limit()) {
+            throw new ZipException("Truncated entry: " + entry.name);
+        }
+        return buffer.slice((int) start, (int) entry.compressedSize);
+    }
+
+    private static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Package too large to map: " + path);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Reads the sizes of every entry of the zip file at {@code path} from its central directory,
+     * without mapping the file or reading any entry data: one read locates the directory at the end
+     * of the file and a second one fetches it. Entries are returned in directory order.
+     */
+    static List<PartSize> readPartSizes(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            // archive comments are rare, so the end record is looked for in a short tail first
+            int tailLength = (int) Math.min(size, TAIL_GUESS);
+            ByteBuffer tail = read(channel, size - tailLength, tailLength);
+            long offset;
+            try {
+                offset = locateCentralDirectory(tail, findEndOfCentralDirectory(tail), size - tailLength)[1];
+            } catch (ZipException e) {
+                if (tailLength == size) {
+                    throw e;
+                }
+                tailLength = (int) Math.min(size, END_SIZE + MAX_COMMENT_SIZE + ZIP64_LOCATOR_SIZE + ZIP64_END_SIZE);
+                tail = read(channel, size - tailLength, tailLength);
+                offset = locateCentralDirectory(tail, findEndOfCentralDirectory(tail), size - tailLength)[1];
+            }
+            if (offset < 0 || size - offset > Integer.MAX_VALUE) {
+                throw new ZipException("Invalid central directory");
+            }
+            ByteBuffer directory = offset >= size - tailLength
+                    ? tail.slice((int) (offset - (size - tailLength)), (int) (size - offset)).order(ByteOrder.LITTLE_ENDIAN)
+                    : read(channel, offset, (int) (size - offset));
+            return readPartSizes(directory, offset);
+        }
+    }
+
+    static List<PartSize> readPartSizes(ByteBuffer zip, long base) throws IOException {
+        Entry[] entries = readCentralDirectory(zip, base);
+        List<PartSize> result = new ArrayList<>(entries.length);
+        for (Entry entry : entries) {
+            result.add(new PartSize(entry.name, entry.compressedSize, entry.size));
+        }
+        return result;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of zip file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static Entry[] readCentralDirectory(ByteBuffer zip) throws IOException {
+        return readCentralDirectory(zip, 0);
+    }
+
+    /**
+     * Indexes the central directory of a zip file whose bytes from position {@code base} to the end
+     * are held in {@code zip}; offsets in the file are translated accordingly.
+     */
+    private static Entry[] readCentralDirectory(ByteBuffer zip, long base) throws IOException {
+        int end = findEndOfCentralDirectory(zip);
+        long[] directory = locateCentralDirectory(zip, end, base);
+        long count = directory[0];
+        long offset = directory[1] - base;
+        if (offset < 0 || offset > end || count > (end - offset) / CENTRAL_HEADER_SIZE) {
+            throw new ZipException("Invalid central directory");
+        }
+        Entry[] result = new Entry[(int) count];
+        int position = (int) offset;
+        for (int i = 0; i < count; i++) {
+            if (position + CENTRAL_HEADER_SIZE > end || zip.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header");
+            }
+            int flags = Short.toUnsignedInt(zip.getShort(position + 8));
+            int method = Short.toUnsignedInt(zip.getShort(position + 10));
+            long crc32 = Integer.toUnsignedLong(zip.getInt(position + 16));
+            long compressedSize = Integer.toUnsignedLong(zip.getInt(position + 20));
+            long size = Integer.toUnsignedLong(zip.getInt(position + 24));
+            int nameLength = Short.toUnsignedInt(zip.getShort(position + 28));
+            int extraLength = Short.toUnsignedInt(zip.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(zip.getShort(position + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(zip.getInt(position + 42));
+            int nameStart = position + CENTRAL_HEADER_SIZE;
+            if (nameStart + nameLength + extraLength > end) {
+                throw new ZipException("Invalid central directory header");
+            }
+            String name = decodeName(zip, nameStart, nameLength);
+            if (size == ZIP64_MAGIC || compressedSize == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+                long[] values = {size, compressedSize, localHeaderOffset};
+                readZip64Extra(zip, nameStart + nameLength, extraLength, values);
+                size = values[0];
+                compressedSize = values[1];
+                localHeaderOffset = values[2];
+            }
+            if ((flags & FLAG_ENCRYPTED) != 0) {
+                throw new ZipException("Encrypted entries are not supported: " + name);
+            }
+            if (method != STORED && method != DEFLATED) {
+                throw new ZipException("Unsupported compression method " + method + " for entry: " + name);
+            }
+            result[i] = new Entry(name, method, crc32, compressedSize, size, localHeaderOffset);
+            position = nameStart + nameLength + extraLength + commentLength;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the entry count and the file offset of the central directory whose end record is at
+     * {@code end}, following the zip64 locator when the end record overflows.
+     */
+    private static long[] locateCentralDirectory(ByteBuffer zip, int end, long base) throws ZipException {
+        long count = Short.toUnsignedInt(zip.getShort(end + 10));
+        long offset = Integer.toUnsignedLong(zip.getInt(end + 16));
+        if (count == 0xFFFF || offset == ZIP64_MAGIC) {
+            int locator = end - ZIP64_LOCATOR_SIZE;
+            if (locator >= 0 && zip.getInt(locator) == ZIP64_LOCATOR_SIGNATURE) {
+                long zip64End = zip.getLong(locator + 8) - base;
+                if (zip64End < 0 || zip64End + ZIP64_END_SIZE > zip.limit() || zip.getInt((int) zip64End) != ZIP64_END_SIGNATURE) {
+                    throw new ZipException("Invalid zip64 end of central directory");
+                }
+                count = zip.getLong((int) zip64End + 32);
+                offset = zip.getLong((int) zip64End + 48);
+            }
+        }
+        return new long[]{count, offset};
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer zip) throws ZipException {
+        int lowest = Math.max(0, zip.limit() - END_SIZE - MAX_COMMENT_SIZE);
+        for (int position = zip.limit() - END_SIZE; position >= lowest; position--) {
+            if (zip.getInt(position) == END_SIGNATURE
+                    && position + END_SIZE + Short.toUnsignedInt(zip.getShort(position + 20)) <= zip.limit()) {
+                return position;
+            }
+        }
+        throw new ZipException("End of central directory not found");
+    }
+
+    private static void readZip64Extra(ByteBuffer zip, int start, int length, long[] values) {
+        int position = start;
+        int limit = start + length;
+        while (position + 4 <= limit) {
+            int id = Short.toUnsignedInt(zip.getShort(position));
+            int size = Short.toUnsignedInt(zip.getShort(position + 2));
+            int data = position + 4;
+            if (id == ZIP64_EXTRA_ID) {
+                for (int i = 0; i < values.length && data + 8 <= Math.min(limit, position + 4 + size); i++) {
+                    if (values[i] == ZIP64_MAGIC) {
+                        values[i] = zip.getLong(data);
+                        data += 8;
+                    }
+                }
+                return;
+            }
+            position = data + size;
+        }
+    }
+
+    private static String decodeName(ByteBuffer zip, int start, int length) {
+        if (zip.hasArray()) {
+            return new String(zip.array(), zip.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        zip.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record Entry(String name, int method, long crc32, long compressedSize, long size, long localHeaderOffset) {
+    }
+
+    /**
+     * Inflates a raw deflate stream held entirely in memory.
+     */
+    private static final class InflatingInputStream extends InputStream {
+        private static final long PRESIZE_RATIO = 8;
+        private static final long PRESIZE_LIMIT = 1 << 20;
+        private final Inflater inflater = new Inflater(true);
+        private final long size;
+        private final long compressedSize;
+        private boolean dummyByteSupplied;
+        private boolean closed;
+
+        InflatingInputStream(ByteBuffer compressed, long size) {
+            this.size = size;
+            this.compressedSize = compressed.remaining();
+            inflater.setInput(compressed);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            try {
+                while (true) {
+                    int count = inflater.inflate(b, off, len);
+                    if (count > 0) {
+                        return count;
+                    }
+                    if (inflater.finished() || inflater.needsDictionary()) {
+                        return -1;
+                    }
+                    if (inflater.needsInput()) {
+                        if (dummyByteSupplied) {
+                            throw new EOFException("Unexpected end of deflated entry");
+                        }
+                        // raw inflation may need one extra byte past the end of the compressed data
+                        inflater.setInput(new byte[1]);
+                        dummyByteSupplied = true;
+                    }
+                }
+            } catch (DataFormatException e) {
+                throw new ZipException(e.getMessage() != null ? e.getMessage() : "Invalid deflated entry");
+            }
+        }
+
+        @Override
+        public byte[] readAllBytes() throws IOException {
+            if (size > Integer.MAX_VALUE - 8) {
+                return super.readAllBytes();
+            }
+            // the declared size is untrusted: start from a guess bounded by the compressed size and
+            // grow towards it, so a tiny entry cannot make us allocate gigabytes up front
+            byte[] bytes = new byte[(int) Math.min(size, Math.min(compressedSize * PRESIZE_RATIO, PRESIZE_LIMIT))];
+            int filled = 0;
+            while (true) {
+                filled += readNBytes(bytes, filled, bytes.length - filled);
+                if (filled < bytes.length) {
+                    return Arrays.copyOf(bytes, filled);
+                }
+                if (bytes.length == size) {
+                    break;
+                }
+                bytes = Arrays.copyOf(bytes, (int) Math.min(size, Math.max(bytes.length * 2L, 8192)));
+            }
+            if (read() == -1) {
+                return bytes;
+            }
+            throw new ZipException("Deflated entry is larger than its declared size");
+        }
+
+        @Override
+        public int available() {
+            return closed || inflater.finished() ? 0 : (int) Math.min(Integer.MAX_VALUE, Math.max(0, size - inflater.getBytesWritten()));
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                inflater.end();
+            }
+        }
+    }
+}
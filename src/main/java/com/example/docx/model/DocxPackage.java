@@ -1,5 +1,6 @@
 package com.example.docx.model;
 
+import com.example.docx.DocxException;
 import com.example.docx.model.document.WordDocument;
 import com.example.docx.model.metadata.AppProperties;
 import com.example.docx.model.metadata.CoreProperties;
@@ -17,17 +18,62 @@ import com.example.docx.model.support.Settings;
 import com.example.docx.model.support.Theme;
 import com.example.docx.model.support.WebSettings;
 
+import java.io.IOException;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * In-memory representation of an unpacked DOCX package. Holds all parsed parts that have
  * dedicated model classes and exposes raw access to the remaining unused parts.
+ *
+ * <p>A package built with {@link Builder#lazyParts(PartLoader, AutoCloseable)} keeps its source open and
+ * parses each {@link PartGroup} the first time one of its accessors is called. Loaded groups are
+ * memoized and safe to share between threads. Such a package must be {@linkplain #close() closed};
+ * afterwards groups that were already loaded stay available while accessing any other group throws
+ * {@link IllegalStateException}. Media of a lazy package is only registered when its group loads and
+ * its bytes are read from the source on first use, so media whose bytes were not loaded before
+ * closing throws {@link IllegalStateException} too. Closing an eagerly built package does nothing.
  */
-public final class DocxPackage {
+public final class DocxPackage implements AutoCloseable {
+
+    /**
+     * Parts that are parsed together when a package is loaded lazily.
+     */
+    public enum PartGroup {
+        STYLES(true),
+        NUMBERING(false),
+        FOOTNOTES(true),
+        ENDNOTES(true),
+        FONT_TABLE(false),
+        SETTINGS(false),
+        WEB_SETTINGS(false),
+        THEME(false),
+        CHARTS(true),
+        CUSTOM_XML(false),
+        MEDIA(false),
+        BINARY_PARTS(false);
+
+        private final boolean contributesRelationships;
+
+        PartGroup(boolean contributesRelationships) {
+            this.contributesRelationships = contributesRelationships;
+        }
+    }
+
+    /**
+     * Parses one {@link PartGroup} into {@code target}. Called at most once per group, possibly from
+     * different threads for different groups.
+     */
+    @FunctionalInterface
+    public interface PartLoader {
+        void load(PartGroup group, Builder target) throws IOException;
+    }
 
     private final CoreProperties coreProperties;
     private final AppProperties appProperties;
@@ -48,6 +94,11 @@ public final class DocxPackage {
     private final Map<String, CustomXmlPart> customXmlParts;
     private final Map<String, ChartPart> charts;
     private final Map<String, byte[]> binaryParts;
+    private final Map<PartGroup, LazyGroup> lazyGroups;
+    private final AutoCloseable source;
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private boolean closed;
+    private volatile Map<String, RelationshipSet> allRelationships;
 
     private DocxPackage(Builder builder) {
         this.coreProperties = builder.coreProperties;
@@ -69,6 +120,46 @@ public final class DocxPackage {
         this.customXmlParts = Collections.unmodifiableMap(new LinkedHashMap<>(builder.customXmlParts));
         this.charts = Collections.unmodifiableMap(new LinkedHashMap<>(builder.charts));
         this.binaryParts = Collections.unmodifiableMap(new LinkedHashMap<>(builder.binaryParts));
+        this.source = builder.source;
+        if (builder.partLoader == null) {
+            this.lazyGroups = Map.of();
+        } else {
+            this.lazyGroups = new EnumMap<>(PartGroup.class);
+            for (PartGroup group : PartGroup.values()) {
+                lazyGroups.put(group, new LazyGroup(group, builder.partLoader));
+            }
+        }
+    }
+
+    public boolean isLazy() {
+        return !lazyGroups.isEmpty();
+    }
+
+    /**
+     * Releases the source of a lazily loaded package. Idempotent.
+     */
+    @Override
+    public void close() {
+        if (source == null) {
+            return;
+        }
+        lifecycle.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            source.close();
+        } catch (Exception e) {
+            throw new DocxException("Unable to close DOCX package", e);
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+    }
+
+    private DocxPackage part(PartGroup group) {
+        LazyGroup lazy = lazyGroups.get(group);
+        return lazy == null ? this : lazy.get();
     }
 
     public Optional<CoreProperties> coreProperties() {
@@ -88,35 +179,35 @@ public final class DocxPackage {
     }
 
     public Optional<StyleDefinitions> styles() {
-        return Optional.ofNullable(styles);
+        return Optional.ofNullable(part(PartGroup.STYLES).styles);
     }
 
     public Optional<NumberingDefinitions> numbering() {
-        return Optional.ofNullable(numbering);
+        return Optional.ofNullable(part(PartGroup.NUMBERING).numbering);
     }
 
     public Optional<NoteCollection> footnotes() {
-        return Optional.ofNullable(footnotes);
+        return Optional.ofNullable(part(PartGroup.FOOTNOTES).footnotes);
     }
 
     public Optional<NoteCollection> endnotes() {
-        return Optional.ofNullable(endnotes);
+        return Optional.ofNullable(part(PartGroup.ENDNOTES).endnotes);
     }
 
     public Optional<FontTable> fontTable() {
-        return Optional.ofNullable(fontTable);
+        return Optional.ofNullable(part(PartGroup.FONT_TABLE).fontTable);
     }
 
     public Optional<Settings> settings() {
-        return Optional.ofNullable(settings);
+        return Optional.ofNullable(part(PartGroup.SETTINGS).settings);
     }
 
     public Optional<WebSettings> webSettings() {
-        return Optional.ofNullable(webSettings);
+        return Optional.ofNullable(part(PartGroup.WEB_SETTINGS).webSettings);
     }
 
     public Optional<Theme> theme() {
-        return Optional.ofNullable(theme);
+        return Optional.ofNullable(part(PartGroup.THEME).theme);
     }
 
     public Optional<ContentTypes> contentTypes() {
@@ -127,24 +218,42 @@ public final class DocxPackage {
         return Optional.ofNullable(packageRelationships);
     }
 
+    /**
+     * Relationships keyed by source part. On a lazy package this loads every group that carries
+     * relationships (styles, notes and charts).
+     */
     public Map<String, RelationshipSet> relationshipsByPart() {
-        return partRelationships;
+        if (lazyGroups.isEmpty()) {
+            return partRelationships;
+        }
+        Map<String, RelationshipSet> result = allRelationships;
+        if (result == null) {
+            Map<String, RelationshipSet> merged = new LinkedHashMap<>(partRelationships);
+            for (PartGroup group : PartGroup.values()) {
+                if (group.contributesRelationships) {
+                    merged.putAll(part(group).partRelationships);
+                }
+            }
+            result = Collections.unmodifiableMap(merged);
+            allRelationships = result;
+        }
+        return result;
     }
 
     public Map<String, MediaFile> mediaFiles() {
-        return mediaFiles;
+        return part(PartGroup.MEDIA).mediaFiles;
     }
 
     public Map<String, CustomXmlPart> customXmlParts() {
-        return customXmlParts;
+        return part(PartGroup.CUSTOM_XML).customXmlParts;
     }
 
     public Map<String, ChartPart> charts() {
-        return charts;
+        return part(PartGroup.CHARTS).charts;
     }
 
     public Map<String, byte[]> binaryParts() {
-        return binaryParts;
+        return part(PartGroup.BINARY_PARTS).binaryParts;
     }
 
     public static Builder builder() {
@@ -171,6 +280,8 @@ public final class DocxPackage {
         private final Map<String, CustomXmlPart> customXmlParts = new LinkedHashMap<>();
         private final Map<String, ChartPart> charts = new LinkedHashMap<>();
         private final Map<String, byte[]> binaryParts = new LinkedHashMap<>();
+        private PartLoader partLoader;
+        private AutoCloseable source;
 
         public Builder coreProperties(CoreProperties value) {
             this.coreProperties = value;
@@ -274,8 +385,82 @@ public final class DocxPackage {
             return this;
         }
 
+        /**
+         * Copies every part present in {@code other} into this builder, keeping insertion order of the
+         * part maps. Used to combine packages that were parsed independently.
+         */
+        public Builder merge(DocxPackage other) {
+            Objects.requireNonNull(other, "other");
+            other.coreProperties().ifPresent(this::coreProperties);
+            other.appProperties().ifPresent(this::appProperties);
+            other.customProperties().ifPresent(this::customProperties);
+            other.document().ifPresent(this::document);
+            other.styles().ifPresent(this::styles);
+            other.numbering().ifPresent(this::numbering);
+            other.footnotes().ifPresent(this::footnotes);
+            other.endnotes().ifPresent(this::endnotes);
+            other.fontTable().ifPresent(this::fontTable);
+            other.settings().ifPresent(this::settings);
+            other.webSettings().ifPresent(this::webSettings);
+            other.theme().ifPresent(this::theme);
+            other.contentTypes().ifPresent(this::contentTypes);
+            other.packageRelationships().ifPresent(this::packageRelationships);
+            this.partRelationships.putAll(other.relationshipsByPart());
+            this.mediaFiles.putAll(other.mediaFiles());
+            this.customXmlParts.putAll(other.customXmlParts());
+            this.charts.putAll(other.charts());
+            this.binaryParts.putAll(other.binaryParts());
+            return this;
+        }
+
+        /**
+         * Defers every {@link PartGroup} to {@code loader}; values set on this builder for those groups
+         * are ignored. {@code source} is closed by {@link DocxPackage#close()}.
+         */
+        public Builder lazyParts(PartLoader loader, AutoCloseable source) {
+            this.partLoader = Objects.requireNonNull(loader, "loader");
+            this.source = Objects.requireNonNull(source, "source");
+            return this;
+        }
+
         public DocxPackage build() {
             return new DocxPackage(this);
         }
     }
+
+    private final class LazyGroup {
+        private final PartGroup group;
+        private final PartLoader loader;
+        private volatile DocxPackage loaded;
+
+        private LazyGroup(PartGroup group, PartLoader loader) {
+            this.group = group;
+            this.loader = loader;
+        }
+
+        DocxPackage get() {
+            DocxPackage result = loaded;
+            if (result != null) {
+                return result;
+            }
+            synchronized (this) {
+                if (loaded == null) {
+                    lifecycle.readLock().lock();
+                    try {
+                        if (closed) {
+                            throw new IllegalStateException("DocxPackage is closed; " + group + " was not loaded");
+                        }
+                        Builder target = DocxPackage.builder();
+                        loader.load(group, target);
+                        loaded = target.build();
+                    } catch (IOException e) {
+                        throw new DocxException("Unable to load " + group + " parts of DOCX package", e);
+                    } finally {
+                        lifecycle.readLock().unlock();
+                    }
+                }
+                return loaded;
+            }
+        }
+    }
 }
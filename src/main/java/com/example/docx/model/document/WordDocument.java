@@ -1,6 +1,8 @@
 package com.example.docx.model.document;
 
 import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -485,7 +487,9 @@ public final class WordDocument {
         private final Integer size;
         private final Integer complexScriptSize;
         private final Map<String, String> fonts;
+        private final Border border;
         private final Element rawProperties;
+        private int hash;
 
         public RunProperties(String styleId,
                              boolean bold,
@@ -504,6 +508,28 @@ public final class WordDocument {
                              Integer complexScriptSize,
                              Map<String, String> fonts,
                              Element rawProperties) {
+            this(styleId, bold, italic, underline, underlineType, strike, doubleStrike, smallCaps, allCaps, vanish,
+                    color, highlight, verticalAlignment, size, complexScriptSize, fonts, null, rawProperties);
+        }
+
+        public RunProperties(String styleId,
+                             boolean bold,
+                             boolean italic,
+                             boolean underline,
+                             String underlineType,
+                             boolean strike,
+                             boolean doubleStrike,
+                             boolean smallCaps,
+                             boolean allCaps,
+                             boolean vanish,
+                             String color,
+                             String highlight,
+                             String verticalAlignment,
+                             Integer size,
+                             Integer complexScriptSize,
+                             Map<String, String> fonts,
+                             Border border,
+                             Element rawProperties) {
             this.styleId = styleId;
             this.bold = bold;
             this.italic = italic;
@@ -520,6 +546,7 @@ public final class WordDocument {
             this.size = size;
             this.complexScriptSize = complexScriptSize;
             this.fonts = fonts == null ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(fonts));
+            this.border = border;
             this.rawProperties = rawProperties;
         }
 
@@ -587,9 +614,60 @@ public final class WordDocument {
             return fonts;
         }
 
+        /**
+         * Run border ({@code w:bdr}).
+         */
+        public Optional<Border> border() {
+            return Optional.ofNullable(border);
+        }
+
         public Optional<Element> rawProperties() {
             return Optional.ofNullable(rawProperties);
         }
+
+        /**
+         * Compares the typed values and, when both sides retain it, the source XML node for node, so equal
+         * properties can be shared between runs.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RunProperties that)) {
+                return false;
+            }
+            return hashCode() == that.hashCode()
+                    && Objects.equals(styleId, that.styleId)
+                    && bold == that.bold
+                    && italic == that.italic
+                    && underline == that.underline
+                    && Objects.equals(underlineType, that.underlineType)
+                    && strike == that.strike
+                    && doubleStrike == that.doubleStrike
+                    && smallCaps == that.smallCaps
+                    && allCaps == that.allCaps
+                    && vanish == that.vanish
+                    && Objects.equals(color, that.color)
+                    && Objects.equals(highlight, that.highlight)
+                    && Objects.equals(verticalAlignment, that.verticalAlignment)
+                    && Objects.equals(size, that.size)
+                    && Objects.equals(complexScriptSize, that.complexScriptSize)
+                    && Objects.equals(fonts, that.fonts)
+                    && Objects.equals(border, that.border)
+                    && sameXml(rawProperties, that.rawProperties);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = hash;
+            if (h == 0) {
+                h = 31 * Objects.hash(styleId, bold, italic, underline, underlineType, strike, doubleStrike, smallCaps, allCaps, vanish, color, highlight, verticalAlignment, size, complexScriptSize, fonts, border)
+                        + xmlHash(rawProperties);
+                hash = h;
+            }
+            return h;
+        }
     }
 
     public static final class ParagraphProperties {
@@ -603,7 +681,11 @@ public final class WordDocument {
         private final boolean keepWithNext;
         private final boolean pageBreakBefore;
         private final List<TabStop> tabs;
+        private final Shading shading;
+        private final Borders borders;
+        private final RunProperties markRunProperties;
         private final Element rawProperties;
+        private int hash;
 
         public ParagraphProperties(String styleId,
                                    NumberingReference numbering,
@@ -616,6 +698,24 @@ public final class WordDocument {
                                    boolean pageBreakBefore,
                                    List<TabStop> tabs,
                                    Element rawProperties) {
+            this(styleId, numbering, alignment, indentation, spacing, outlineLevel, keepTogether, keepWithNext,
+                    pageBreakBefore, tabs, null, null, null, rawProperties);
+        }
+
+        public ParagraphProperties(String styleId,
+                                   NumberingReference numbering,
+                                   Alignment alignment,
+                                   Indentation indentation,
+                                   Spacing spacing,
+                                   Integer outlineLevel,
+                                   boolean keepTogether,
+                                   boolean keepWithNext,
+                                   boolean pageBreakBefore,
+                                   List<TabStop> tabs,
+                                   Shading shading,
+                                   Borders borders,
+                                   RunProperties markRunProperties,
+                                   Element rawProperties) {
             this.styleId = styleId;
             this.numbering = numbering;
             this.alignment = alignment;
@@ -626,6 +726,9 @@ public final class WordDocument {
             this.keepWithNext = keepWithNext;
             this.pageBreakBefore = pageBreakBefore;
             this.tabs = tabs == null ? List.of() : List.copyOf(tabs);
+            this.shading = shading;
+            this.borders = borders;
+            this.markRunProperties = markRunProperties;
             this.rawProperties = rawProperties;
         }
 
@@ -669,9 +772,67 @@ public final class WordDocument {
             return tabs;
         }
 
+        public Optional<Shading> shading() {
+            return Optional.ofNullable(shading);
+        }
+
+        /**
+         * Paragraph borders ({@code w:pBdr}).
+         */
+        public Optional<Borders> borders() {
+            return Optional.ofNullable(borders);
+        }
+
+        /**
+         * Run properties of the paragraph mark ({@code w:pPr/w:rPr}).
+         */
+        public Optional<RunProperties> markRunProperties() {
+            return Optional.ofNullable(markRunProperties);
+        }
+
         public Optional<Element> rawProperties() {
             return Optional.ofNullable(rawProperties);
         }
+
+        /**
+         * Compares the typed values and, when both sides retain it, the source XML node for node, so equal
+         * properties can be shared between runs.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ParagraphProperties that)) {
+                return false;
+            }
+            return hashCode() == that.hashCode()
+                    && Objects.equals(styleId, that.styleId)
+                    && Objects.equals(numbering, that.numbering)
+                    && alignment == that.alignment
+                    && Objects.equals(indentation, that.indentation)
+                    && Objects.equals(spacing, that.spacing)
+                    && Objects.equals(outlineLevel, that.outlineLevel)
+                    && keepTogether == that.keepTogether
+                    && keepWithNext == that.keepWithNext
+                    && pageBreakBefore == that.pageBreakBefore
+                    && Objects.equals(tabs, that.tabs)
+                    && Objects.equals(shading, that.shading)
+                    && Objects.equals(borders, that.borders)
+                    && Objects.equals(markRunProperties, that.markRunProperties)
+                    && sameXml(rawProperties, that.rawProperties);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = hash;
+            if (h == 0) {
+                h = 31 * Objects.hash(styleId, numbering, alignment, indentation, spacing, outlineLevel, keepTogether, keepWithNext, pageBreakBefore, tabs, shading, borders, markRunProperties)
+                        + xmlHash(rawProperties);
+                hash = h;
+            }
+            return h;
+        }
     }
 
     public static final class NumberingReference {
@@ -690,6 +851,22 @@ public final class WordDocument {
         public int level() {
             return level;
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NumberingReference that)) {
+                return false;
+            }
+            return numberingId == that.numberingId && level == that.level;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(numberingId, level);
+        }
     }
 
     public enum Alignment {
@@ -730,6 +907,22 @@ public final class WordDocument {
         public Optional<Integer> hanging() {
             return Optional.ofNullable(hanging);
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Indentation that)) {
+                return false;
+            }
+            return Objects.equals(left, that.left) && Objects.equals(right, that.right) && Objects.equals(firstLine, that.firstLine) && Objects.equals(hanging, that.hanging);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(left, right, firstLine, hanging);
+        }
     }
 
     public static final class Spacing {
@@ -760,6 +953,22 @@ public final class WordDocument {
         public Optional<String> rule() {
             return Optional.ofNullable(rule);
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Spacing that)) {
+                return false;
+            }
+            return Objects.equals(before, that.before) && Objects.equals(after, that.after) && Objects.equals(line, that.line) && Objects.equals(rule, that.rule);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after, line, rule);
+        }
     }
 
     public static final class TabStop {
@@ -778,6 +987,226 @@ public final class WordDocument {
         public Optional<Integer> position() {
             return Optional.ofNullable(position);
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TabStop that)) {
+                return false;
+            }
+            return Objects.equals(alignment, that.alignment) && Objects.equals(position, that.position);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(alignment, position);
+        }
+    }
+
+    /**
+     * Shading ({@code w:shd}) attributes as written in the part; colours are resolved against the theme
+     * when rendering.
+     */
+    public static final class Shading {
+        private final String fill;
+        private final String themeFill;
+        private final String themeFillTint;
+        private final String themeFillShade;
+        private final String themeColor;
+        private final String themeTint;
+        private final String themeShade;
+
+        public Shading(String fill,
+                       String themeFill,
+                       String themeFillTint,
+                       String themeFillShade,
+                       String themeColor,
+                       String themeTint,
+                       String themeShade) {
+            this.fill = fill;
+            this.themeFill = themeFill;
+            this.themeFillTint = themeFillTint;
+            this.themeFillShade = themeFillShade;
+            this.themeColor = themeColor;
+            this.themeTint = themeTint;
+            this.themeShade = themeShade;
+        }
+
+        public Optional<String> fill() {
+            return Optional.ofNullable(fill);
+        }
+
+        public Optional<String> themeFill() {
+            return Optional.ofNullable(themeFill);
+        }
+
+        public Optional<String> themeFillTint() {
+            return Optional.ofNullable(themeFillTint);
+        }
+
+        public Optional<String> themeFillShade() {
+            return Optional.ofNullable(themeFillShade);
+        }
+
+        public Optional<String> themeColor() {
+            return Optional.ofNullable(themeColor);
+        }
+
+        public Optional<String> themeTint() {
+            return Optional.ofNullable(themeTint);
+        }
+
+        public Optional<String> themeShade() {
+            return Optional.ofNullable(themeShade);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Shading that)) {
+                return false;
+            }
+            return Objects.equals(fill, that.fill) && Objects.equals(themeFill, that.themeFill) && Objects.equals(themeFillTint, that.themeFillTint) && Objects.equals(themeFillShade, that.themeFillShade) && Objects.equals(themeColor, that.themeColor) && Objects.equals(themeTint, that.themeTint) && Objects.equals(themeShade, that.themeShade);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fill, themeFill, themeFillTint, themeFillShade, themeColor, themeTint, themeShade);
+        }
+    }
+
+    /**
+     * A single border edge such as {@code w:top} or {@code w:bdr}.
+     */
+    public static final class Border {
+        private final String style;
+        private final Integer size;
+        private final String color;
+        private final String themeColor;
+        private final String themeTint;
+        private final String themeShade;
+
+        public Border(String style, Integer size, String color, String themeColor, String themeTint, String themeShade) {
+            this.style = style;
+            this.size = size;
+            this.color = color;
+            this.themeColor = themeColor;
+            this.themeTint = themeTint;
+            this.themeShade = themeShade;
+        }
+
+        public Optional<String> style() {
+            return Optional.ofNullable(style);
+        }
+
+        /**
+         * Border width in eighths of a point.
+         */
+        public Optional<Integer> size() {
+            return Optional.ofNullable(size);
+        }
+
+        public Optional<String> color() {
+            return Optional.ofNullable(color);
+        }
+
+        public Optional<String> themeColor() {
+            return Optional.ofNullable(themeColor);
+        }
+
+        public Optional<String> themeTint() {
+            return Optional.ofNullable(themeTint);
+        }
+
+        public Optional<String> themeShade() {
+            return Optional.ofNullable(themeShade);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Border that)) {
+                return false;
+            }
+            return Objects.equals(style, that.style) && Objects.equals(size, that.size) && Objects.equals(color, that.color) && Objects.equals(themeColor, that.themeColor) && Objects.equals(themeTint, that.themeTint) && Objects.equals(themeShade, that.themeShade);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(style, size, color, themeColor, themeTint, themeShade);
+        }
+    }
+
+    /**
+     * Border edges of a paragraph, table or cell. Inside edges only apply to tables.
+     */
+    public static final class Borders {
+        private final Border top;
+        private final Border right;
+        private final Border bottom;
+        private final Border left;
+        private final Border insideHorizontal;
+        private final Border insideVertical;
+
+        public Borders(Border top,
+                       Border right,
+                       Border bottom,
+                       Border left,
+                       Border insideHorizontal,
+                       Border insideVertical) {
+            this.top = top;
+            this.right = right;
+            this.bottom = bottom;
+            this.left = left;
+            this.insideHorizontal = insideHorizontal;
+            this.insideVertical = insideVertical;
+        }
+
+        public Optional<Border> top() {
+            return Optional.ofNullable(top);
+        }
+
+        public Optional<Border> right() {
+            return Optional.ofNullable(right);
+        }
+
+        public Optional<Border> bottom() {
+            return Optional.ofNullable(bottom);
+        }
+
+        public Optional<Border> left() {
+            return Optional.ofNullable(left);
+        }
+
+        public Optional<Border> insideHorizontal() {
+            return Optional.ofNullable(insideHorizontal);
+        }
+
+        public Optional<Border> insideVertical() {
+            return Optional.ofNullable(insideVertical);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Borders that)) {
+                return false;
+            }
+            return Objects.equals(top, that.top) && Objects.equals(right, that.right) && Objects.equals(bottom, that.bottom) && Objects.equals(left, that.left) && Objects.equals(insideHorizontal, that.insideHorizontal) && Objects.equals(insideVertical, that.insideVertical);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(top, right, bottom, left, insideHorizontal, insideVertical);
+        }
     }
 
     public static final class TableRow {
@@ -821,13 +1250,27 @@ public final class WordDocument {
         private final Integer width;
         private final String widthType;
         private final Integer look;
+        private final Shading shading;
+        private final Borders borders;
         private final Element rawProperties;
 
         public TableProperties(String styleId, Integer width, String widthType, Integer look, Element rawProperties) {
+            this(styleId, width, widthType, look, null, null, rawProperties);
+        }
+
+        public TableProperties(String styleId,
+                               Integer width,
+                               String widthType,
+                               Integer look,
+                               Shading shading,
+                               Borders borders,
+                               Element rawProperties) {
             this.styleId = styleId;
             this.width = width;
             this.widthType = widthType;
             this.look = look;
+            this.shading = shading;
+            this.borders = borders;
             this.rawProperties = rawProperties;
         }
 
@@ -847,6 +1290,17 @@ public final class WordDocument {
             return Optional.ofNullable(look);
         }
 
+        public Optional<Shading> shading() {
+            return Optional.ofNullable(shading);
+        }
+
+        /**
+         * Table borders ({@code w:tblBorders}).
+         */
+        public Optional<Borders> borders() {
+            return Optional.ofNullable(borders);
+        }
+
         public Optional<Element> rawProperties() {
             return Optional.ofNullable(rawProperties);
         }
@@ -857,6 +1311,8 @@ public final class WordDocument {
         private final Integer gridAfter;
         private final Integer gridBefore;
         private final Integer heightTwips;
+        private final String conditionalFormatting;
+        private final Shading shading;
         private final Element rawProperties;
 
         public TableRowProperties(boolean cantSplit,
@@ -864,10 +1320,22 @@ public final class WordDocument {
                                   Integer gridBefore,
                                   Integer heightTwips,
                                   Element rawProperties) {
+            this(cantSplit, gridAfter, gridBefore, heightTwips, null, null, rawProperties);
+        }
+
+        public TableRowProperties(boolean cantSplit,
+                                  Integer gridAfter,
+                                  Integer gridBefore,
+                                  Integer heightTwips,
+                                  String conditionalFormatting,
+                                  Shading shading,
+                                  Element rawProperties) {
             this.cantSplit = cantSplit;
             this.gridAfter = gridAfter;
             this.gridBefore = gridBefore;
             this.heightTwips = heightTwips;
+            this.conditionalFormatting = conditionalFormatting;
+            this.shading = shading;
             this.rawProperties = rawProperties;
         }
 
@@ -887,6 +1355,17 @@ public final class WordDocument {
             return Optional.ofNullable(heightTwips);
         }
 
+        /**
+         * Conditional formatting flags of the row ({@code w:cnfStyle/@w:val}).
+         */
+        public Optional<String> conditionalFormatting() {
+            return Optional.ofNullable(conditionalFormatting);
+        }
+
+        public Optional<Shading> shading() {
+            return Optional.ofNullable(shading);
+        }
+
         public Optional<Element> rawProperties() {
             return Optional.ofNullable(rawProperties);
         }
@@ -898,6 +1377,8 @@ public final class WordDocument {
         private final String widthType;
         private final String verticalAlignment;
         private final boolean verticalMerge;
+        private final Shading shading;
+        private final Borders borders;
         private final Element rawProperties;
 
         public TableCellProperties(Integer gridSpan,
@@ -906,11 +1387,24 @@ public final class WordDocument {
                                    String verticalAlignment,
                                    boolean verticalMerge,
                                    Element rawProperties) {
+            this(gridSpan, width, widthType, verticalAlignment, verticalMerge, null, null, rawProperties);
+        }
+
+        public TableCellProperties(Integer gridSpan,
+                                   Integer width,
+                                   String widthType,
+                                   String verticalAlignment,
+                                   boolean verticalMerge,
+                                   Shading shading,
+                                   Borders borders,
+                                   Element rawProperties) {
             this.gridSpan = gridSpan;
             this.width = width;
             this.widthType = widthType;
             this.verticalAlignment = verticalAlignment;
             this.verticalMerge = verticalMerge;
+            this.shading = shading;
+            this.borders = borders;
             this.rawProperties = rawProperties;
         }
 
@@ -934,6 +1428,17 @@ public final class WordDocument {
             return verticalMerge;
         }
 
+        public Optional<Shading> shading() {
+            return Optional.ofNullable(shading);
+        }
+
+        /**
+         * Cell borders ({@code w:tcBorders}).
+         */
+        public Optional<Borders> borders() {
+            return Optional.ofNullable(borders);
+        }
+
         public Optional<Element> rawProperties() {
             return Optional.ofNullable(rawProperties);
         }
@@ -1108,5 +1613,34 @@ public final class WordDocument {
             return Optional.ofNullable(rawProperties);
         }
     }
-}
 
+    private static boolean sameXml(Element left, Element right) {
+        return left == right || (left != null && right != null && left.isEqualNode(right));
+    }
+
+    /**
+     * Hashes what {@link Node#isEqualNode(Node)} compares, so properties that differ only in untyped
+     * children do not all collide in the intern table. Attributes are unordered, as in
+     * {@code isEqualNode}.
+     */
+    private static int xmlHash(Node node) {
+        if (node == null) {
+            return 0;
+        }
+        int h = node.getNodeType() * 31 + Objects.hashCode(node.getNodeName());
+        h = h * 31 + Objects.hashCode(node.getNodeValue());
+        NamedNodeMap attributes = node.getAttributes();
+        if (attributes != null) {
+            int sum = 0;
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Node attribute = attributes.item(i);
+                sum += Objects.hashCode(attribute.getNodeName()) * 31 + Objects.hashCode(attribute.getNodeValue());
+            }
+            h = h * 31 + sum;
+        }
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            h = h * 31 + xmlHash(child);
+        }
+        return h;
+    }
+}
@@ -16,13 +16,25 @@ public final class StyleDefinitions {
 
     private final Map<String, Style> styles;
     private final List<String> defaultParagraphStyleHierarchy;
+    private final WordDocument.ParagraphProperties defaultParagraphProperties;
+    private final WordDocument.RunProperties defaultRunProperties;
     private final Element rawDocumentDefaults;
 
     public StyleDefinitions(Map<String, Style> styles,
                             List<String> defaultParagraphStyleHierarchy,
                             Element rawDocumentDefaults) {
+        this(styles, defaultParagraphStyleHierarchy, null, null, rawDocumentDefaults);
+    }
+
+    public StyleDefinitions(Map<String, Style> styles,
+                            List<String> defaultParagraphStyleHierarchy,
+                            WordDocument.ParagraphProperties defaultParagraphProperties,
+                            WordDocument.RunProperties defaultRunProperties,
+                            Element rawDocumentDefaults) {
         this.styles = Collections.unmodifiableMap(new LinkedHashMap<>(styles));
         this.defaultParagraphStyleHierarchy = List.copyOf(defaultParagraphStyleHierarchy);
+        this.defaultParagraphProperties = defaultParagraphProperties;
+        this.defaultRunProperties = defaultRunProperties;
         this.rawDocumentDefaults = rawDocumentDefaults;
     }
 
@@ -38,6 +50,20 @@ public final class StyleDefinitions {
         return defaultParagraphStyleHierarchy;
     }
 
+    /**
+     * Paragraph properties from {@code w:docDefaults/w:pPrDefault}.
+     */
+    public Optional<WordDocument.ParagraphProperties> defaultParagraphProperties() {
+        return Optional.ofNullable(defaultParagraphProperties);
+    }
+
+    /**
+     * Run properties from {@code w:docDefaults/w:rPrDefault}.
+     */
+    public Optional<WordDocument.RunProperties> defaultRunProperties() {
+        return Optional.ofNullable(defaultRunProperties);
+    }
+
     public Optional<Element> rawDocumentDefaults() {
         return Optional.ofNullable(rawDocumentDefaults);
     }
@@ -58,6 +84,7 @@ public final class StyleDefinitions {
         private final WordDocument.ParagraphProperties paragraphProperties;
         private final WordDocument.RunProperties runProperties;
         private final TableStyleProperties tableProperties;
+        private final List<TableStyleOverride> tableStyleOverrides;
         private final Element rawStyle;
 
         public Style(String styleId,
@@ -72,6 +99,23 @@ public final class StyleDefinitions {
                      WordDocument.RunProperties runProperties,
                      TableStyleProperties tableProperties,
                      Element rawStyle) {
+            this(styleId, type, name, basedOn, next, link, defaultStyle, customStyle,
+                    paragraphProperties, runProperties, tableProperties, List.of(), rawStyle);
+        }
+
+        public Style(String styleId,
+                     String type,
+                     String name,
+                     String basedOn,
+                     String next,
+                     String link,
+                     boolean defaultStyle,
+                     boolean customStyle,
+                     WordDocument.ParagraphProperties paragraphProperties,
+                     WordDocument.RunProperties runProperties,
+                     TableStyleProperties tableProperties,
+                     List<TableStyleOverride> tableStyleOverrides,
+                     Element rawStyle) {
             this.styleId = styleId;
             this.type = type;
             this.name = name;
@@ -83,6 +127,7 @@ public final class StyleDefinitions {
             this.paragraphProperties = paragraphProperties;
             this.runProperties = runProperties;
             this.tableProperties = tableProperties;
+            this.tableStyleOverrides = tableStyleOverrides == null ? List.of() : List.copyOf(tableStyleOverrides);
             this.rawStyle = rawStyle;
         }
 
@@ -130,20 +175,79 @@ public final class StyleDefinitions {
             return Optional.ofNullable(tableProperties);
         }
 
+        /**
+         * Conditional table formatting ({@code w:tblStylePr}) in document order.
+         */
+        public List<TableStyleOverride> tableStyleOverrides() {
+            return tableStyleOverrides;
+        }
+
         public Optional<Element> rawStyle() {
             return Optional.ofNullable(rawStyle);
         }
     }
 
     public static final class TableStyleProperties {
+        private final WordDocument.Shading shading;
+        private final WordDocument.Borders borders;
         private final Element rawProperties;
 
         public TableStyleProperties(Element rawProperties) {
+            this(null, null, rawProperties);
+        }
+
+        public TableStyleProperties(WordDocument.Shading shading, WordDocument.Borders borders, Element rawProperties) {
+            this.shading = shading;
+            this.borders = borders;
             this.rawProperties = rawProperties;
         }
 
+        public Optional<WordDocument.Shading> shading() {
+            return Optional.ofNullable(shading);
+        }
+
+        public Optional<WordDocument.Borders> borders() {
+            return Optional.ofNullable(borders);
+        }
+
         public Optional<Element> rawProperties() {
             return Optional.ofNullable(rawProperties);
         }
     }
+
+    /**
+     * Formatting applied to one region of a table ({@code w:tblStylePr}), e.g. {@code firstRow}.
+     */
+    public static final class TableStyleOverride {
+        private final String type;
+        private final WordDocument.RunProperties runProperties;
+        private final WordDocument.TableProperties tableProperties;
+        private final WordDocument.TableCellProperties cellProperties;
+
+        public TableStyleOverride(String type,
+                                  WordDocument.RunProperties runProperties,
+                                  WordDocument.TableProperties tableProperties,
+                                  WordDocument.TableCellProperties cellProperties) {
+            this.type = type;
+            this.runProperties = runProperties;
+            this.tableProperties = tableProperties;
+            this.cellProperties = cellProperties;
+        }
+
+        public String type() {
+            return type;
+        }
+
+        public Optional<WordDocument.RunProperties> runProperties() {
+            return Optional.ofNullable(runProperties);
+        }
+
+        public Optional<WordDocument.TableProperties> tableProperties() {
+            return Optional.ofNullable(tableProperties);
+        }
+
+        public Optional<WordDocument.TableCellProperties> cellProperties() {
+            return Optional.ofNullable(cellProperties);
+        }
+    }
 }
@@ -1,19 +1,79 @@
 package com.example.docx.model.support;
 
+import com.example.docx.DocxException;
+import com.example.docx.io.ByteBufferInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Binary media contained in the DOCX package (images, embedded objects, etc.).
+ *
+ * <p>Media read through a lazily opened package is {@linkplain #deferred deferred}: nothing is read
+ * until the bytes are requested, {@link #openStream()} and {@link #transferTo(OutputStream)} stream
+ * straight from the archive, and {@link #buffer()} loads the part once and shares it read-only.
+ * Bytes loaded through {@link #buffer()} or {@link #data()} stay available once the package is
+ * closed; any other access then throws {@link IllegalStateException}.
  */
 public final class MediaFile {
+
+    /**
+     * Opens the bytes of a media part. May be called more than once.
+     */
+    @FunctionalInterface
+    public interface Content {
+        InputStream open() throws IOException;
+
+        /**
+         * Reads the whole part. Sources that already hold the bytes may return them without copying.
+         */
+        default ByteBuffer read() throws IOException {
+            try (InputStream input = open()) {
+                return ByteBuffer.wrap(input.readAllBytes());
+            }
+        }
+    }
+
     private final String partName;
     private final String contentType;
-    private final byte[] data;
+    private final Content content;
+    private volatile ByteBuffer data;
 
     public MediaFile(String partName, String contentType, byte[] data) {
+        this(partName, contentType, ByteBuffer.wrap(Arrays.copyOf(data, data.length)), null);
+    }
+
+    private MediaFile(String partName, String contentType, ByteBuffer data, Content content) {
         this.partName = partName;
         this.contentType = contentType;
-        this.data = Arrays.copyOf(data, data.length);
+        this.data = data;
+        this.content = content;
+    }
+
+    /**
+     * Creates a media file that takes ownership of {@code data} without copying it.
+     */
+    public static MediaFile wrap(String partName, String contentType, byte[] data) {
+        return new MediaFile(partName, contentType, ByteBuffer.wrap(Objects.requireNonNull(data, "data")), null);
+    }
+
+    /**
+     * Creates a media file backed by the remaining bytes of {@code data} (for instance a slice of a
+     * memory-mapped archive) without copying them. The buffer must not be modified afterwards.
+     */
+    public static MediaFile wrap(String partName, String contentType, ByteBuffer data) {
+        return new MediaFile(partName, contentType, Objects.requireNonNull(data, "data").slice(), null);
+    }
+
+    /**
+     * Creates a media file whose bytes are read from {@code content} on first use.
+     */
+    public static MediaFile deferred(String partName, String contentType, Content content) {
+        return new MediaFile(partName, contentType, null, Objects.requireNonNull(content, "content"));
     }
 
     public String partName() {
@@ -24,7 +84,63 @@ public final class MediaFile {
         return contentType;
     }
 
+    /**
+     * Returns a copy of the media bytes. Prefer {@link #buffer()} or {@link #openStream()}.
+     */
     public byte[] data() {
-        return Arrays.copyOf(data, data.length);
+        ByteBuffer bytes = bytes().duplicate();
+        byte[] copy = new byte[bytes.remaining()];
+        bytes.get(copy);
+        return copy;
+    }
+
+    /**
+     * Returns a read-only view of the media bytes, loading them on first call.
+     */
+    public ByteBuffer buffer() {
+        return bytes().asReadOnlyBuffer();
+    }
+
+    /**
+     * Opens a stream over the media bytes. Deferred media that has not been loaded yet is streamed
+     * from its source without being retained.
+     */
+    public InputStream openStream() throws IOException {
+        ByteBuffer loaded = data;
+        if (loaded != null) {
+            return new ByteBufferInputStream(loaded);
+        }
+        return content.open();
+    }
+
+    /**
+     * Writes the media bytes to {@code output} and returns the number of bytes written.
+     */
+    public long transferTo(OutputStream output) throws IOException {
+        Objects.requireNonNull(output, "output");
+        try (InputStream input = openStream()) {
+            return input.transferTo(output);
+        }
+    }
+
+    public boolean isLoaded() {
+        return data != null;
+    }
+
+    private ByteBuffer bytes() {
+        ByteBuffer loaded = data;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (this) {
+            if (data == null) {
+                try {
+                    data = content.read().slice();
+                } catch (IOException e) {
+                    throw new DocxException("Unable to read media part: " + partName, e);
+                }
+            }
+            return data;
+        }
     }
 }
@@ -19,22 +19,19 @@ final class BlockParser {
     }
 
     WordDocument.Block parse(Element element, RelationshipSet relationships) {
-        if (!Namespaces.WORD_MAIN.equals(element.getNamespaceURI())) {
-            throw ParserSupport.unknownElement("block", element);
-        }
-        return switch (element.getLocalName()) {
-            case "p" -> context.paragraphParser.parseParagraph(element, relationships);
-            case "tbl" -> context.tableParser.parseTable(element, relationships);
-            case "sdt" -> parseStructuredDocumentTag(element, relationships);
-            case "sectPr" -> new WordDocument.SectionBreak(SectionParser.parseSectionProperties(element));
-            case "bookmarkStart" -> parseBookmark(element, WordDocument.Bookmark.Kind.START);
-            case "bookmarkEnd" -> parseBookmark(element, WordDocument.Bookmark.Kind.END);
+        return switch (WordElement.of(element)) {
+            case P -> context.paragraphParser.parseParagraph(element, relationships);
+            case TBL -> context.tableParser.parseTable(element, relationships);
+            case SDT -> parseStructuredDocumentTag(element, relationships);
+            case SECT_PR -> new WordDocument.SectionBreak(SectionParser.parseSectionProperties(element, context));
+            case BOOKMARK_START -> parseBookmark(element, WordDocument.Bookmark.Kind.START);
+            case BOOKMARK_END -> parseBookmark(element, WordDocument.Bookmark.Kind.END);
             default -> throw ParserSupport.unknownElement("block", element);
         };
     }
 
     WordDocument.StructuredDocumentTag parseStructuredDocumentTag(Element element, RelationshipSet relationships) {
-        WordDocument.SdtProperties props = SdtParser.parseProperties(element);
+        WordDocument.SdtProperties props = SdtParser.parseProperties(element, context);
         Element content = XmlUtils.firstChild(element, Namespaces.WORD_MAIN, "sdtContent").orElse(null);
         List<WordDocument.Block> blocks = content != null
                 ? parseChildBlocks(content, relationships)
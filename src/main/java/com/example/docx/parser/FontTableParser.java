@@ -15,6 +15,16 @@ import java.util.Map;
  */
 public final class FontTableParser {
 
+    private final ParsingContext context;
+
+    public FontTableParser() {
+        this(new ParsingContext());
+    }
+
+    public FontTableParser(ParsingContext context) {
+        this.context = context;
+    }
+
     public FontTable parse(DocxArchive archive) throws IOException {
         if (!archive.exists("word/fontTable.xml")) {
             return null;
@@ -35,7 +45,7 @@ public final class FontTableParser {
                         props.put(child.getLocalName(), val);
                     }
                 }
-                fonts.put(name, new FontTable.Font(name, props, fontEl));
+                fonts.put(name, new FontTable.Font(name, props, context.retain(fontEl)));
             }
             return new FontTable(fonts);
         }
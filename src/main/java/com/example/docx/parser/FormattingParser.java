@@ -0,0 +1,135 @@
+package com.example.docx.parser;
+
+import com.example.docx.model.document.WordDocument;
+import org.w3c.dom.Element;
+
+/**
+ * Reads shading, border and conditional formatting children shared by paragraph, run, table and cell
+ * properties.
+ */
+public final class FormattingParser {
+
+    private FormattingParser() {
+    }
+
+    /**
+     * Returns the {@code w:shd} child of {@code properties}, or {@code null} when there is none.
+     */
+    public static WordDocument.Shading parseShading(Element properties) {
+        if (properties == null) {
+            return null;
+        }
+        return readShading(XmlUtils.child(properties, Namespaces.WORD_MAIN, "shd"));
+    }
+
+    /**
+     * Reads a {@code w:shd} element found by the caller; {@code null} yields {@code null}.
+     */
+    static WordDocument.Shading readShading(Element shading) {
+        if (shading == null) {
+            return null;
+        }
+        return new WordDocument.Shading(
+                wordAttribute(shading, "fill"),
+                wordAttribute(shading, "themeFill"),
+                wordAttribute(shading, "themeFillTint"),
+                wordAttribute(shading, "themeFillShade"),
+                wordAttribute(shading, "themeColor"),
+                wordAttribute(shading, "themeTint"),
+                wordAttribute(shading, "themeShade"));
+    }
+
+    /**
+     * Returns the border container {@code localName} (e.g. {@code pBdr}, {@code tcBorders},
+     * {@code tblBorders}) of {@code properties}, or {@code null} when there is none.
+     */
+    public static WordDocument.Borders parseBorders(Element properties, String localName) {
+        if (properties == null) {
+            return null;
+        }
+        return readBorders(XmlUtils.child(properties, Namespaces.WORD_MAIN, localName));
+    }
+
+    /**
+     * Reads a border container element found by the caller in one pass over its edges; {@code null}
+     * yields {@code null}.
+     */
+    static WordDocument.Borders readBorders(Element borders) {
+        if (borders == null) {
+            return null;
+        }
+        Element top = null;
+        Element right = null;
+        Element bottom = null;
+        Element left = null;
+        Element insideH = null;
+        Element insideV = null;
+        for (Element edge = XmlUtils.firstChildElement(borders); edge != null; edge = XmlUtils.nextSiblingElement(edge)) {
+            // the first occurrence of an edge wins, as with a lookup by name
+            switch (WordElement.of(edge)) {
+                case TOP -> top = top != null ? top : edge;
+                case RIGHT -> right = right != null ? right : edge;
+                case BOTTOM -> bottom = bottom != null ? bottom : edge;
+                case LEFT -> left = left != null ? left : edge;
+                case INSIDE_H -> insideH = insideH != null ? insideH : edge;
+                case INSIDE_V -> insideV = insideV != null ? insideV : edge;
+                default -> {
+                }
+            }
+        }
+        return new WordDocument.Borders(parseBorder(top), parseBorder(right), parseBorder(bottom),
+                parseBorder(left), parseBorder(insideH), parseBorder(insideV));
+    }
+
+    /**
+     * Returns the run border ({@code w:bdr}) of {@code rPr}, or {@code null} when there is none.
+     */
+    public static WordDocument.Border parseRunBorder(Element rPr) {
+        if (rPr == null) {
+            return null;
+        }
+        return edge(rPr, "bdr");
+    }
+
+    public static WordDocument.Border parseBorder(Element border) {
+        if (border == null) {
+            return null;
+        }
+        return new WordDocument.Border(
+                wordAttribute(border, "val"),
+                XmlUtils.intAttribute(border, "w:sz"),
+                wordAttribute(border, "color"),
+                wordAttribute(border, "themeColor"),
+                wordAttribute(border, "themeTint"),
+                wordAttribute(border, "themeShade"));
+    }
+
+    /**
+     * Returns the {@code w:cnfStyle/@w:val} flags of {@code properties}, or {@code null}.
+     */
+    public static String parseConditionalFormatting(Element properties) {
+        if (properties == null) {
+            return null;
+        }
+        return readConditionalFormatting(XmlUtils.child(properties, Namespaces.WORD_MAIN, "cnfStyle"));
+    }
+
+    static String readConditionalFormatting(Element cnfStyle) {
+        return cnfStyle != null ? wordAttribute(cnfStyle, "val") : null;
+    }
+
+    private static WordDocument.Border edge(Element parent, String localName) {
+        return parseBorder(XmlUtils.child(parent, Namespaces.WORD_MAIN, localName));
+    }
+
+    private static String wordAttribute(Element element, String localName) {
+        String value = XmlUtils.attribute(element, "w:" + localName);
+        if (value == null || value.isBlank()) {
+            value = XmlUtils.attribute(element, localName);
+        }
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value;
+    }
+}
@@ -1,16 +1,19 @@
 package com.example.docx.parser;
 
+import com.example.docx.BlockVisitor;
 import com.example.docx.io.DocxArchive;
 import com.example.docx.model.document.WordDocument;
 import com.example.docx.model.relationship.RelationshipSet;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
+import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
 import java.io.InputStream;
 
 /**
  * Parses the main document part ({@code word/document.xml}).
+ * <p>
+ * The part is read with a pull parser so the body never exists as a full DOM tree; blocks are
+ * decoded one at a time by {@link StreamingBlockParser}.
  */
 public final class MainDocumentParser {
 
@@ -21,26 +24,62 @@ public final class MainDocumentParser {
     }
 
     public WordDocument parse(DocxArchive archive, RelationshipSet relationships) throws IOException {
+        WordDocument.Builder builder = WordDocument.builder();
+        boolean found = stream(archive, relationships, new BlockVisitor() {
+            @Override
+            public void visitBlock(WordDocument.Block block) {
+                builder.addBlock(block);
+            }
+
+            @Override
+            public void visitSectionProperties(WordDocument.SectionProperties sectionProperties) {
+                builder.sectionProperties(sectionProperties);
+            }
+        });
+        return found ? builder.build() : null;
+    }
+
+    /**
+     * Hands each top-level block to {@code visitor} as soon as it has been parsed, without
+     * accumulating the body. Returns {@code false} when the package has no main document part.
+     */
+    public boolean stream(DocxArchive archive, RelationshipSet relationships, BlockVisitor visitor) throws IOException {
         if (!archive.exists("word/document.xml")) {
-            return null;
+            return false;
         }
-        try (InputStream input = archive.open("word/document.xml")) {
-            Document document = XmlUtils.parse(input);
-            Element root = document.getDocumentElement();
-            Element body = XmlUtils.firstChild(root, Namespaces.WORD_MAIN, "body")
-                    .orElseThrow(() -> new IOException("Missing <w:body> element"));
-            WordDocument.Builder builder = WordDocument.builder();
-            for (Element child : XmlUtils.childElements(body)) {
-                if (!Namespaces.WORD_MAIN.equals(child.getNamespaceURI())) {
-                    throw ParserSupport.unknownElement("body", child);
+        try (InputStream input = archive.open("word/document.xml");
+             PartReader reader = new PartReader(XmlUtils.openStream(input))) {
+            reader.moveToRoot();
+            if (!moveToBody(reader)) {
+                throw new IOException("Missing <w:body> element");
+            }
+            WordDocument.SectionProperties sectionProperties = null;
+            while (reader.nextChild()) {
+                if (!reader.isWordElement()) {
+                    throw reader.unknownElement("body");
                 }
-                if ("sectPr".equals(child.getLocalName())) {
-                    builder.sectionProperties(SectionParser.parseSectionProperties(child));
+                if (reader.element() == WordElement.SECT_PR) {
+                    sectionProperties = SectionParser.parseSectionProperties(reader.readFragment(), context);
                 } else {
-                    builder.addBlock(context.blockParser.parse(child, relationships));
+                    visitor.visitBlock(context.streamingBlockParser.parseBlock(reader, relationships));
                 }
             }
-            return builder.build();
+            if (sectionProperties != null) {
+                visitor.visitSectionProperties(sectionProperties);
+            }
+            return true;
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to parse XML document", e);
+        }
+    }
+
+    private boolean moveToBody(PartReader reader) throws XMLStreamException {
+        while (reader.nextChild()) {
+            if (reader.element() == WordElement.BODY) {
+                return true;
+            }
+            reader.skipElement();
         }
+        return false;
     }
 }
@@ -15,6 +15,16 @@ import java.util.Map;
  */
 public final class NumberingParser {
 
+    private final ParsingContext context;
+
+    public NumberingParser() {
+        this(new ParsingContext());
+    }
+
+    public NumberingParser(ParsingContext context) {
+        this.context = context;
+    }
+
     public NumberingDefinitions parse(DocxArchive archive) throws IOException {
         if (!archive.exists("word/numbering.xml")) {
             return null;
@@ -40,9 +50,9 @@ public final class NumberingParser {
                     Integer restart = XmlUtils.firstChild(levelEl, Namespaces.WORD_MAIN, "lvlRestart")
                             .map(el -> XmlUtils.intAttribute(el, "w:val"))
                             .orElse(null);
-                    levels.put(level, new NumberingDefinitions.Level(level, fmt, text, start, restart, levelEl));
+                    levels.put(level, new NumberingDefinitions.Level(level, fmt, text, start, restart, context.retain(levelEl)));
                 }
-                builder.addAbstractNumbering(new NumberingDefinitions.AbstractNumbering(id, levels, abstractNum));
+                builder.addAbstractNumbering(new NumberingDefinitions.AbstractNumbering(id, levels, context.retain(abstractNum)));
             }
             for (Element num : XmlUtils.children(root, Namespaces.WORD_MAIN, "num")) {
                 int id = Integer.parseInt(num.getAttributeNS(Namespaces.WORD_MAIN, "numId"));
@@ -71,11 +81,11 @@ public final class NumberingParser {
                                 XmlUtils.firstChild(levelEl, Namespaces.WORD_MAIN, "lvlRestart")
                                         .map(el -> XmlUtils.intAttribute(el, "w:val"))
                                         .orElse(null),
-                                levelEl);
+                                context.retain(levelEl));
                     }
                     overrides.put(level, new NumberingDefinitions.LevelOverride(level, startOverride, definition));
                 }
-                builder.addNumberingInstance(new NumberingDefinitions.NumberingInstance(id, abstractId, overrides, num));
+                builder.addNumberingInstance(new NumberingDefinitions.NumberingInstance(id, abstractId, overrides, context.retain(num)));
             }
             return builder.build();
         }
@@ -20,25 +20,22 @@ final class ParagraphParser {
     }
 
     WordDocument.Paragraph parseParagraph(Element paragraph, RelationshipSet relationships) {
-        WordDocument.ParagraphProperties properties = parseProperties(paragraph);
+        WordDocument.ParagraphProperties properties = parseProperties(XmlUtils.child(paragraph, Namespaces.WORD_MAIN, "pPr"));
         List<WordDocument.ParagraphContent> contents = new ArrayList<>();
-        for (Element child : XmlUtils.childElements(paragraph)) {
-            if (!Namespaces.WORD_MAIN.equals(child.getNamespaceURI())) {
-                throw ParserSupport.unknownElement("paragraph content", child);
-            }
-            switch (child.getLocalName()) {
-                case "pPr" -> {
+        for (Element child = XmlUtils.firstChildElement(paragraph); child != null; child = XmlUtils.nextSiblingElement(child)) {
+            switch (WordElement.of(child)) {
+                case P_PR -> {
                     // already handled when parsing properties
                 }
-                case "r" -> contents.add(context.runParser.parse(child));
-                case "hyperlink" -> contents.add(parseHyperlink(child, relationships));
-                case "bookmarkStart" -> contents.add(new WordDocument.BookmarkStart(
+                case R -> contents.add(context.runParser.parse(child));
+                case HYPERLINK -> contents.add(parseHyperlink(child, relationships));
+                case BOOKMARK_START -> contents.add(new WordDocument.BookmarkStart(
                         child.getAttributeNS(Namespaces.WORD_MAIN, "id"),
                         child.getAttributeNS(Namespaces.WORD_MAIN, "name")));
-                case "bookmarkEnd" -> contents.add(new WordDocument.BookmarkEnd(
+                case BOOKMARK_END -> contents.add(new WordDocument.BookmarkEnd(
                         child.getAttributeNS(Namespaces.WORD_MAIN, "id")));
-                case "fldSimple" -> contents.add(parseSimpleField(child));
-                case "sdt" -> contents.add(parseStructuredDocumentTagRun(child, relationships));
+                case FLD_SIMPLE -> contents.add(parseSimpleField(child));
+                case SDT -> contents.add(parseStructuredDocumentTagRun(child, relationships));
                 default -> throw ParserSupport.unknownElement("paragraph content", child);
             }
         }
@@ -46,7 +43,7 @@ final class ParagraphParser {
     }
 
     private WordDocument.StructuredDocumentTagRun parseStructuredDocumentTagRun(Element element, RelationshipSet relationships) {
-        WordDocument.SdtProperties props = SdtParser.parseProperties(element);
+        WordDocument.SdtProperties props = SdtParser.parseProperties(element, context);
         Element content = XmlUtils.firstChild(element, Namespaces.WORD_MAIN, "sdtContent").orElse(null);
         List<WordDocument.ParagraphContent> items = new ArrayList<>();
         if (content != null) {
@@ -58,19 +55,16 @@ final class ParagraphParser {
     }
 
     private WordDocument.ParagraphContent parseParagraphContent(Element element, RelationshipSet relationships) {
-        if (!Namespaces.WORD_MAIN.equals(element.getNamespaceURI())) {
-            throw ParserSupport.unknownElement("structured document content", element);
-        }
-        return switch (element.getLocalName()) {
-            case "r" -> context.runParser.parse(element);
-            case "hyperlink" -> parseHyperlink(element, relationships);
-            case "bookmarkStart" -> new WordDocument.BookmarkStart(
+        return switch (WordElement.of(element)) {
+            case R -> context.runParser.parse(element);
+            case HYPERLINK -> parseHyperlink(element, relationships);
+            case BOOKMARK_START -> new WordDocument.BookmarkStart(
                     element.getAttributeNS(Namespaces.WORD_MAIN, "id"),
                     element.getAttributeNS(Namespaces.WORD_MAIN, "name"));
-            case "bookmarkEnd" -> new WordDocument.BookmarkEnd(
+            case BOOKMARK_END -> new WordDocument.BookmarkEnd(
                     element.getAttributeNS(Namespaces.WORD_MAIN, "id"));
-            case "fldSimple" -> parseSimpleField(element);
-            case "sdt" -> parseStructuredDocumentTagRun(element, relationships);
+            case FLD_SIMPLE -> parseSimpleField(element);
+            case SDT -> parseStructuredDocumentTagRun(element, relationships);
             default -> throw ParserSupport.unknownElement("structured document content", element);
         };
     }
@@ -105,65 +99,85 @@ final class ParagraphParser {
         return run;
     }
 
-    private WordDocument.ParagraphProperties parseProperties(Element paragraph) {
-        Element pPr = XmlUtils.firstChild(paragraph, Namespaces.WORD_MAIN, "pPr").orElse(null);
+    WordDocument.ParagraphProperties parseProperties(Element pPr) {
         if (pPr == null) {
-            return new WordDocument.ParagraphProperties(null, null, null, null, null,
-                    null, false, false, false, List.of(), null);
+            return context.intern(new WordDocument.ParagraphProperties(null, null, null, null, null,
+                    null, false, false, false, List.of(), null));
+        }
+        // one sweep over the children; the first occurrence of each property wins
+        Element pStyle = null;
+        Element numPr = null;
+        Element jc = null;
+        Element ind = null;
+        Element spacing = null;
+        Element outlineLvl = null;
+        Element keepLines = null;
+        Element keepNext = null;
+        Element pageBreakBefore = null;
+        Element tabs = null;
+        Element rPr = null;
+        Element shd = null;
+        Element pBdr = null;
+        for (Element child = XmlUtils.firstChildElement(pPr); child != null; child = XmlUtils.nextSiblingElement(child)) {
+            switch (WordElement.of(child)) {
+                case P_STYLE -> pStyle = pStyle != null ? pStyle : child;
+                case NUM_PR -> numPr = numPr != null ? numPr : child;
+                case JC -> jc = jc != null ? jc : child;
+                case IND -> ind = ind != null ? ind : child;
+                case SPACING -> spacing = spacing != null ? spacing : child;
+                case OUTLINE_LVL -> outlineLvl = outlineLvl != null ? outlineLvl : child;
+                case KEEP_LINES -> keepLines = keepLines != null ? keepLines : child;
+                case KEEP_NEXT -> keepNext = keepNext != null ? keepNext : child;
+                case PAGE_BREAK_BEFORE -> pageBreakBefore = pageBreakBefore != null ? pageBreakBefore : child;
+                case TABS -> tabs = tabs != null ? tabs : child;
+                case R_PR -> rPr = rPr != null ? rPr : child;
+                case SHD -> shd = shd != null ? shd : child;
+                case P_BDR -> pBdr = pBdr != null ? pBdr : child;
+                default -> {
+                }
+            }
         }
-        String styleId = XmlUtils.firstChild(pPr, Namespaces.WORD_MAIN, "pStyle")
-                .map(el -> el.getAttributeNS(Namespaces.WORD_MAIN, "val"))
-                .filter(val -> !val.isEmpty())
-                .orElse(null);
-        WordDocument.NumberingReference numbering = parseNumbering(pPr);
-        WordDocument.Alignment alignment = parseAlignment(pPr);
-        WordDocument.Indentation indentation = parseIndentation(pPr);
-        WordDocument.Spacing spacing = parseSpacing(pPr);
-        Integer outlineLevel = XmlUtils.firstChild(pPr, Namespaces.WORD_MAIN, "outlineLvl")
-                .map(el -> XmlUtils.intAttribute(el, "w:val"))
-                .orElse(null);
-        boolean keepTogether = XmlUtils.booleanElement(pPr, Namespaces.WORD_MAIN, "keepLines");
-        boolean keepWithNext = XmlUtils.booleanElement(pPr, Namespaces.WORD_MAIN, "keepNext");
-        boolean pageBreakBefore = XmlUtils.booleanElement(pPr, Namespaces.WORD_MAIN, "pageBreakBefore");
-        List<WordDocument.TabStop> tabs = parseTabs(pPr);
-        return new WordDocument.ParagraphProperties(styleId, numbering, alignment, indentation, spacing,
-                outlineLevel, keepTogether, keepWithNext, pageBreakBefore, tabs, pPr);
+        return context.intern(new WordDocument.ParagraphProperties(RunParser.wordValue(pStyle), parseNumbering(numPr),
+                parseAlignment(jc), parseIndentation(ind), parseSpacing(spacing),
+                outlineLvl != null ? XmlUtils.intAttribute(outlineLvl, "w:val") : null,
+                keepLines != null && XmlUtils.booleanValue(keepLines),
+                keepNext != null && XmlUtils.booleanValue(keepNext),
+                pageBreakBefore != null && XmlUtils.booleanValue(pageBreakBefore),
+                parseTabs(tabs), FormattingParser.readShading(shd), FormattingParser.readBorders(pBdr),
+                rPr != null ? context.runParser.parseRunProperties(rPr) : null, context.retain(pPr)));
     }
 
-    private WordDocument.NumberingReference parseNumbering(Element pPr) {
-        Element numPr = XmlUtils.firstChild(pPr, Namespaces.WORD_MAIN, "numPr").orElse(null);
+    private WordDocument.NumberingReference parseNumbering(Element numPr) {
         if (numPr == null) {
             return null;
         }
-        Integer numId = XmlUtils.firstChild(numPr, Namespaces.WORD_MAIN, "numId")
-                .map(el -> XmlUtils.intAttribute(el, "w:val"))
-                .orElse(null);
-        Integer level = XmlUtils.firstChild(numPr, Namespaces.WORD_MAIN, "ilvl")
-                .map(el -> XmlUtils.intAttribute(el, "w:val"))
-                .orElse(null);
+        Element numIdElement = XmlUtils.child(numPr, Namespaces.WORD_MAIN, "numId");
+        Element levelElement = XmlUtils.child(numPr, Namespaces.WORD_MAIN, "ilvl");
+        Integer numId = numIdElement != null ? XmlUtils.intAttribute(numIdElement, "w:val") : null;
+        Integer level = levelElement != null ? XmlUtils.intAttribute(levelElement, "w:val") : null;
         if (numId == null || level == null) {
             return null;
         }
         return new WordDocument.NumberingReference(numId, level);
     }
 
-    private WordDocument.Alignment parseAlignment(Element pPr) {
-        return XmlUtils.firstChild(pPr, Namespaces.WORD_MAIN, "jc")
-                .map(el -> switch (el.getAttributeNS(Namespaces.WORD_MAIN, "val")) {
-                    case "left" -> WordDocument.Alignment.LEFT;
-                    case "center" -> WordDocument.Alignment.CENTER;
-                    case "right" -> WordDocument.Alignment.RIGHT;
-                    case "both", "justify" -> WordDocument.Alignment.JUSTIFIED;
-                    case "distribute" -> WordDocument.Alignment.DISTRIBUTE;
-                    case "thaiDistribute" -> WordDocument.Alignment.THAI_DISTRIBUTED;
-                    case "justLow" -> WordDocument.Alignment.JUSTIFY_LOW;
-                    default -> null;
-                })
-                .orElse(null);
+    private WordDocument.Alignment parseAlignment(Element jc) {
+        if (jc == null) {
+            return null;
+        }
+        return switch (jc.getAttributeNS(Namespaces.WORD_MAIN, "val")) {
+            case "left" -> WordDocument.Alignment.LEFT;
+            case "center" -> WordDocument.Alignment.CENTER;
+            case "right" -> WordDocument.Alignment.RIGHT;
+            case "both", "justify" -> WordDocument.Alignment.JUSTIFIED;
+            case "distribute" -> WordDocument.Alignment.DISTRIBUTE;
+            case "thaiDistribute" -> WordDocument.Alignment.THAI_DISTRIBUTED;
+            case "justLow" -> WordDocument.Alignment.JUSTIFY_LOW;
+            default -> null;
+        };
     }
 
-    private WordDocument.Indentation parseIndentation(Element pPr) {
-        Element ind = XmlUtils.firstChild(pPr, Namespaces.WORD_MAIN, "ind").orElse(null);
+    private WordDocument.Indentation parseIndentation(Element ind) {
         if (ind == null) {
             return null;
         }
@@ -174,8 +188,7 @@ final class ParagraphParser {
         return new WordDocument.Indentation(left, right, firstLine, hanging);
     }
 
-    private WordDocument.Spacing parseSpacing(Element pPr) {
-        Element spacing = XmlUtils.firstChild(pPr, Namespaces.WORD_MAIN, "spacing").orElse(null);
+    private WordDocument.Spacing parseSpacing(Element spacing) {
         if (spacing == null) {
             return null;
         }
@@ -187,13 +200,15 @@ final class ParagraphParser {
         return new WordDocument.Spacing(before, after, line, rule);
     }
 
-    private List<WordDocument.TabStop> parseTabs(Element pPr) {
-        Element tabsEl = XmlUtils.firstChild(pPr, Namespaces.WORD_MAIN, "tabs").orElse(null);
+    private List<WordDocument.TabStop> parseTabs(Element tabsEl) {
         if (tabsEl == null) {
             return List.of();
         }
         List<WordDocument.TabStop> result = new ArrayList<>();
-        for (Element tab : XmlUtils.children(tabsEl, Namespaces.WORD_MAIN, "tab")) {
+        for (Element tab = XmlUtils.firstChildElement(tabsEl); tab != null; tab = XmlUtils.nextSiblingElement(tab)) {
+            if (!Namespaces.WORD_MAIN.equals(tab.getNamespaceURI()) || !"tab".equals(tab.getLocalName())) {
+                continue;
+            }
             String val = tab.getAttributeNS(Namespaces.WORD_MAIN, "val");
             Integer pos = XmlUtils.intAttribute(tab, "w:pos");
             result.add(new WordDocument.TabStop(val, pos));
@@ -0,0 +1,47 @@
+package com.example.docx.parser;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of parser objects that are expensive to create but cheap to reset. The pool is not tied
+ * to threads, so virtual threads share the same few instances instead of each holding its own; when
+ * the pool is empty a new instance is created, and instances released into a full pool are dropped.
+ */
+final class ParserPool<T> {
+
+    private final BlockingQueue<T> idle;
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+
+    ParserPool(int capacity, Supplier<T> factory, Consumer<T> reset) {
+        this.idle = new ArrayBlockingQueue<>(capacity);
+        this.factory = Objects.requireNonNull(factory, "factory");
+        this.reset = Objects.requireNonNull(reset, "reset");
+    }
+
+    T acquire() {
+        T instance = idle.poll();
+        return instance != null ? instance : factory.get();
+    }
+
+    /**
+     * Resets {@code instance} and makes it available again. An instance that cannot be reset is
+     * discarded.
+     */
+    void release(T instance) {
+        try {
+            reset.accept(instance);
+        } catch (RuntimeException e) {
+            return;
+        }
+        idle.offer(instance);
+    }
+
+    static int defaultCapacity() {
+        return Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    }
+}
@@ -3,6 +3,8 @@ package com.example.docx.parser;
 import com.example.docx.DocxException;
 import org.w3c.dom.Element;
 
+import javax.xml.stream.XMLStreamReader;
+
 final class ParserSupport {
 
     private ParserSupport() {
@@ -12,6 +14,16 @@ final class ParserSupport {
         String namespace = element.getNamespaceURI();
         String localName = element.getLocalName();
         String prefix = element.getPrefix();
+        return unknownElement(context, namespace, prefix, localName);
+    }
+
+    static DocxException unknownElement(String context, XMLStreamReader reader) {
+        String prefix = reader.getPrefix();
+        return unknownElement(context, reader.getNamespaceURI(),
+                prefix == null || prefix.isEmpty() ? null : prefix, reader.getLocalName());
+    }
+
+    private static DocxException unknownElement(String context, String namespace, String prefix, String localName) {
         String qualified = prefix != null ? prefix + ":" + localName : localName;
         return new DocxException("Unsupported " + context + " element <" + qualified + "> in namespace " + namespace);
     }
@@ -1,7 +1,15 @@
 package com.example.docx.parser;
 
+import org.w3c.dom.Element;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
- * Aggregates parser instances to enforce consistent handling and strict validation.
+ * Aggregates parser instances to enforce consistent handling and strict validation. The context also
+ * owns the table that interns structurally equal run and paragraph properties, so it should be used
+ * for a single package; the table is thread-safe, so the parts of that package can be parsed
+ * concurrently.
  */
 public final class ParsingContext {
 
@@ -9,11 +17,38 @@ public final class ParsingContext {
     final ParagraphParser paragraphParser;
     final TableParser tableParser;
     final BlockParser blockParser;
+    final StreamingBlockParser streamingBlockParser;
+    final boolean retainXml;
+    private final Map<Object, Object> interned = new ConcurrentHashMap<>();
 
     public ParsingContext() {
+        this(true);
+    }
+
+    /**
+     * @param retainXml whether parsed properties keep a reference to their source XML element; when
+     *                  {@code false} the model is detached and the parsed DOM trees can be collected
+     */
+    public ParsingContext(boolean retainXml) {
+        this.retainXml = retainXml;
         this.runParser = new RunParser(this);
         this.paragraphParser = new ParagraphParser(this);
         this.tableParser = new TableParser(this);
         this.blockParser = new BlockParser(this);
+        this.streamingBlockParser = new StreamingBlockParser(this);
+    }
+
+    Element retain(Element element) {
+        return retainXml ? element : null;
+    }
+
+    /**
+     * Returns the first parsed instance equal to {@code properties}, so repeated formats share one
+     * object (flyweight).
+     */
+    @SuppressWarnings("unchecked")
+    <T> T intern(T properties) {
+        Object existing = interned.putIfAbsent(properties, properties);
+        return existing == null ? properties : (T) existing;
     }
 }
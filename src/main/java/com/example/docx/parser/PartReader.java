@@ -0,0 +1,260 @@
+package com.example.docx.parser;
+
+import com.example.docx.DocxException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pull-parser cursor over a single XML part. Offers element-by-element navigation with the same
+ * semantics as the DOM helpers in {@link XmlUtils} so streaming parsers mirror the DOM ones.
+ */
+final class PartReader implements AutoCloseable {
+
+    private final XMLStreamReader reader;
+    private final Map<String, Map<String, String>> qualifiedNames = new HashMap<>();
+    private Document fragmentOwner;
+    private WordElement element = WordElement.OTHER;
+
+    PartReader(XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Moves the cursor to the root element of the part.
+     */
+    void moveToRoot() throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                element = WordElement.of(reader.getNamespaceURI(), reader.getLocalName());
+                return;
+            }
+        }
+        throw new XMLStreamException("Missing root element");
+    }
+
+    /**
+     * Advances to the next child element of the current element. Returns {@code false} once the
+     * closing tag of the current element has been reached. Text, comments and processing
+     * instructions between elements are ignored, mirroring {@link XmlUtils#childElements}.
+     */
+    boolean nextChild() throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                element = WordElement.of(reader.getNamespaceURI(), reader.getLocalName());
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        throw new XMLStreamException("Unexpected end of document");
+    }
+
+    /**
+     * Skips the current element and its whole subtree, leaving the cursor on its closing tag.
+     */
+    void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Returns the concatenated text of the current element, like {@link Node#getTextContent()}.
+     */
+    String readText() throws XMLStreamException {
+        String first = null;
+        StringBuilder builder = null;
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    if (first == null) {
+                        first = reader.getText();
+                    } else {
+                        if (builder == null) {
+                            builder = new StringBuilder(first);
+                        }
+                        builder.append(reader.getText());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        if (builder != null) {
+            return builder.toString();
+        }
+        return first == null ? "" : first;
+    }
+
+    /**
+     * Copies the text of the current element to {@code out} straight from the parser buffer, without
+     * creating a string.
+     */
+    void copyText(Writer out) throws XMLStreamException, IOException {
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        out.write(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the current on/off property, such as {@code <w:vanish/>}, with the semantics of
+     * {@link XmlUtils#booleanValue(Element)} and skips it.
+     */
+    boolean readBoolean() throws XMLStreamException {
+        String value = reader.getAttributeValue(null, "val");
+        if (value == null || value.isEmpty()) {
+            value = reader.getAttributeValue(Namespaces.WORD_MAIN, "val");
+        }
+        skipElement();
+        return XmlUtils.booleanValue(value == null || value.isEmpty() ? null : value);
+    }
+
+    String namespaceUri() {
+        return reader.getNamespaceURI();
+    }
+
+    String localName() {
+        return reader.getLocalName();
+    }
+
+    boolean isWordElement() {
+        return Namespaces.WORD_MAIN.equals(reader.getNamespaceURI());
+    }
+
+    /**
+     * Returns the token of the element the cursor last moved to, resolved once when its start tag
+     * was read.
+     */
+    WordElement element() {
+        return element;
+    }
+
+    /**
+     * Reads a namespaced attribute with the same semantics as {@link Element#getAttributeNS}:
+     * a missing attribute yields an empty string.
+     */
+    String attribute(String namespaceUri, String localName) {
+        String value = reader.getAttributeValue(namespaceUri, localName);
+        return value == null ? "" : value;
+    }
+
+    DocxException unknownElement(String context) {
+        return ParserSupport.unknownElement(context, reader);
+    }
+
+    /**
+     * Materializes the current element and its subtree as a detached DOM fragment. Used for small
+     * property containers ({@code w:pPr}, {@code w:rPr}, ...) so the element based decoders can be
+     * reused without building the whole part as a DOM.
+     */
+    Element readFragment() throws XMLStreamException {
+        if (fragmentOwner == null) {
+            fragmentOwner = XmlUtils.newDocument();
+        }
+        Element root = createElement(fragmentOwner);
+        declareNamespace(root, reader.getPrefix(), reader.getNamespaceURI());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            declareNamespace(root, reader.getAttributePrefix(i), reader.getAttributeNamespace(i));
+        }
+        Element current = root;
+        while (true) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    Element child = createElement(fragmentOwner);
+                    current.appendChild(child);
+                    current = child;
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    if (current == root) {
+                        return root;
+                    }
+                    current = (Element) current.getParentNode();
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        current.appendChild(fragmentOwner.createTextNode(reader.getText()));
+                default -> {
+                }
+            }
+        }
+    }
+
+    private Element createElement(Document owner) {
+        Element element = owner.createElementNS(emptyToNull(reader.getNamespaceURI()),
+                qualifiedName(reader.getPrefix(), reader.getLocalName()));
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            declareNamespace(element, reader.getNamespacePrefix(i), reader.getNamespaceURI(i));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.setAttributeNS(emptyToNull(reader.getAttributeNamespace(i)),
+                    qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                    reader.getAttributeValue(i));
+        }
+        return element;
+    }
+
+    private static void declareNamespace(Element element, String prefix, String namespaceUri) {
+        if (namespaceUri == null || namespaceUri.isEmpty() || XMLConstants.XML_NS_URI.equals(namespaceUri)) {
+            return;
+        }
+        String attribute = prefix == null || prefix.isEmpty()
+                ? XMLConstants.XMLNS_ATTRIBUTE
+                : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix;
+        if (!element.hasAttribute(attribute)) {
+            element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute, namespaceUri);
+        }
+    }
+
+    private String qualifiedName(String prefix, String localName) {
+        if (prefix == null || prefix.isEmpty()) {
+            return localName;
+        }
+        // the same few names repeat across every fragment of a part, so build each one only once
+        Map<String, String> names = qualifiedNames.computeIfAbsent(prefix, key -> new HashMap<>());
+        String name = names.get(localName);
+        if (name == null) {
+            name = prefix + ":" + localName;
+            names.put(localName, name);
+        }
+        return name;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        reader.close();
+    }
+}
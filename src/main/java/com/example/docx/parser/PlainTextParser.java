@@ -0,0 +1,263 @@
+package com.example.docx.parser;
+
+import com.example.docx.io.DocxArchive;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+
+/**
+ * Writes the plain text of {@code word/document.xml}, {@code word/footnotes.xml} and
+ * {@code word/endnotes.xml} straight from pull-parser events, without building a model. The text
+ * follows what the HTML renderer shows: hidden runs ({@code w:vanish}) are dropped, field
+ * instructions are not written while field results are, and drawings produce nothing. Every
+ * paragraph ends with a line feed, tabs become {@code \t} and breaks {@code \n}. Elements the model
+ * parsers reject are skipped rather than reported, so extraction never fails on content it cannot
+ * show.
+ */
+public final class PlainTextParser {
+
+    private static final String[] NOTE_PARTS = {"word/footnotes.xml", "word/endnotes.xml"};
+
+    public void extract(DocxArchive archive, Writer out) throws IOException {
+        VanishStyles styles = VanishStyles.read(archive);
+        if (archive.exists("word/document.xml")) {
+            try (InputStream input = archive.open("word/document.xml");
+                 PartReader reader = new PartReader(XmlUtils.openStream(input))) {
+                reader.moveToRoot();
+                while (reader.nextChild()) {
+                    if (reader.element() == WordElement.BODY) {
+                        writeBlocks(reader, styles, out);
+                    } else {
+                        reader.skipElement();
+                    }
+                }
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to parse XML document", e);
+            }
+        }
+        for (String partName : NOTE_PARTS) {
+            if (archive.exists(partName)) {
+                writeNotes(archive, partName, styles, out);
+            }
+        }
+    }
+
+    /**
+     * Writes ordinary notes only; separator and continuation notes have a {@code w:type} and carry
+     * no text of the document.
+     */
+    private void writeNotes(DocxArchive archive, String partName, VanishStyles styles, Writer out) throws IOException {
+        try (InputStream input = archive.open(partName);
+             PartReader reader = new PartReader(XmlUtils.openStream(input))) {
+            reader.moveToRoot();
+            while (reader.nextChild()) {
+                WordElement element = reader.element();
+                if ((element == WordElement.FOOTNOTE || element == WordElement.ENDNOTE)
+                        && !reader.attribute(Namespaces.WORD_MAIN, "id").isEmpty()
+                        && reader.attribute(Namespaces.WORD_MAIN, "type").isEmpty()) {
+                    writeBlocks(reader, styles, out);
+                } else {
+                    reader.skipElement();
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to parse XML document", e);
+        }
+    }
+
+    private void writeBlocks(PartReader reader, VanishStyles styles, Writer out) throws XMLStreamException, IOException {
+        while (reader.nextChild()) {
+            switch (reader.element()) {
+                case P -> writeParagraph(reader, styles, out);
+                case TBL -> writeTable(reader, styles, out);
+                case SDT -> {
+                    while (reader.nextChild()) {
+                        if (reader.element() == WordElement.SDT_CONTENT) {
+                            writeBlocks(reader, styles, out);
+                        } else {
+                            reader.skipElement();
+                        }
+                    }
+                }
+                default -> reader.skipElement();
+            }
+        }
+    }
+
+    private void writeTable(PartReader reader, VanishStyles styles, Writer out) throws XMLStreamException, IOException {
+        while (reader.nextChild()) {
+            if (reader.element() != WordElement.TR) {
+                reader.skipElement();
+                continue;
+            }
+            while (reader.nextChild()) {
+                if (reader.element() == WordElement.TC) {
+                    writeBlocks(reader, styles, out);
+                } else {
+                    reader.skipElement();
+                }
+            }
+        }
+    }
+
+    private void writeParagraph(PartReader reader, VanishStyles styles, Writer out) throws XMLStreamException, IOException {
+        boolean hidden = styles.paragraph(null);
+        while (reader.nextChild()) {
+            if (reader.element() == WordElement.P_PR) {
+                hidden = readParagraphProperties(reader, styles);
+            } else {
+                writeParagraphContent(reader, hidden, styles, out);
+            }
+        }
+        out.write('\n');
+    }
+
+    /**
+     * Returns whether the runs of the paragraph are hidden by its mark properties or its style.
+     */
+    private boolean readParagraphProperties(PartReader reader, VanishStyles styles) throws XMLStreamException {
+        String styleId = null;
+        boolean markHidden = false;
+        while (reader.nextChild()) {
+            switch (reader.element()) {
+                case P_STYLE -> {
+                    styleId = wordValue(reader);
+                    reader.skipElement();
+                }
+                case R_PR -> markHidden = VanishStyles.readVanish(reader);
+                default -> reader.skipElement();
+            }
+        }
+        return markHidden || styles.paragraph(styleId);
+    }
+
+    private void writeParagraphContent(PartReader reader, boolean paragraphHidden, VanishStyles styles, Writer out)
+            throws XMLStreamException, IOException {
+        switch (reader.element()) {
+            case R -> writeRun(reader, paragraphHidden, styles, out);
+            case HYPERLINK, FLD_SIMPLE -> {
+                // a simple field keeps its instruction in an attribute; its runs are the result
+                while (reader.nextChild()) {
+                    if (reader.element() == WordElement.R) {
+                        writeRun(reader, paragraphHidden, styles, out);
+                    } else {
+                        reader.skipElement();
+                    }
+                }
+            }
+            case SDT -> {
+                while (reader.nextChild()) {
+                    if (reader.element() == WordElement.SDT_CONTENT) {
+                        while (reader.nextChild()) {
+                            writeParagraphContent(reader, paragraphHidden, styles, out);
+                        }
+                    } else {
+                        reader.skipElement();
+                    }
+                }
+            }
+            default -> reader.skipElement();
+        }
+    }
+
+    /**
+     * Writes the visible content of a run. The schema puts {@code w:rPr} first, so the run is known
+     * to be hidden before any of its content is reached.
+     */
+    private void writeRun(PartReader reader, boolean paragraphHidden, VanishStyles styles, Writer out)
+            throws XMLStreamException, IOException {
+        boolean hidden = paragraphHidden;
+        while (reader.nextChild()) {
+            WordElement element = reader.element();
+            if (element == WordElement.R_PR) {
+                hidden |= readRunProperties(reader, styles);
+                continue;
+            }
+            if (hidden) {
+                reader.skipElement();
+                continue;
+            }
+            switch (element) {
+                case T -> reader.copyText(out);
+                case TAB -> {
+                    reader.skipElement();
+                    out.write('\t');
+                }
+                case BR, CR -> {
+                    reader.skipElement();
+                    out.write('\n');
+                }
+                case NO_BREAK_HYPHEN -> {
+                    reader.skipElement();
+                    out.write('\u2011');
+                }
+                case SOFT_HYPHEN -> {
+                    reader.skipElement();
+                    out.write('\u00AD');
+                }
+                case SYM -> writeSymbol(reader, out);
+                // field instructions and characters, drawings, note references and marks write nothing
+                default -> reader.skipElement();
+            }
+        }
+    }
+
+    private boolean readRunProperties(PartReader reader, VanishStyles styles) throws XMLStreamException {
+        String styleId = null;
+        Boolean vanish = null;
+        while (reader.nextChild()) {
+            switch (reader.element()) {
+                case R_STYLE -> {
+                    styleId = styleId != null ? styleId : wordValue(reader);
+                    reader.skipElement();
+                }
+                case VANISH -> {
+                    if (vanish == null) {
+                        vanish = reader.readBoolean();
+                    } else {
+                        reader.skipElement();
+                    }
+                }
+                default -> reader.skipElement();
+            }
+        }
+        return vanish != null && vanish || styles.character(styleId);
+    }
+
+    /**
+     * Writes the character of a {@code w:sym} the way the HTML renderer decodes it: hexadecimal,
+     * then decimal, otherwise the raw code.
+     */
+    private static void writeSymbol(PartReader reader, Writer out) throws XMLStreamException, IOException {
+        String code = reader.attribute(Namespaces.WORD_MAIN, "char");
+        reader.skipElement();
+        int codePoint;
+        try {
+            codePoint = Integer.parseInt(code, 16);
+        } catch (NumberFormatException e) {
+            try {
+                codePoint = Integer.parseInt(code);
+            } catch (NumberFormatException ignored) {
+                out.write(code);
+                return;
+            }
+        }
+        if (!Character.isValidCodePoint(codePoint)) {
+            out.write(code);
+            return;
+        }
+        if (Character.isBmpCodePoint(codePoint)) {
+            out.write(codePoint);
+        } else {
+            out.write(Character.highSurrogate(codePoint));
+            out.write(Character.lowSurrogate(codePoint));
+        }
+    }
+
+    private static String wordValue(PartReader reader) {
+        String value = reader.attribute(Namespaces.WORD_MAIN, "val");
+        return value.isEmpty() ? null : value;
+    }
+}
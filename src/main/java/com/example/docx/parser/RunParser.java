@@ -13,6 +13,8 @@ import java.util.Map;
  */
 final class RunParser {
 
+    private static final String[] FONT_ATTRIBUTES = {"ascii", "hAnsi", "eastAsia", "cs"};
+
     private final ParsingContext context;
 
     RunParser(ParsingContext context) {
@@ -20,37 +22,34 @@ final class RunParser {
     }
 
     WordDocument.Run parse(Element runElement) {
-        WordDocument.RunProperties properties = parseRunProperties(runElement);
+        WordDocument.RunProperties properties = parseRunProperties(XmlUtils.child(runElement, Namespaces.WORD_MAIN, "rPr"));
         List<WordDocument.Inline> inlines = new ArrayList<>();
-        for (Element child : XmlUtils.childElements(runElement)) {
-            if (!Namespaces.WORD_MAIN.equals(child.getNamespaceURI())) {
-                throw ParserSupport.unknownElement("run content", child);
-            }
-            switch (child.getLocalName()) {
-                case "rPr" -> {
+        for (Element child = XmlUtils.firstChildElement(runElement); child != null; child = XmlUtils.nextSiblingElement(child)) {
+            switch (WordElement.of(child)) {
+                case R_PR -> {
                     // already handled
                 }
-                case "t" -> inlines.add(new WordDocument.Text(child.getTextContent(),
+                case T -> inlines.add(new WordDocument.Text(child.getTextContent(),
                         "preserve".equals(child.getAttributeNS("http://www.w3.org/XML/1998/namespace", "space"))));
-                case "tab" -> inlines.add(new WordDocument.Tab());
-                case "br", "cr" -> inlines.add(parseBreak(child));
-                case "noBreakHyphen" -> inlines.add(new WordDocument.NoBreakHyphen());
-                case "softHyphen" -> inlines.add(new WordDocument.SoftHyphen());
-                case "separator" -> inlines.add(new WordDocument.Separator(WordDocument.Separator.Kind.FOOTNOTE));
-                case "continuationSeparator" -> inlines.add(new WordDocument.Separator(WordDocument.Separator.Kind.CONTINUATION));
-                case "sym" -> inlines.add(parseSymbol(child));
-                case "footnoteReference" -> inlines.add(new WordDocument.FootnoteReference(
+                case TAB -> inlines.add(new WordDocument.Tab());
+                case BR, CR -> inlines.add(parseBreak(child));
+                case NO_BREAK_HYPHEN -> inlines.add(new WordDocument.NoBreakHyphen());
+                case SOFT_HYPHEN -> inlines.add(new WordDocument.SoftHyphen());
+                case SEPARATOR -> inlines.add(new WordDocument.Separator(WordDocument.Separator.Kind.FOOTNOTE));
+                case CONTINUATION_SEPARATOR -> inlines.add(new WordDocument.Separator(WordDocument.Separator.Kind.CONTINUATION));
+                case SYM -> inlines.add(parseSymbol(child));
+                case FOOTNOTE_REFERENCE -> inlines.add(new WordDocument.FootnoteReference(
                         Integer.parseInt(child.getAttributeNS(Namespaces.WORD_MAIN, "id"))));
-                case "footnoteRef" -> inlines.add(new WordDocument.ReferenceMark(WordDocument.ReferenceMark.Kind.FOOTNOTE));
-                case "endnoteReference" -> inlines.add(new WordDocument.EndnoteReference(
+                case FOOTNOTE_REF -> inlines.add(new WordDocument.ReferenceMark(WordDocument.ReferenceMark.Kind.FOOTNOTE));
+                case ENDNOTE_REFERENCE -> inlines.add(new WordDocument.EndnoteReference(
                         Integer.parseInt(child.getAttributeNS(Namespaces.WORD_MAIN, "id"))));
-                case "endnoteRef" -> inlines.add(new WordDocument.ReferenceMark(WordDocument.ReferenceMark.Kind.ENDNOTE));
-                case "commentReference" -> inlines.add(new WordDocument.CommentReference(
+                case ENDNOTE_REF -> inlines.add(new WordDocument.ReferenceMark(WordDocument.ReferenceMark.Kind.ENDNOTE));
+                case COMMENT_REFERENCE -> inlines.add(new WordDocument.CommentReference(
                         Integer.parseInt(child.getAttributeNS(Namespaces.WORD_MAIN, "id"))));
-                case "fldChar" -> inlines.add(parseFieldChar(child));
-                case "instrText" -> inlines.add(new WordDocument.FieldInstruction(child.getTextContent()));
-                case "drawing" -> inlines.add(parseDrawing(child));
-                case "pict" -> {
+                case FLD_CHAR -> inlines.add(parseFieldChar(child));
+                case INSTR_TEXT -> inlines.add(new WordDocument.FieldInstruction(child.getTextContent()));
+                case DRAWING -> inlines.add(parseDrawing(child));
+                case PICT -> {
                     WordDocument.Inline inline = parsePict(child);
                     if (inline != null) {
                         inlines.add(inline);
@@ -62,62 +61,84 @@ final class RunParser {
         return new WordDocument.Run(properties, inlines);
     }
 
-    private WordDocument.RunProperties parseRunProperties(Element runElement) {
-        Element rPr = XmlUtils.firstChild(runElement, Namespaces.WORD_MAIN, "rPr").orElse(null);
+    WordDocument.RunProperties parseRunProperties(Element rPr) {
         if (rPr == null) {
-            return new WordDocument.RunProperties(null, false, false, false, null,
+            return context.intern(new WordDocument.RunProperties(null, false, false, false, null,
                     false, false, false, false, false, null, null, null,
-                    null, null, Map.of(), null);
+                    null, null, Map.of(), null));
+        }
+        // one sweep over the children; the first occurrence of each property wins
+        Element rStyle = null;
+        Element b = null;
+        Element i = null;
+        Element u = null;
+        Element strike = null;
+        Element dstrike = null;
+        Element smallCaps = null;
+        Element caps = null;
+        Element vanish = null;
+        Element color = null;
+        Element highlight = null;
+        Element vertAlign = null;
+        Element sz = null;
+        Element szCs = null;
+        Element rFonts = null;
+        Element bdr = null;
+        for (Element child = XmlUtils.firstChildElement(rPr); child != null; child = XmlUtils.nextSiblingElement(child)) {
+            switch (WordElement.of(child)) {
+                case R_STYLE -> rStyle = rStyle != null ? rStyle : child;
+                case B -> b = b != null ? b : child;
+                case I -> i = i != null ? i : child;
+                case U -> u = u != null ? u : child;
+                case STRIKE -> strike = strike != null ? strike : child;
+                case DSTRIKE -> dstrike = dstrike != null ? dstrike : child;
+                case SMALL_CAPS -> smallCaps = smallCaps != null ? smallCaps : child;
+                case CAPS -> caps = caps != null ? caps : child;
+                case VANISH -> vanish = vanish != null ? vanish : child;
+                case COLOR -> color = color != null ? color : child;
+                case HIGHLIGHT -> highlight = highlight != null ? highlight : child;
+                case VERT_ALIGN -> vertAlign = vertAlign != null ? vertAlign : child;
+                case SZ -> sz = sz != null ? sz : child;
+                case SZ_CS -> szCs = szCs != null ? szCs : child;
+                case R_FONTS -> rFonts = rFonts != null ? rFonts : child;
+                case BDR -> bdr = bdr != null ? bdr : child;
+                default -> {
+                }
+            }
         }
-        String styleId = XmlUtils.firstChild(rPr, Namespaces.WORD_MAIN, "rStyle")
-                .map(el -> el.getAttributeNS(Namespaces.WORD_MAIN, "val"))
-                .filter(val -> !val.isEmpty())
-                .orElse(null);
-        boolean bold = XmlUtils.booleanElement(rPr, Namespaces.WORD_MAIN, "b");
-        boolean italic = XmlUtils.booleanElement(rPr, Namespaces.WORD_MAIN, "i");
-        boolean underline = XmlUtils.firstChild(rPr, Namespaces.WORD_MAIN, "u").isPresent();
-        String underlineType = XmlUtils.firstChild(rPr, Namespaces.WORD_MAIN, "u")
-                .map(el -> el.getAttributeNS(Namespaces.WORD_MAIN, "val"))
-                .filter(val -> !val.isEmpty())
-                .orElse(null);
-        boolean strike = XmlUtils.booleanElement(rPr, Namespaces.WORD_MAIN, "strike");
-        boolean doubleStrike = XmlUtils.booleanElement(rPr, Namespaces.WORD_MAIN, "dstrike");
-        boolean smallCaps = XmlUtils.booleanElement(rPr, Namespaces.WORD_MAIN, "smallCaps");
-        boolean allCaps = XmlUtils.booleanElement(rPr, Namespaces.WORD_MAIN, "caps");
-        boolean vanish = XmlUtils.booleanElement(rPr, Namespaces.WORD_MAIN, "vanish");
-        String color = XmlUtils.firstChild(rPr, Namespaces.WORD_MAIN, "color")
-                .map(el -> el.getAttributeNS(Namespaces.WORD_MAIN, "val"))
-                .filter(val -> !val.isEmpty())
-                .orElse(null);
-        String highlight = XmlUtils.firstChild(rPr, Namespaces.WORD_MAIN, "highlight")
-                .map(el -> el.getAttributeNS(Namespaces.WORD_MAIN, "val"))
-                .filter(val -> !val.isEmpty())
-                .orElse(null);
-        String vertAlign = XmlUtils.firstChild(rPr, Namespaces.WORD_MAIN, "vertAlign")
-                .map(el -> el.getAttributeNS(Namespaces.WORD_MAIN, "val"))
-                .filter(val -> !val.isEmpty())
-                .orElse(null);
-        Integer size = XmlUtils.firstChild(rPr, Namespaces.WORD_MAIN, "sz")
-                .map(el -> XmlUtils.intAttribute(el, "w:val"))
-                .orElse(null);
-        Integer sizeCs = XmlUtils.firstChild(rPr, Namespaces.WORD_MAIN, "szCs")
-                .map(el -> XmlUtils.intAttribute(el, "w:val"))
-                .orElse(null);
         Map<String, String> fonts = new LinkedHashMap<>();
-        XmlUtils.firstChild(rPr, Namespaces.WORD_MAIN, "rFonts").ifPresent(fontsEl -> {
-            for (String attr : List.of("ascii", "hAnsi", "eastAsia", "cs")) {
-                String val = fontsEl.getAttributeNS(Namespaces.WORD_MAIN, attr);
-                if (val != null && !val.isEmpty()) {
+        if (rFonts != null) {
+            for (String attr : FONT_ATTRIBUTES) {
+                String val = rFonts.getAttributeNS(Namespaces.WORD_MAIN, attr);
+                if (!val.isEmpty()) {
                     fonts.put(attr, val);
                 }
             }
-        });
-        return new WordDocument.RunProperties(styleId, bold, italic, underline, underlineType, strike,
-                doubleStrike, smallCaps, allCaps, vanish, color, highlight, vertAlign,
-                size, sizeCs, fonts, rPr);
+        }
+        return context.intern(new WordDocument.RunProperties(wordValue(rStyle), on(b), on(i), u != null, wordValue(u),
+                on(strike), on(dstrike), on(smallCaps), on(caps), on(vanish),
+                wordValue(color), wordValue(highlight), wordValue(vertAlign),
+                sz != null ? XmlUtils.intAttribute(sz, "w:val") : null,
+                szCs != null ? XmlUtils.intAttribute(szCs, "w:val") : null,
+                fonts, FormattingParser.parseBorder(bdr), context.retain(rPr)));
+    }
+
+    private static boolean on(Element element) {
+        return element != null && XmlUtils.booleanValue(element);
+    }
+
+    /**
+     * Returns the non-empty {@code w:val} of {@code element}, or {@code null}.
+     */
+    static String wordValue(Element element) {
+        if (element == null) {
+            return null;
+        }
+        String value = element.getAttributeNS(Namespaces.WORD_MAIN, "val");
+        return value.isEmpty() ? null : value;
     }
 
-    private WordDocument.Inline parseSymbol(Element element) {
+    WordDocument.Inline parseSymbol(Element element) {
         String font = element.getAttributeNS(Namespaces.WORD_MAIN, "font");
         if (font.isEmpty()) {
             String fallback = element.getAttribute("w:font");
@@ -132,7 +153,7 @@ final class RunParser {
         return new WordDocument.Symbol(font.isEmpty() ? null : font, charCode);
     }
 
-    private WordDocument.Inline parseBreak(Element element) {
+    WordDocument.Inline parseBreak(Element element) {
         String type = element.getAttributeNS(Namespaces.WORD_MAIN, "type");
         WordDocument.Break.Type breakType = switch (type) {
             case "page" -> WordDocument.Break.Type.PAGE;
@@ -144,7 +165,7 @@ final class RunParser {
         return new WordDocument.Break(breakType, clear);
     }
 
-    private WordDocument.Inline parseFieldChar(Element element) {
+    WordDocument.Inline parseFieldChar(Element element) {
         String type = element.getAttributeNS(Namespaces.WORD_MAIN, "fldCharType");
         WordDocument.FieldCharacter.CharacterType charType = switch (type) {
             case "begin" -> WordDocument.FieldCharacter.CharacterType.BEGIN;
@@ -155,7 +176,7 @@ final class RunParser {
         return new WordDocument.FieldCharacter(charType);
     }
 
-    private WordDocument.Inline parseDrawing(Element element) {
+    WordDocument.Inline parseDrawing(Element element) {
         Element drawing = XmlUtils.childElements(element).stream().findFirst().orElse(null);
         if (drawing == null) {
             return new WordDocument.Drawing(null, null, 0, 0, true);
@@ -186,7 +207,7 @@ final class RunParser {
         return new WordDocument.Drawing(relId, descr, width, height, inline);
     }
 
-    private WordDocument.Inline parsePict(Element element) {
+    WordDocument.Inline parsePict(Element element) {
         for (Element child : XmlUtils.childElements(element)) {
             if (Namespaces.VML.equals(child.getNamespaceURI()) && "shape".equals(child.getLocalName())) {
                 for (Element pictChild : XmlUtils.childElements(child)) {
@@ -11,8 +11,11 @@ final class SdtParser {
     private SdtParser() {
     }
 
-    static WordDocument.SdtProperties parseProperties(Element sdtElement) {
-        Element sdtPr = XmlUtils.firstChild(sdtElement, Namespaces.WORD_MAIN, "sdtPr").orElse(null);
+    static WordDocument.SdtProperties parseProperties(Element sdtElement, ParsingContext context) {
+        return parsePropertiesElement(XmlUtils.firstChild(sdtElement, Namespaces.WORD_MAIN, "sdtPr").orElse(null), context);
+    }
+
+    static WordDocument.SdtProperties parsePropertiesElement(Element sdtPr, ParsingContext context) {
         if (sdtPr == null) {
             return new WordDocument.SdtProperties(null, null, null, null);
         }
@@ -25,6 +28,6 @@ final class SdtParser {
         String id = XmlUtils.firstChild(sdtPr, Namespaces.WORD_MAIN, "id")
                 .map(el -> el.getAttributeNS(Namespaces.WORD_MAIN, "val"))
                 .orElse(null);
-        return new WordDocument.SdtProperties(tag, alias, id, sdtPr);
+        return new WordDocument.SdtProperties(tag, alias, id, context.retain(sdtPr));
     }
 }
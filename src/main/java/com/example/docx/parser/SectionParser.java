@@ -14,7 +14,7 @@ final class SectionParser {
     private SectionParser() {
     }
 
-    static WordDocument.SectionProperties parseSectionProperties(Element element) {
+    static WordDocument.SectionProperties parseSectionProperties(Element element, ParsingContext context) {
         Element pgSz = XmlUtils.firstChild(element, Namespaces.WORD_MAIN, "pgSz").orElse(null);
         WordDocument.PageDimensions dimensions = null;
         if (pgSz != null) {
@@ -57,7 +57,7 @@ final class SectionParser {
         String sectionType = XmlUtils.firstChild(element, Namespaces.WORD_MAIN, "type")
                 .map(el -> el.getAttributeNS(Namespaces.WORD_MAIN, "val"))
                 .orElse(null);
-        return new WordDocument.SectionProperties(dimensions, margins, headerFooter, sectionType, element);
+        return new WordDocument.SectionProperties(dimensions, margins, headerFooter, sectionType, context.retain(element));
     }
 
     private static int valueOrZero(Element parent, String attr) {
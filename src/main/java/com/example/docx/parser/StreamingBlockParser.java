@@ -0,0 +1,284 @@
+package com.example.docx.parser;
+
+import com.example.docx.model.document.WordDocument;
+import com.example.docx.model.relationship.RelationshipSet;
+import org.w3c.dom.Element;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pull-parser counterpart of {@link BlockParser}, {@link ParagraphParser}, {@link RunParser} and
+ * {@link TableParser}. Builds the same {@link WordDocument} model straight from parser events;
+ * only property containers and drawings are materialized as small DOM fragments so their decoding
+ * stays shared with the DOM parsers.
+ */
+final class StreamingBlockParser {
+
+    private static final String RELATIONSHIPS_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private final ParsingContext context;
+
+    StreamingBlockParser(ParsingContext context) {
+        this.context = context;
+    }
+
+    WordDocument.Block parseBlock(PartReader reader, RelationshipSet relationships) throws XMLStreamException {
+        return switch (reader.element()) {
+            case P -> parseParagraph(reader, relationships);
+            case TBL -> parseTable(reader, relationships);
+            case SDT -> parseStructuredDocumentTag(reader, relationships);
+            case SECT_PR -> new WordDocument.SectionBreak(SectionParser.parseSectionProperties(reader.readFragment(), context));
+            case BOOKMARK_START -> parseBookmark(reader, WordDocument.Bookmark.Kind.START);
+            case BOOKMARK_END -> parseBookmark(reader, WordDocument.Bookmark.Kind.END);
+            default -> throw reader.unknownElement("block");
+        };
+    }
+
+    private WordDocument.StructuredDocumentTag parseStructuredDocumentTag(PartReader reader,
+                                                                         RelationshipSet relationships) throws XMLStreamException {
+        Element sdtPr = null;
+        List<WordDocument.Block> blocks = null;
+        while (reader.nextChild()) {
+            if (sdtPr == null && reader.element() == WordElement.SDT_PR) {
+                sdtPr = reader.readFragment();
+            } else if (blocks == null && reader.element() == WordElement.SDT_CONTENT) {
+                blocks = new ArrayList<>();
+                while (reader.nextChild()) {
+                    blocks.add(parseBlock(reader, relationships));
+                }
+            } else {
+                reader.skipElement();
+            }
+        }
+        return new WordDocument.StructuredDocumentTag(SdtParser.parsePropertiesElement(sdtPr, context),
+                blocks != null ? blocks : List.of());
+    }
+
+    private WordDocument.Bookmark parseBookmark(PartReader reader, WordDocument.Bookmark.Kind kind) throws XMLStreamException {
+        String id = reader.attribute(Namespaces.WORD_MAIN, "id");
+        String name = reader.attribute(Namespaces.WORD_MAIN, "name");
+        reader.skipElement();
+        return new WordDocument.Bookmark(kind, id, name.isEmpty() ? null : name);
+    }
+
+    private WordDocument.Paragraph parseParagraph(PartReader reader, RelationshipSet relationships) throws XMLStreamException {
+        Element pPr = null;
+        List<WordDocument.ParagraphContent> contents = new ArrayList<>();
+        while (reader.nextChild()) {
+            if (reader.element() == WordElement.P_PR) {
+                if (pPr == null) {
+                    pPr = reader.readFragment();
+                } else {
+                    reader.skipElement();
+                }
+            } else {
+                contents.add(parseParagraphContent(reader, relationships, "paragraph content"));
+            }
+        }
+        return new WordDocument.Paragraph(context.paragraphParser.parseProperties(pPr), contents);
+    }
+
+    private WordDocument.ParagraphContent parseParagraphContent(PartReader reader,
+                                                                RelationshipSet relationships,
+                                                                String errorContext) throws XMLStreamException {
+        return switch (reader.element()) {
+            case R -> parseRun(reader);
+            case HYPERLINK -> parseHyperlink(reader);
+            case BOOKMARK_START -> {
+                WordDocument.BookmarkStart start = new WordDocument.BookmarkStart(
+                        reader.attribute(Namespaces.WORD_MAIN, "id"),
+                        reader.attribute(Namespaces.WORD_MAIN, "name"));
+                reader.skipElement();
+                yield start;
+            }
+            case BOOKMARK_END -> {
+                WordDocument.BookmarkEnd end = new WordDocument.BookmarkEnd(reader.attribute(Namespaces.WORD_MAIN, "id"));
+                reader.skipElement();
+                yield end;
+            }
+            case FLD_SIMPLE -> parseSimpleField(reader);
+            case SDT -> parseStructuredDocumentTagRun(reader, relationships);
+            default -> throw reader.unknownElement(errorContext);
+        };
+    }
+
+    private WordDocument.StructuredDocumentTagRun parseStructuredDocumentTagRun(PartReader reader,
+                                                                               RelationshipSet relationships) throws XMLStreamException {
+        Element sdtPr = null;
+        List<WordDocument.ParagraphContent> items = null;
+        while (reader.nextChild()) {
+            if (sdtPr == null && reader.element() == WordElement.SDT_PR) {
+                sdtPr = reader.readFragment();
+            } else if (items == null && reader.element() == WordElement.SDT_CONTENT) {
+                items = new ArrayList<>();
+                while (reader.nextChild()) {
+                    items.add(parseParagraphContent(reader, relationships, "structured document content"));
+                }
+            } else {
+                reader.skipElement();
+            }
+        }
+        return new WordDocument.StructuredDocumentTagRun(SdtParser.parsePropertiesElement(sdtPr, context),
+                items != null ? items : List.of());
+    }
+
+    private WordDocument.Hyperlink parseHyperlink(PartReader reader) throws XMLStreamException {
+        String relId = reader.attribute(RELATIONSHIPS_NS, "id");
+        String anchor = reader.attribute(Namespaces.WORD_MAIN, "anchor");
+        List<WordDocument.Run> runs = parseChildRuns(reader);
+        return new WordDocument.Hyperlink(relId.isEmpty() ? null : relId, anchor.isEmpty() ? null : anchor, runs);
+    }
+
+    private WordDocument.Field parseSimpleField(PartReader reader) throws XMLStreamException {
+        String instruction = reader.attribute(Namespaces.WORD_MAIN, "instr");
+        WordDocument.Run instrRun = new WordDocument.Run(context.runParser.parseRunProperties(null),
+                List.of(new WordDocument.FieldInstruction(instruction)));
+        List<WordDocument.Run> result = parseChildRuns(reader);
+        return new WordDocument.Field(List.of(instrRun), result);
+    }
+
+    private List<WordDocument.Run> parseChildRuns(PartReader reader) throws XMLStreamException {
+        List<WordDocument.Run> runs = new ArrayList<>();
+        while (reader.nextChild()) {
+            if (reader.element() == WordElement.R) {
+                runs.add(parseRun(reader));
+            } else {
+                reader.skipElement();
+            }
+        }
+        return runs;
+    }
+
+    WordDocument.Run parseRun(PartReader reader) throws XMLStreamException {
+        Element rPr = null;
+        List<WordDocument.Inline> inlines = new ArrayList<>();
+        while (reader.nextChild()) {
+            switch (reader.element()) {
+                case R_PR -> {
+                    if (rPr == null) {
+                        rPr = reader.readFragment();
+                    } else {
+                        reader.skipElement();
+                    }
+                }
+                case T -> {
+                    boolean preserve = "preserve".equals(reader.attribute(XMLConstants.XML_NS_URI, "space"));
+                    inlines.add(new WordDocument.Text(reader.readText(), preserve));
+                }
+                case TAB -> {
+                    reader.skipElement();
+                    inlines.add(new WordDocument.Tab());
+                }
+                case BR, CR -> inlines.add(context.runParser.parseBreak(reader.readFragment()));
+                case NO_BREAK_HYPHEN -> {
+                    reader.skipElement();
+                    inlines.add(new WordDocument.NoBreakHyphen());
+                }
+                case SOFT_HYPHEN -> {
+                    reader.skipElement();
+                    inlines.add(new WordDocument.SoftHyphen());
+                }
+                case SEPARATOR -> {
+                    reader.skipElement();
+                    inlines.add(new WordDocument.Separator(WordDocument.Separator.Kind.FOOTNOTE));
+                }
+                case CONTINUATION_SEPARATOR -> {
+                    reader.skipElement();
+                    inlines.add(new WordDocument.Separator(WordDocument.Separator.Kind.CONTINUATION));
+                }
+                case SYM -> inlines.add(context.runParser.parseSymbol(reader.readFragment()));
+                case FOOTNOTE_REFERENCE -> inlines.add(new WordDocument.FootnoteReference(readIdAndSkip(reader)));
+                case FOOTNOTE_REF -> {
+                    reader.skipElement();
+                    inlines.add(new WordDocument.ReferenceMark(WordDocument.ReferenceMark.Kind.FOOTNOTE));
+                }
+                case ENDNOTE_REFERENCE -> inlines.add(new WordDocument.EndnoteReference(readIdAndSkip(reader)));
+                case ENDNOTE_REF -> {
+                    reader.skipElement();
+                    inlines.add(new WordDocument.ReferenceMark(WordDocument.ReferenceMark.Kind.ENDNOTE));
+                }
+                case COMMENT_REFERENCE -> inlines.add(new WordDocument.CommentReference(readIdAndSkip(reader)));
+                case FLD_CHAR -> inlines.add(context.runParser.parseFieldChar(reader.readFragment()));
+                case INSTR_TEXT -> inlines.add(new WordDocument.FieldInstruction(reader.readText()));
+                case DRAWING -> inlines.add(context.runParser.parseDrawing(reader.readFragment()));
+                case PICT -> {
+                    WordDocument.Inline inline = context.runParser.parsePict(reader.readFragment());
+                    if (inline != null) {
+                        inlines.add(inline);
+                    }
+                }
+                default -> throw reader.unknownElement("run content");
+            }
+        }
+        return new WordDocument.Run(context.runParser.parseRunProperties(rPr), inlines);
+    }
+
+    private int readIdAndSkip(PartReader reader) throws XMLStreamException {
+        int id = Integer.parseInt(reader.attribute(Namespaces.WORD_MAIN, "id"));
+        reader.skipElement();
+        return id;
+    }
+
+    private WordDocument.Table parseTable(PartReader reader, RelationshipSet relationships) throws XMLStreamException {
+        Element tblPr = null;
+        List<WordDocument.TableRow> rows = new ArrayList<>();
+        while (reader.nextChild()) {
+            switch (reader.element()) {
+                case TBL_PR -> {
+                    if (tblPr == null) {
+                        tblPr = reader.readFragment();
+                    } else {
+                        reader.skipElement();
+                    }
+                }
+                case TBL_GRID, TBL_PR_EX -> reader.skipElement();
+                case TR -> rows.add(parseTableRow(reader, relationships));
+                default -> throw reader.unknownElement("table");
+            }
+        }
+        return new WordDocument.Table(context.tableParser.parseTableProperties(tblPr), rows);
+    }
+
+    private WordDocument.TableRow parseTableRow(PartReader reader, RelationshipSet relationships) throws XMLStreamException {
+        Element trPr = null;
+        List<WordDocument.TableCell> cells = new ArrayList<>();
+        while (reader.nextChild()) {
+            switch (reader.element()) {
+                case TR_PR -> {
+                    if (trPr == null) {
+                        trPr = reader.readFragment();
+                    } else {
+                        reader.skipElement();
+                    }
+                }
+                case TC -> cells.add(parseTableCell(reader, relationships));
+                default -> throw reader.unknownElement("table row");
+            }
+        }
+        return new WordDocument.TableRow(context.tableParser.parseTableRowProperties(trPr), cells);
+    }
+
+    private WordDocument.TableCell parseTableCell(PartReader reader, RelationshipSet relationships) throws XMLStreamException {
+        Element tcPr = null;
+        List<WordDocument.Block> blocks = new ArrayList<>();
+        while (reader.nextChild()) {
+            switch (reader.element()) {
+                case TC_PR -> {
+                    if (tcPr == null) {
+                        tcPr = reader.readFragment();
+                    } else {
+                        reader.skipElement();
+                    }
+                }
+                case P -> blocks.add(parseParagraph(reader, relationships));
+                case TBL -> blocks.add(parseTable(reader, relationships));
+                case SDT -> blocks.add(parseStructuredDocumentTag(reader, relationships));
+                default -> throw reader.unknownElement("table cell");
+            }
+        }
+        return new WordDocument.TableCell(context.tableParser.parseTableCellProperties(tcPr), blocks);
+    }
+}
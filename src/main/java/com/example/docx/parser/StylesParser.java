@@ -33,10 +33,24 @@ public final class StylesParser {
         if (!archive.exists("word/styles.xml")) {
             return null;
         }
+        parseRelationships(archive, builder);
+        return parseDefinitions(archive);
+    }
+
+    /**
+     * Adds the relationships of {@code word/styles.xml}, if any, to {@code builder}.
+     */
+    public void parseRelationships(DocxArchive archive, DocxPackage.Builder builder) throws IOException {
         RelationshipSet rels = relationshipsParser.parse(archive, "word/_rels/styles.xml.rels");
         if (rels != null) {
             builder.relationshipForPart("word/styles.xml", rels);
         }
+    }
+
+    /**
+     * Parses the style definitions alone; {@code word/styles.xml} must exist.
+     */
+    public StyleDefinitions parseDefinitions(DocxArchive archive) throws IOException {
         try (InputStream input = archive.open("word/styles.xml")) {
             Document document = XmlUtils.parse(input);
             Element root = document.getDocumentElement();
@@ -50,8 +64,45 @@ public final class StylesParser {
                     defaultHierarchy.add(style.styleId());
                 }
             }
-            return new StyleDefinitions(styles, defaultHierarchy, docDefaults);
+            return new StyleDefinitions(styles, defaultHierarchy,
+                    parseDefaultParagraphProperties(docDefaults), parseDefaultRunProperties(docDefaults),
+                    context.retain(docDefaults));
+        }
+    }
+
+    private WordDocument.ParagraphProperties parseDefaultParagraphProperties(Element docDefaults) {
+        if (docDefaults == null) {
+            return null;
+        }
+        return XmlUtils.firstChild(docDefaults, Namespaces.WORD_MAIN, "pPrDefault")
+                .flatMap(pPrDefault -> XmlUtils.firstChild(pPrDefault, Namespaces.WORD_MAIN, "pPr"))
+                .map(context.paragraphParser::parseProperties)
+                .orElse(null);
+    }
+
+    private WordDocument.RunProperties parseDefaultRunProperties(Element docDefaults) {
+        if (docDefaults == null) {
+            return null;
+        }
+        return XmlUtils.firstChild(docDefaults, Namespaces.WORD_MAIN, "rPrDefault")
+                .flatMap(rPrDefault -> XmlUtils.firstChild(rPrDefault, Namespaces.WORD_MAIN, "rPr"))
+                .map(context.runParser::parseRunProperties)
+                .orElse(null);
+    }
+
+    private List<StyleDefinitions.TableStyleOverride> parseTableStyleOverrides(Element styleEl) {
+        List<StyleDefinitions.TableStyleOverride> overrides = new ArrayList<>();
+        for (Element tblStylePr : XmlUtils.children(styleEl, Namespaces.WORD_MAIN, "tblStylePr")) {
+            Element rPr = XmlUtils.firstChild(tblStylePr, Namespaces.WORD_MAIN, "rPr").orElse(null);
+            Element tblPr = XmlUtils.firstChild(tblStylePr, Namespaces.WORD_MAIN, "tblPr").orElse(null);
+            Element tcPr = XmlUtils.firstChild(tblStylePr, Namespaces.WORD_MAIN, "tcPr").orElse(null);
+            overrides.add(new StyleDefinitions.TableStyleOverride(
+                    tblStylePr.getAttributeNS(Namespaces.WORD_MAIN, "type"),
+                    rPr == null ? null : context.runParser.parseRunProperties(rPr),
+                    tblPr == null ? null : context.tableParser.parseTableProperties(tblPr),
+                    tcPr == null ? null : context.tableParser.parseTableCellProperties(tcPr)));
         }
+        return overrides;
     }
 
     private Style parseStyle(Document document, Element styleEl) {
@@ -90,9 +141,11 @@ public final class StylesParser {
         }
         Element tblPr = XmlUtils.firstChild(styleEl, Namespaces.WORD_MAIN, "tblPr").orElse(null);
         if (tblPr != null) {
-            tableProperties = new TableStyleProperties(tblPr);
+            tableProperties = new TableStyleProperties(FormattingParser.parseShading(tblPr),
+                    FormattingParser.parseBorders(tblPr, "tblBorders"), context.retain(tblPr));
         }
         return new Style(styleId, type, name, basedOn, next, link, defaultStyle, customStyle,
-                paragraphProperties, runProperties, tableProperties, styleEl);
+                paragraphProperties, runProperties, tableProperties, parseTableStyleOverrides(styleEl),
+                context.retain(styleEl));
     }
 }
@@ -19,17 +19,15 @@ final class TableParser {
     }
 
     WordDocument.Table parseTable(Element tableElement, RelationshipSet relationships) {
-        WordDocument.TableProperties properties = parseTableProperties(tableElement);
+        WordDocument.TableProperties properties = parseTableProperties(
+                XmlUtils.child(tableElement, Namespaces.WORD_MAIN, "tblPr"));
         List<WordDocument.TableRow> rows = new ArrayList<>();
-        for (Element child : XmlUtils.childElements(tableElement)) {
-            if (!Namespaces.WORD_MAIN.equals(child.getNamespaceURI())) {
-                throw ParserSupport.unknownElement("table", child);
-            }
-            switch (child.getLocalName()) {
-                case "tblPr", "tblGrid", "tblPrEx" -> {
+        for (Element child = XmlUtils.firstChildElement(tableElement); child != null; child = XmlUtils.nextSiblingElement(child)) {
+            switch (WordElement.of(child)) {
+                case TBL_PR, TBL_GRID, TBL_PR_EX -> {
                     // handled elsewhere or not required for in-memory model yet
                 }
-                case "tr" -> rows.add(parseTableRow(child, relationships));
+                case TR -> rows.add(parseTableRow(child, relationships));
                 default -> throw ParserSupport.unknownElement("table", child);
             }
         }
@@ -37,17 +35,15 @@ final class TableParser {
     }
 
     private WordDocument.TableRow parseTableRow(Element rowElement, RelationshipSet relationships) {
-        WordDocument.TableRowProperties properties = parseTableRowProperties(rowElement);
+        WordDocument.TableRowProperties properties = parseTableRowProperties(
+                XmlUtils.child(rowElement, Namespaces.WORD_MAIN, "trPr"));
         List<WordDocument.TableCell> cells = new ArrayList<>();
-        for (Element child : XmlUtils.childElements(rowElement)) {
-            if (!Namespaces.WORD_MAIN.equals(child.getNamespaceURI())) {
-                throw ParserSupport.unknownElement("table row", child);
-            }
-            switch (child.getLocalName()) {
-                case "trPr" -> {
+        for (Element child = XmlUtils.firstChildElement(rowElement); child != null; child = XmlUtils.nextSiblingElement(child)) {
+            switch (WordElement.of(child)) {
+                case TR_PR -> {
                     // already extracted in properties
                 }
-                case "tc" -> cells.add(parseTableCell(child, relationships));
+                case TC -> cells.add(parseTableCell(child, relationships));
                 default -> throw ParserSupport.unknownElement("table row", child);
             }
         }
@@ -55,38 +51,46 @@ final class TableParser {
     }
 
     private WordDocument.TableCell parseTableCell(Element cellElement, RelationshipSet relationships) {
-        WordDocument.TableCellProperties properties = parseTableCellProperties(cellElement);
+        WordDocument.TableCellProperties properties = parseTableCellProperties(
+                XmlUtils.child(cellElement, Namespaces.WORD_MAIN, "tcPr"));
         List<WordDocument.Block> blocks = new ArrayList<>();
-        for (Element child : XmlUtils.childElements(cellElement)) {
-            if (!Namespaces.WORD_MAIN.equals(child.getNamespaceURI())) {
-                throw ParserSupport.unknownElement("table cell", child);
-            }
-            switch (child.getLocalName()) {
-                case "tcPr" -> {
+        for (Element child = XmlUtils.firstChildElement(cellElement); child != null; child = XmlUtils.nextSiblingElement(child)) {
+            switch (WordElement.of(child)) {
+                case TC_PR -> {
                     // already consumed in properties
                 }
-                case "p" -> blocks.add(context.paragraphParser.parseParagraph(child, relationships));
-                case "tbl" -> blocks.add(parseTable(child, relationships));
-                case "sdt" -> blocks.add(context.blockParser.parseStructuredDocumentTag(child, relationships));
+                case P -> blocks.add(context.paragraphParser.parseParagraph(child, relationships));
+                case TBL -> blocks.add(parseTable(child, relationships));
+                case SDT -> blocks.add(context.blockParser.parseStructuredDocumentTag(child, relationships));
                 default -> throw ParserSupport.unknownElement("table cell", child);
             }
         }
         return new WordDocument.TableCell(properties, blocks);
     }
 
-    private WordDocument.TableProperties parseTableProperties(Element element) {
-        Element tblPr = XmlUtils.firstChild(element, Namespaces.WORD_MAIN, "tblPr").orElse(null);
+    WordDocument.TableProperties parseTableProperties(Element tblPr) {
         if (tblPr == null) {
             return new WordDocument.TableProperties(null, null, null, null, null);
         }
-        String styleId = XmlUtils.firstChild(tblPr, Namespaces.WORD_MAIN, "tblStyle")
-                .map(el -> el.getAttributeNS(Namespaces.WORD_MAIN, "val"))
-                .filter(val -> !val.isEmpty())
-                .orElse(null);
-        Element tblW = XmlUtils.firstChild(tblPr, Namespaces.WORD_MAIN, "tblW").orElse(null);
+        Element tblStyle = null;
+        Element tblW = null;
+        Element tblLook = null;
+        Element shd = null;
+        Element tblBorders = null;
+        for (Element child = XmlUtils.firstChildElement(tblPr); child != null; child = XmlUtils.nextSiblingElement(child)) {
+            switch (WordElement.of(child)) {
+                case TBL_STYLE -> tblStyle = tblStyle != null ? tblStyle : child;
+                case TBL_W -> tblW = tblW != null ? tblW : child;
+                case TBL_LOOK -> tblLook = tblLook != null ? tblLook : child;
+                case SHD -> shd = shd != null ? shd : child;
+                case TBL_BORDERS -> tblBorders = tblBorders != null ? tblBorders : child;
+                default -> {
+                }
+            }
+        }
+        String styleId = RunParser.wordValue(tblStyle);
         Integer width = tblW != null ? XmlUtils.intAttribute(tblW, "w:w") : null;
         String widthType = tblW != null ? tblW.getAttributeNS(Namespaces.WORD_MAIN, "type") : null;
-        Element tblLook = XmlUtils.firstChild(tblPr, Namespaces.WORD_MAIN, "tblLook").orElse(null);
         Integer look = null;
         if (tblLook != null) {
             String val = tblLook.getAttributeNS(Namespaces.WORD_MAIN, "val");
@@ -98,42 +102,70 @@ final class TableParser {
                 }
             }
         }
-        return new WordDocument.TableProperties(styleId, width, widthType, look, tblPr);
+        return new WordDocument.TableProperties(styleId, width, widthType, look,
+                FormattingParser.readShading(shd), FormattingParser.readBorders(tblBorders),
+                context.retain(tblPr));
     }
 
-    private WordDocument.TableRowProperties parseTableRowProperties(Element element) {
-        Element trPr = XmlUtils.firstChild(element, Namespaces.WORD_MAIN, "trPr").orElse(null);
+    WordDocument.TableRowProperties parseTableRowProperties(Element trPr) {
         if (trPr == null) {
             return new WordDocument.TableRowProperties(false, null, null, null, null);
         }
-        boolean cantSplit = XmlUtils.booleanElement(trPr, Namespaces.WORD_MAIN, "cantSplit");
-        Integer gridAfter = XmlUtils.firstChild(trPr, Namespaces.WORD_MAIN, "gridAfter")
-                .map(el -> XmlUtils.intAttribute(el, "w:val"))
-                .orElse(null);
-        Integer gridBefore = XmlUtils.firstChild(trPr, Namespaces.WORD_MAIN, "gridBefore")
-                .map(el -> XmlUtils.intAttribute(el, "w:val"))
-                .orElse(null);
-        Integer heightTwip = XmlUtils.firstChild(trPr, Namespaces.WORD_MAIN, "trHeight")
-                .map(el -> XmlUtils.intAttribute(el, "w:val"))
-                .orElse(null);
-        return new WordDocument.TableRowProperties(cantSplit, gridAfter, gridBefore, heightTwip, trPr);
+        Element cantSplit = null;
+        Element gridAfter = null;
+        Element gridBefore = null;
+        Element trHeight = null;
+        Element cnfStyle = null;
+        Element shd = null;
+        for (Element child = XmlUtils.firstChildElement(trPr); child != null; child = XmlUtils.nextSiblingElement(child)) {
+            switch (WordElement.of(child)) {
+                case CANT_SPLIT -> cantSplit = cantSplit != null ? cantSplit : child;
+                case GRID_AFTER -> gridAfter = gridAfter != null ? gridAfter : child;
+                case GRID_BEFORE -> gridBefore = gridBefore != null ? gridBefore : child;
+                case TR_HEIGHT -> trHeight = trHeight != null ? trHeight : child;
+                case CNF_STYLE -> cnfStyle = cnfStyle != null ? cnfStyle : child;
+                case SHD -> shd = shd != null ? shd : child;
+                default -> {
+                }
+            }
+        }
+        return new WordDocument.TableRowProperties(cantSplit != null && XmlUtils.booleanValue(cantSplit),
+                intValue(gridAfter), intValue(gridBefore), intValue(trHeight),
+                FormattingParser.readConditionalFormatting(cnfStyle), FormattingParser.readShading(shd),
+                context.retain(trPr));
     }
 
-    private WordDocument.TableCellProperties parseTableCellProperties(Element element) {
-        Element tcPr = XmlUtils.firstChild(element, Namespaces.WORD_MAIN, "tcPr").orElse(null);
+    WordDocument.TableCellProperties parseTableCellProperties(Element tcPr) {
         if (tcPr == null) {
             return new WordDocument.TableCellProperties(null, null, null, null, false, null);
         }
-        Integer gridSpan = XmlUtils.firstChild(tcPr, Namespaces.WORD_MAIN, "gridSpan")
-                .map(el -> XmlUtils.intAttribute(el, "w:val"))
-                .orElse(null);
-        Element widthEl = XmlUtils.firstChild(tcPr, Namespaces.WORD_MAIN, "tcW").orElse(null);
-        Integer width = widthEl != null ? XmlUtils.intAttribute(widthEl, "w:w") : null;
-        String widthType = widthEl != null ? widthEl.getAttributeNS(Namespaces.WORD_MAIN, "type") : null;
-        String vAlign = XmlUtils.firstChild(tcPr, Namespaces.WORD_MAIN, "vAlign")
-                .map(el -> el.getAttributeNS(Namespaces.WORD_MAIN, "val"))
-                .orElse(null);
-        boolean vMerge = XmlUtils.firstChild(tcPr, Namespaces.WORD_MAIN, "vMerge").isPresent();
-        return new WordDocument.TableCellProperties(gridSpan, width, widthType, vAlign, vMerge, tcPr);
+        Element gridSpan = null;
+        Element tcW = null;
+        Element vAlign = null;
+        Element vMerge = null;
+        Element shd = null;
+        Element tcBorders = null;
+        for (Element child = XmlUtils.firstChildElement(tcPr); child != null; child = XmlUtils.nextSiblingElement(child)) {
+            switch (WordElement.of(child)) {
+                case GRID_SPAN -> gridSpan = gridSpan != null ? gridSpan : child;
+                case TC_W -> tcW = tcW != null ? tcW : child;
+                case V_ALIGN -> vAlign = vAlign != null ? vAlign : child;
+                case V_MERGE -> vMerge = vMerge != null ? vMerge : child;
+                case SHD -> shd = shd != null ? shd : child;
+                case TC_BORDERS -> tcBorders = tcBorders != null ? tcBorders : child;
+                default -> {
+                }
+            }
+        }
+        Integer width = tcW != null ? XmlUtils.intAttribute(tcW, "w:w") : null;
+        String widthType = tcW != null ? tcW.getAttributeNS(Namespaces.WORD_MAIN, "type") : null;
+        return new WordDocument.TableCellProperties(intValue(gridSpan), width, widthType,
+                vAlign != null ? vAlign.getAttributeNS(Namespaces.WORD_MAIN, "val") : null, vMerge != null,
+                FormattingParser.readShading(shd), FormattingParser.readBorders(tcBorders),
+                context.retain(tcPr));
+    }
+
+    private static Integer intValue(Element element) {
+        return element != null ? XmlUtils.intAttribute(element, "w:val") : null;
     }
 }
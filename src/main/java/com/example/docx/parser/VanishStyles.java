@@ -0,0 +1,210 @@
+package com.example.docx.parser;
+
+import com.example.docx.io.DocxArchive;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The part of {@code word/styles.xml} that decides whether a run is hidden. Toggles cascade the way
+ * the HTML style resolver folds them: a run is hidden when its own properties, its character style
+ * chain, its paragraph mark, its paragraph style chain (with linked styles), the default styles or
+ * the document defaults switch {@code w:vanish} on. Styles are read with a pull parser and reduced
+ * to a few flags per style.
+ */
+final class VanishStyles {
+
+    private final Map<String, StyleFlags> styles;
+    private final boolean defaults;
+    private final Map<String, Boolean> paragraphStyles = new HashMap<>();
+    private final Map<String, Boolean> characterStyles = new HashMap<>();
+
+    private VanishStyles(Map<String, StyleFlags> styles, boolean defaults) {
+        this.styles = styles;
+        this.defaults = defaults;
+    }
+
+    static VanishStyles read(DocxArchive archive) throws IOException {
+        if (!archive.exists("word/styles.xml")) {
+            return new VanishStyles(Map.of(), false);
+        }
+        try (InputStream input = archive.open("word/styles.xml");
+             PartReader reader = new PartReader(XmlUtils.openStream(input))) {
+            reader.moveToRoot();
+            Map<String, StyleFlags> styles = new HashMap<>();
+            boolean documentDefaults = false;
+            boolean defaultStyles = false;
+            while (reader.nextChild()) {
+                switch (reader.element()) {
+                    case DOC_DEFAULTS -> documentDefaults = readDocumentDefaults(reader);
+                    case STYLE -> {
+                        StyleFlags style = readStyle(reader);
+                        styles.put(style.styleId(), style);
+                    }
+                    default -> reader.skipElement();
+                }
+            }
+            // every default style joins the paragraph fallbacks, whatever its type
+            for (StyleFlags style : styles.values()) {
+                if (style.defaultStyle() && contributes(style, styles)) {
+                    defaultStyles = true;
+                    break;
+                }
+            }
+            return new VanishStyles(styles, documentDefaults || defaultStyles);
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to parse XML document", e);
+        }
+    }
+
+    /**
+     * Whether runs of a paragraph with style {@code styleId}, or no style when {@code null}, are
+     * hidden before their own properties are applied.
+     */
+    boolean paragraph(String styleId) {
+        if (defaults) {
+            return true;
+        }
+        if (styleId == null) {
+            return false;
+        }
+        Boolean hidden = paragraphStyles.get(styleId);
+        if (hidden == null) {
+            hidden = false;
+            Set<String> seen = new HashSet<>();
+            for (StyleFlags style = styles.get(styleId); style != null && seen.add(style.styleId());
+                 style = style.basedOn() == null ? null : styles.get(style.basedOn())) {
+                if (contributes(style, styles)) {
+                    hidden = true;
+                    break;
+                }
+            }
+            paragraphStyles.put(styleId, hidden);
+        }
+        return hidden;
+    }
+
+    /**
+     * Whether the character style chain of {@code styleId} hides the runs using it.
+     */
+    boolean character(String styleId) {
+        if (styleId == null) {
+            return false;
+        }
+        Boolean hidden = characterStyles.get(styleId);
+        if (hidden == null) {
+            hidden = false;
+            Set<String> seen = new HashSet<>();
+            for (StyleFlags style = styles.get(styleId); style != null && seen.add(style.styleId());
+                 style = style.basedOn() == null ? null : styles.get(style.basedOn())) {
+                if ("character".equals(style.type()) && style.runVanish()) {
+                    hidden = true;
+                    break;
+                }
+            }
+            characterStyles.put(styleId, hidden);
+        }
+        return hidden;
+    }
+
+    private static boolean contributes(StyleFlags style, Map<String, StyleFlags> styles) {
+        if (style.runVanish() || style.markVanish()) {
+            return true;
+        }
+        StyleFlags linked = style.link() == null ? null : styles.get(style.link());
+        return linked != null && linked.runVanish();
+    }
+
+    private static boolean readDocumentDefaults(PartReader reader) throws XMLStreamException {
+        boolean hidden = false;
+        while (reader.nextChild()) {
+            switch (reader.element()) {
+                case R_PR_DEFAULT -> hidden |= readNested(reader, WordElement.R_PR);
+                case P_PR_DEFAULT -> hidden |= readNested(reader, WordElement.P_PR);
+                default -> reader.skipElement();
+            }
+        }
+        return hidden;
+    }
+
+    /**
+     * Reads the first {@code container} child of the current element, a run or paragraph property
+     * set, and reports whether it switches {@code w:vanish} on.
+     */
+    private static boolean readNested(PartReader reader, WordElement container) throws XMLStreamException {
+        boolean hidden = false;
+        boolean found = false;
+        while (reader.nextChild()) {
+            if (!found && reader.element() == container) {
+                found = true;
+                hidden = container == WordElement.R_PR ? readVanish(reader) : readNested(reader, WordElement.R_PR);
+            } else {
+                reader.skipElement();
+            }
+        }
+        return hidden;
+    }
+
+    /**
+     * Reads the current {@code w:rPr} and returns its {@code w:vanish} toggle.
+     */
+    static boolean readVanish(PartReader reader) throws XMLStreamException {
+        Boolean vanish = null;
+        while (reader.nextChild()) {
+            if (vanish == null && reader.element() == WordElement.VANISH) {
+                vanish = reader.readBoolean();
+            } else {
+                reader.skipElement();
+            }
+        }
+        return vanish != null && vanish;
+    }
+
+    private static StyleFlags readStyle(PartReader reader) throws XMLStreamException {
+        String styleId = reader.attribute(Namespaces.WORD_MAIN, "styleId");
+        String type = reader.attribute(Namespaces.WORD_MAIN, "type");
+        boolean defaultStyle = "1".equals(reader.attribute(Namespaces.WORD_MAIN, "default"));
+        String basedOn = null;
+        String link = null;
+        Boolean runVanish = null;
+        Boolean markVanish = null;
+        while (reader.nextChild()) {
+            switch (reader.element()) {
+                case BASED_ON -> {
+                    basedOn = basedOn != null ? basedOn : reader.attribute(Namespaces.WORD_MAIN, "val");
+                    reader.skipElement();
+                }
+                case LINK -> {
+                    link = link != null ? link : reader.attribute(Namespaces.WORD_MAIN, "val");
+                    reader.skipElement();
+                }
+                case R_PR -> {
+                    if (runVanish == null) {
+                        runVanish = readVanish(reader);
+                    } else {
+                        reader.skipElement();
+                    }
+                }
+                case P_PR -> {
+                    if (markVanish == null) {
+                        markVanish = readNested(reader, WordElement.R_PR);
+                    } else {
+                        reader.skipElement();
+                    }
+                }
+                default -> reader.skipElement();
+            }
+        }
+        return new StyleFlags(styleId, type, defaultStyle, basedOn, link,
+                runVanish != null && runVanish, markVanish != null && markVanish);
+    }
+
+    private record StyleFlags(String styleId, String type, boolean defaultStyle, String basedOn, String link,
+                              boolean runVanish, boolean markVanish) {
+    }
+}
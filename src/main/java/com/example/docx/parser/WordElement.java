@@ -0,0 +1,180 @@
+package com.example.docx.parser;
+
+import org.w3c.dom.Node;
+
+/**
+ * Symbol table for the WordprocessingML element names the parsers dispatch on. Each element is
+ * resolved to a constant once, so dispatch is a switch over small ordinals instead of a chain of
+ * string comparisons; anything outside {@link Namespaces#WORD_MAIN} or not listed here is
+ * {@link #OTHER}.
+ */
+enum WordElement {
+    OTHER(null),
+
+    // block and paragraph content
+    BODY("body"),
+    P("p"),
+    TBL("tbl"),
+    SDT("sdt"),
+    SDT_PR("sdtPr"),
+    SDT_CONTENT("sdtContent"),
+    SECT_PR("sectPr"),
+    BOOKMARK_START("bookmarkStart"),
+    BOOKMARK_END("bookmarkEnd"),
+    HYPERLINK("hyperlink"),
+    FLD_SIMPLE("fldSimple"),
+    R("r"),
+
+    // run content
+    T("t"),
+    TAB("tab"),
+    BR("br"),
+    CR("cr"),
+    NO_BREAK_HYPHEN("noBreakHyphen"),
+    SOFT_HYPHEN("softHyphen"),
+    SEPARATOR("separator"),
+    CONTINUATION_SEPARATOR("continuationSeparator"),
+    SYM("sym"),
+    FOOTNOTE_REFERENCE("footnoteReference"),
+    FOOTNOTE_REF("footnoteRef"),
+    ENDNOTE_REFERENCE("endnoteReference"),
+    ENDNOTE_REF("endnoteRef"),
+    COMMENT_REFERENCE("commentReference"),
+    FLD_CHAR("fldChar"),
+    INSTR_TEXT("instrText"),
+    DRAWING("drawing"),
+    PICT("pict"),
+
+    // tables
+    TBL_PR("tblPr"),
+    TBL_GRID("tblGrid"),
+    TBL_PR_EX("tblPrEx"),
+    TR("tr"),
+    TR_PR("trPr"),
+    TC("tc"),
+    TC_PR("tcPr"),
+
+    // run properties
+    R_PR("rPr"),
+    R_STYLE("rStyle"),
+    B("b"),
+    I("i"),
+    U("u"),
+    STRIKE("strike"),
+    DSTRIKE("dstrike"),
+    SMALL_CAPS("smallCaps"),
+    CAPS("caps"),
+    VANISH("vanish"),
+    COLOR("color"),
+    HIGHLIGHT("highlight"),
+    VERT_ALIGN("vertAlign"),
+    SZ("sz"),
+    SZ_CS("szCs"),
+    R_FONTS("rFonts"),
+    BDR("bdr"),
+
+    // paragraph properties
+    P_PR("pPr"),
+    P_STYLE("pStyle"),
+    NUM_PR("numPr"),
+    JC("jc"),
+    IND("ind"),
+    SPACING("spacing"),
+    OUTLINE_LVL("outlineLvl"),
+    KEEP_LINES("keepLines"),
+    KEEP_NEXT("keepNext"),
+    PAGE_BREAK_BEFORE("pageBreakBefore"),
+    TABS("tabs"),
+    SHD("shd"),
+    P_BDR("pBdr"),
+
+    // table, row and cell properties
+    TBL_STYLE("tblStyle"),
+    TBL_W("tblW"),
+    TBL_LOOK("tblLook"),
+    TBL_BORDERS("tblBorders"),
+    CANT_SPLIT("cantSplit"),
+    GRID_AFTER("gridAfter"),
+    GRID_BEFORE("gridBefore"),
+    TR_HEIGHT("trHeight"),
+    CNF_STYLE("cnfStyle"),
+    GRID_SPAN("gridSpan"),
+    TC_W("tcW"),
+    V_ALIGN("vAlign"),
+    V_MERGE("vMerge"),
+    TC_BORDERS("tcBorders"),
+
+    // border edges
+    TOP("top"),
+    RIGHT("right"),
+    BOTTOM("bottom"),
+    LEFT("left"),
+    INSIDE_H("insideH"),
+    INSIDE_V("insideV"),
+
+    // notes and style definitions
+    FOOTNOTE("footnote"),
+    ENDNOTE("endnote"),
+    STYLE("style"),
+    BASED_ON("basedOn"),
+    LINK("link"),
+    DOC_DEFAULTS("docDefaults"),
+    R_PR_DEFAULT("rPrDefault"),
+    P_PR_DEFAULT("pPrDefault");
+
+    private static final String[] KEYS;
+    private static final WordElement[] TOKENS;
+    private static final int MASK;
+
+    static {
+        // open addressing at a load factor below one half keeps probe sequences short
+        int capacity = Integer.highestOneBit(values().length * 4);
+        KEYS = new String[capacity];
+        TOKENS = new WordElement[capacity];
+        MASK = capacity - 1;
+        for (WordElement element : values()) {
+            if (element.localName == null) {
+                continue;
+            }
+            int slot = slot(element.localName);
+            while (KEYS[slot] != null) {
+                slot = (slot + 1) & MASK;
+            }
+            KEYS[slot] = element.localName;
+            TOKENS[slot] = element;
+        }
+    }
+
+    private final String localName;
+
+    WordElement(String localName) {
+        this.localName = localName;
+    }
+
+    String localName() {
+        return localName;
+    }
+
+    static WordElement of(Node node) {
+        return of(node.getNamespaceURI(), node.getLocalName());
+    }
+
+    static WordElement of(String namespaceUri, String localName) {
+        // parsers hand out interned names, so the identity checks usually settle the comparison
+        if (localName == null || namespaceUri != Namespaces.WORD_MAIN && !Namespaces.WORD_MAIN.equals(namespaceUri)) {
+            return OTHER;
+        }
+        for (int slot = slot(localName); KEYS[slot] != null; slot = (slot + 1) & MASK) {
+            String key = KEYS[slot];
+            if (key == localName || key.equals(localName)) {
+                return TOKENS[slot];
+            }
+        }
+        return OTHER;
+    }
+
+    private static int slot(String localName) {
+        int hash = localName.hashCode();
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+}
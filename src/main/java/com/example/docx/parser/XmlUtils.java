@@ -1,14 +1,17 @@
 package com.example.docx.parser;
 
+import com.example.docx.DocxException;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -23,6 +26,13 @@ import java.util.Optional;
 public final class XmlUtils {
 
     private static final DocumentBuilderFactory FACTORY = buildFactory();
+    // builders and stream factories are reused across parts; a builder is reset to the factory
+    // configuration, including the hardening features, before it goes back to the pool
+    private static final ParserPool<DocumentBuilder> DOCUMENT_BUILDERS =
+            new ParserPool<>(ParserPool.defaultCapacity(), XmlUtils::newDocumentBuilder, DocumentBuilder::reset);
+    private static final ParserPool<XMLInputFactory> STREAM_FACTORIES =
+            new ParserPool<>(ParserPool.defaultCapacity(), XmlUtils::buildStreamFactory, factory -> {
+            });
 
     private XmlUtils() {
     }
@@ -36,6 +46,9 @@ public final class XmlUtils {
             factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
             factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
             factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            // build the whole tree up front: every part is walked completely anyway, and a deferred
+            // tree mutates itself on first read, which is unsafe once parts are shared between threads
+            factory.setFeature("http://apache.org/xml/features/dom/defer-node-expansion", false);
         } catch (ParserConfigurationException e) {
             throw new IllegalStateException("Failed to configure XML factory", e);
         }
@@ -43,12 +56,65 @@ public final class XmlUtils {
         return factory;
     }
 
+    private static DocumentBuilder newDocumentBuilder() {
+        // DocumentBuilderFactory is not thread-safe; the builders it creates are used by one thread at a time
+        synchronized (FACTORY) {
+            try {
+                return FACTORY.newDocumentBuilder();
+            } catch (ParserConfigurationException e) {
+                throw new IllegalStateException("Failed to create XML parser", e);
+            }
+        }
+    }
+
+    private static XMLInputFactory buildStreamFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
     public static Document parse(InputStream inputStream) throws IOException {
+        DocumentBuilder builder = DOCUMENT_BUILDERS.acquire();
         try {
-            DocumentBuilder builder = FACTORY.newDocumentBuilder();
             return builder.parse(inputStream);
+        } catch (DocxException e) {
+            // a read limit tripped by the stream; keep it recognisable
+            throw e;
         } catch (Exception e) {
             throw new IOException("Failed to parse XML document", e);
+        } finally {
+            DOCUMENT_BUILDERS.release(builder);
+        }
+    }
+
+    /**
+     * Opens a pull parser over the given stream using the same hardening as the DOM path.
+     */
+    public static XMLStreamReader openStream(InputStream inputStream) throws IOException {
+        // XMLInputFactory makes no thread-safety guarantee, so each factory serves one caller at a time;
+        // the readers it creates are confined to the caller
+        XMLInputFactory factory = STREAM_FACTORIES.acquire();
+        try {
+            return factory.createXMLStreamReader(inputStream);
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to open XML stream", e);
+        } finally {
+            STREAM_FACTORIES.release(factory);
+        }
+    }
+
+    /**
+     * Creates an empty document used as owner of detached element fragments.
+     */
+    public static Document newDocument() {
+        DocumentBuilder builder = DOCUMENT_BUILDERS.acquire();
+        try {
+            return builder.newDocument();
+        } finally {
+            DOCUMENT_BUILDERS.release(builder);
         }
     }
 
@@ -60,49 +126,70 @@ public final class XmlUtils {
         return parse(xml.getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * Returns the first element child of {@code parent}, or {@code null}. Together with
+     * {@link #nextSiblingElement(Node)} this walks the children without allocating:
+     * {@code for (Element c = firstChildElement(p); c != null; c = nextSiblingElement(c))}.
+     */
+    public static Element firstChildElement(Node parent) {
+        Node node = parent.getFirstChild();
+        while (node != null && node.getNodeType() != Node.ELEMENT_NODE) {
+            node = node.getNextSibling();
+        }
+        return (Element) node;
+    }
+
+    /**
+     * Returns the next element sibling of {@code node}, or {@code null}.
+     */
+    public static Element nextSiblingElement(Node node) {
+        Node next = node.getNextSibling();
+        while (next != null && next.getNodeType() != Node.ELEMENT_NODE) {
+            next = next.getNextSibling();
+        }
+        return (Element) next;
+    }
+
+    /**
+     * Returns the first matching child of {@code parent}, or {@code null}; the allocation-free
+     * counterpart of {@link #firstChild(Element, String, String)}.
+     */
+    public static Element child(Element parent, String namespaceUri, String localName) {
+        for (Element element = firstChildElement(parent); element != null; element = nextSiblingElement(element)) {
+            if (matches(element, namespaceUri, localName)) {
+                return element;
+            }
+        }
+        return null;
+    }
+
     public static List<Element> children(Element parent, String namespaceUri, String localName) {
         List<Element> result = new ArrayList<>();
-        NodeList nodes = parent.getChildNodes();
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Node node = nodes.item(i);
-            if (node.getNodeType() == Node.ELEMENT_NODE) {
-                Element element = (Element) node;
-                if ((namespaceUri == null || namespaceUri.equals(element.getNamespaceURI()))
-                        && (localName == null || localName.equals(element.getLocalName()))) {
-                    result.add(element);
-                }
+        for (Element element = firstChildElement(parent); element != null; element = nextSiblingElement(element)) {
+            if (matches(element, namespaceUri, localName)) {
+                result.add(element);
             }
         }
         return result;
     }
 
     public static Optional<Element> firstChild(Element parent, String namespaceUri, String localName) {
-        NodeList nodes = parent.getChildNodes();
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Node node = nodes.item(i);
-            if (node.getNodeType() == Node.ELEMENT_NODE) {
-                Element element = (Element) node;
-                if ((namespaceUri == null || namespaceUri.equals(element.getNamespaceURI()))
-                        && (localName == null || localName.equals(element.getLocalName()))) {
-                    return Optional.of(element);
-                }
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(child(parent, namespaceUri, localName));
     }
 
     public static List<Element> childElements(Element parent) {
         List<Element> result = new ArrayList<>();
-        NodeList nodes = parent.getChildNodes();
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Node node = nodes.item(i);
-            if (node.getNodeType() == Node.ELEMENT_NODE) {
-                result.add((Element) node);
-            }
+        for (Element element = firstChildElement(parent); element != null; element = nextSiblingElement(element)) {
+            result.add(element);
         }
         return result;
     }
 
+    private static boolean matches(Element element, String namespaceUri, String localName) {
+        return (namespaceUri == null || namespaceUri.equals(element.getNamespaceURI()))
+                && (localName == null || localName.equals(element.getLocalName()));
+    }
+
     public static String attribute(Element element, String name) {
         if (element.hasAttribute(name)) {
             String value = element.getAttribute(name);
@@ -146,25 +233,35 @@ public final class XmlUtils {
     }
 
     public static boolean booleanElement(Element parent, String namespaceUri, String localName) {
-        return firstChild(parent, namespaceUri, localName)
-                .map(child -> {
-                    String value = attribute(child, "val");
-                    if (value == null) {
-                        value = attribute(child, "w:val");
-                    }
-                    if (value == null) {
-                        return true;
-                    }
-                    return value.isEmpty() || "true".equalsIgnoreCase(value) || "1".equals(value);
-                })
-                .orElse(false);
+        Element element = child(parent, namespaceUri, localName);
+        return element != null && booleanValue(element);
+    }
+
+    /**
+     * Reads an on/off property element such as {@code <w:b/>} or {@code <w:b w:val="0"/>}; a missing
+     * value means on.
+     */
+    public static boolean booleanValue(Element element) {
+        String value = attribute(element, "val");
+        if (value == null) {
+            value = attribute(element, "w:val");
+        }
+        return booleanValue(value);
+    }
+
+    /**
+     * Interprets the {@code w:val} of an on/off property; {@code null} means the attribute is absent.
+     */
+    public static boolean booleanValue(String value) {
+        return value == null || value.isEmpty() || "true".equalsIgnoreCase(value) || "1".equals(value);
     }
 
     public static String textValue(Element parent, String namespaceUri, String localName) {
-        return firstChild(parent, namespaceUri, localName)
-                .map(Node::getTextContent)
-                .map(String::trim)
-                .filter(value -> !value.isEmpty())
-                .orElse(null);
+        Element element = child(parent, namespaceUri, localName);
+        if (element == null) {
+            return null;
+        }
+        String value = element.getTextContent().trim();
+        return value.isEmpty() ? null : value;
     }
 }
@@ -7,7 +7,10 @@ import com.example.docx.model.support.MediaFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 /**
  * Loads binary media files located under {@code word/media}.
@@ -20,11 +23,53 @@ public final class MediaLoader {
             if (entry.endsWith("/")) {
                 continue;
             }
+            Optional<ByteBuffer> view = archive.uncompressedView(entry);
+            if (view.isPresent()) {
+                builder.mediaFile(MediaFile.wrap(entry, contentType(contentTypes, entry), view.get()));
+                continue;
+            }
             try (InputStream input = archive.open(entry)) {
-                byte[] data = input.readAllBytes();
-                String contentType = contentTypes != null ? contentTypes.lookup("/" + entry) : null;
-                builder.mediaFile(new MediaFile(entry, contentType, data));
+                builder.mediaFile(MediaFile.wrap(entry, contentType(contentTypes, entry), input.readAllBytes()));
+            }
+        }
+    }
+
+    /**
+     * Registers the media entries without reading them; their bytes are streamed from {@code archive}
+     * on first use. Once {@code closed} reports the owning package closed, reading media that was not
+     * loaded before throws {@link IllegalStateException}.
+     */
+    public void deferMedia(DocxArchive archive, ContentTypes contentTypes, DocxPackage.Builder builder,
+                           BooleanSupplier closed) throws IOException {
+        Set<String> entries = archive.list("word/media");
+        for (String entry : entries) {
+            if (entry.endsWith("/")) {
+                continue;
             }
+            builder.mediaFile(MediaFile.deferred(entry, contentType(contentTypes, entry), new MediaFile.Content() {
+                @Override
+                public InputStream open() throws IOException {
+                    checkOpen();
+                    return archive.open(entry);
+                }
+
+                @Override
+                public ByteBuffer read() throws IOException {
+                    checkOpen();
+                    Optional<ByteBuffer> view = archive.uncompressedView(entry);
+                    return view.isPresent() ? view.get() : MediaFile.Content.super.read();
+                }
+
+                private void checkOpen() {
+                    if (closed.getAsBoolean()) {
+                        throw new IllegalStateException("DocxPackage is closed; " + entry + " was not loaded");
+                    }
+                }
+            }));
         }
     }
+
+    private static String contentType(ContentTypes contentTypes, String entry) {
+        return contentTypes != null ? contentTypes.lookup("/" + entry) : null;
+    }
 }
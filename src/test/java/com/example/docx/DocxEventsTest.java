@@ -0,0 +1,124 @@
+package com.example.docx;
+
+import com.example.docx.html.DocxToHtml;
+import com.example.docx.model.DocxPackage;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocxEventsTest {
+
+    private static final Path DEMO = Path.of("samples", "demo.docx");
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void recordsReadPartAndConversionEventsOfOnePackage() throws IOException {
+        List<RecordedEvent> events;
+        DocxPackage docxPackage;
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("Read", "PartParse", "MediaLoad", "StyleResolution", "Convert")) {
+                recording.enable("com.example.docx." + name).withoutThreshold();
+            }
+            recording.start();
+            docxPackage = DocxReader.builder().build().read(DEMO);
+            DocxToHtml.builder().build().convert(docxPackage);
+            recording.stop();
+            Path file = temp.resolve("docx.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+        int packageId = System.identityHashCode(docxPackage);
+
+        RecordedEvent read = single(events, "com.example.docx.Read");
+        assertEquals(packageId, read.getInt("packageId"));
+        assertEquals(docxPackage.document().orElseThrow().bodyElements().size(), read.getInt("blocks"));
+        assertTrue(read.getLong("paragraphs") > 0);
+        assertTrue(read.getLong("packageBytes") > 0);
+        assertFalse(read.getBoolean("lazy"));
+
+        long readId = read.getLong("readId");
+        RecordedEvent document = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.docx.PartParse"))
+                .filter(event -> event.getString("stage").equals("MAIN_DOCUMENT"))
+                .findFirst().orElseThrow();
+        assertEquals(readId, document.getLong("readId"));
+        assertEquals("word/document.xml", document.getString("partName"));
+        assertTrue(document.getLong("compressedBytes") < document.getLong("uncompressedBytes"));
+        assertTrue(events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.docx.PartParse"))
+                .anyMatch(event -> event.getString("stage").equals("STYLES")));
+
+        RecordedEvent styles = single(events, "com.example.docx.StyleResolution");
+        assertEquals(packageId, styles.getInt("packageId"));
+        assertEquals(docxPackage.styles().orElseThrow().styles().size(), styles.getInt("styles"));
+
+        RecordedEvent convert = single(events, "com.example.docx.Convert");
+        assertEquals(packageId, convert.getInt("packageId"));
+        assertEquals(read.getInt("blocks"), convert.getInt("blocks"));
+        assertTrue(convert.getLong("htmlChars") > 0);
+    }
+
+    @Test
+    void describesDeferredMediaWithoutReadingIt() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.docx.MediaLoad").withoutThreshold();
+            recording.start();
+            try (DocxPackage docxPackage = DocxReader.builder().build().open(Path.of("samples", "file-sample_1MB.docx"))) {
+                assertFalse(docxPackage.mediaFiles().isEmpty());
+            }
+            recording.stop();
+            Path file = temp.resolve("media.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+        RecordedEvent media = single(events, "com.example.docx.MediaLoad");
+        assertTrue(media.getBoolean("deferred"));
+        assertTrue(media.getInt("files") > 0);
+        assertTrue(media.getLong("compressedBytes") > 0);
+        assertEquals(0, media.getLong("uncompressedBytes"));
+    }
+
+    @Test
+    void resolvedStylesAreOnlySharedThroughAPartCache() throws IOException {
+        // a StyleResolution event is emitted for every conversion that misses the template cache
+        assertEquals(List.of(false, false, false, false), styleResolutions(new DocxReader()));
+        assertEquals(List.of(false, true), styleResolutions(DocxReader.builder().partCache(PartCache.create(16)).build()));
+    }
+
+    private List<Boolean> styleResolutions(DocxReader reader) throws IOException {
+        DocxToHtml converter = DocxToHtml.builder().build();
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.docx.StyleResolution").withoutThreshold();
+            recording.start();
+            for (int i = 0; i < 4; i++) {
+                converter.convert(reader.read(DEMO));
+            }
+            recording.stop();
+            Path file = temp.resolve("styles.jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("com.example.docx.StyleResolution"))
+                    .map(event -> event.getBoolean("cached"))
+                    .toList();
+        }
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
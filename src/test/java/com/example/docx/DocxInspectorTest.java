@@ -0,0 +1,101 @@
+package com.example.docx;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocxInspectorTest {
+
+    private final DocxInspector inspector = new DocxInspector();
+
+    @Test
+    void reportsTheCentralDirectoryOfASample() throws IOException {
+        Path path = Path.of("samples", "file-sample_1MB.docx");
+        PackageManifest manifest = inspector.inspect(path);
+
+        try (ZipFile zip = new ZipFile(path.toFile())) {
+            List<? extends ZipEntry> entries = Collections.list(zip.entries());
+            assertEquals(entries.size(), manifest.parts().size());
+            for (ZipEntry entry : entries) {
+                PackageManifest.Part part = manifest.part(entry.getName()).orElseThrow();
+                assertEquals(entry.getSize(), part.uncompressedBytes(), entry.getName());
+                assertEquals(entry.getCompressedSize(), part.compressedBytes(), entry.getName());
+                assertTrue(part.allowed(), entry.getName());
+            }
+            assertEquals(entries.stream().mapToLong(ZipEntry::getSize).sum(), manifest.uncompressedBytes());
+        }
+        assertTrue(manifest.isSupported());
+        assertTrue(manifest.hasMainDocument());
+        assertEquals(1, manifest.mediaCount());
+        assertEquals(manifest.part("word/media/image1.jpeg").orElseThrow().uncompressedBytes(), manifest.mediaBytes());
+        assertTrue(manifest.xmlBytes() < manifest.uncompressedBytes());
+        assertTrue(manifest.estimatedParseCost() > manifest.xmlBytes());
+        assertTrue(manifest.estimatedParseCost() < manifest.uncompressedBytes());
+
+        assertEquals(manifest.parts(), inspector.inspect(Files.readAllBytes(path)).parts());
+    }
+
+    @Test
+    void flagsThePartsTheReaderWouldReject() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (String name : List.of("word/document.xml", "word/vbaProject.bin", "macros/evil.js")) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write("<x/>".getBytes());
+                zip.closeEntry();
+            }
+        }
+        PackageManifest manifest = inspector.inspect(bytes.toByteArray());
+
+        assertFalse(manifest.isSupported());
+        assertEquals(List.of("word/vbaProject.bin", "macros/evil.js"), manifest.unsupportedParts());
+        assertThrows(DocxException.class, () -> new DocxReader().read(bytes.toByteArray()));
+    }
+
+    @Test
+    void findsTheDirectoryBehindALongComment(@TempDir Path dir) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write("<x/>".getBytes());
+            zip.closeEntry();
+            zip.setComment("c".repeat(8192));
+        }
+        Path path = Files.write(dir.resolve("commented.docx"), bytes.toByteArray());
+
+        PackageManifest manifest = inspector.inspect(path);
+        assertTrue(manifest.hasMainDocument());
+        assertEquals(4, manifest.uncompressedBytes());
+    }
+
+    @Test
+    void inspectsPackagesWithThousandsOfEntries() {
+        byte[] docx = SyntheticDocx.builder().paragraphs(10).media(3000, 16).build().toBytes();
+        PackageManifest manifest = inspector.inspect(docx);
+        assertEquals(3000, manifest.mediaCount());
+        assertEquals(3000 * 16, manifest.mediaBytes());
+        assertTrue(manifest.part("word/media/image2999.png").isPresent());
+    }
+
+    @Test
+    void inspectsAnExtractedPackage() {
+        PackageManifest zipped = inspector.inspect(Path.of("samples", "demo.docx"));
+        PackageManifest directory = inspector.inspect(Path.of("samples", "demo"));
+        assertTrue(directory.hasMainDocument());
+        assertEquals(zipped.mediaCount(), directory.mediaCount());
+        assertEquals(zipped.parts().stream().map(PackageManifest.Part::name).sorted().toList(),
+                directory.parts().stream().map(PackageManifest.Part::name).sorted().toList());
+        assertTrue(directory.parts().stream().allMatch(part -> part.compressedBytes() == part.uncompressedBytes()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.docx;
+
+import com.example.docx.html.DocxToHtml;
+import com.example.docx.io.DocxArchive;
+import com.example.docx.model.DocxPackage;
+import com.example.docx.model.document.WordDocument;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocxMetricsTest {
+
+    private static final Path DEMO = Path.of("samples", "demo.docx");
+
+    @Test
+    void reportsEveryStageOfAReadAndAConversion() throws IOException {
+        DocxMetrics metrics = new DocxMetrics();
+        DocxPackage docxPackage = DocxReader.builder().listener(metrics).build().read(DEMO);
+        DocxToHtml.builder().listener(metrics).build().convert(docxPackage);
+
+        for (DocxListener.Stage stage : DocxListener.Stage.values()) {
+            assertEquals(1, metrics.stage(stage).latency().count(), stage.name());
+        }
+        DocxMetrics.StageMetrics document = metrics.stage(DocxListener.Stage.MAIN_DOCUMENT);
+        assertEquals(1, document.parts());
+        try (DocxArchive archive = DocxArchive.open(DEMO)) {
+            assertEquals(archive.checksum("word/document.xml").orElseThrow().size(), document.uncompressedBytes());
+            assertEquals(archive.storedSize("word/document.xml").orElseThrow(), document.compressedBytes());
+        }
+        assertTrue(document.compressedBytes() < document.uncompressedBytes());
+        assertTrue(metrics.stage(DocxListener.Stage.READ).latency().maxNanos()
+                >= document.latency().maxNanos());
+
+        assertEquals(1, metrics.documents());
+        long paragraphs = docxPackage.document().orElseThrow().bodyElements().stream()
+                .filter(block -> block instanceof WordDocument.Paragraph)
+                .count();
+        assertTrue(metrics.paragraphs() >= paragraphs);
+        assertTrue(metrics.runs() > metrics.paragraphs() / 2);
+        assertTrue(metrics.toString().contains("MAIN_DOCUMENT"));
+    }
+
+    @Test
+    void attributesEachPartToTheStageThatReadIt() {
+        List<DocxListener.PartRead> parts = new CopyOnWriteArrayList<>();
+        Map<DocxListener.Stage, Long> stages = new ConcurrentHashMap<>();
+        DocxListener listener = new DocxListener() {
+            @Override
+            public void partRead(PartRead part) {
+                parts.add(part);
+            }
+
+            @Override
+            public void stageCompleted(Stage stage, long nanos) {
+                stages.merge(stage, 1L, Long::sum);
+            }
+        };
+        DocxReader.builder().listener(listener).parallel(true).memoryMapped(true).build()
+                .read(Path.of("samples", "file-sample_1MB.docx"));
+
+        assertTrue(parts.stream().anyMatch(part -> part.partName().equals("word/document.xml")
+                && part.stage() == DocxListener.Stage.MAIN_DOCUMENT));
+        assertTrue(parts.stream().anyMatch(part -> part.stage() == DocxListener.Stage.MEDIA && part.uncompressedBytes() > 0));
+        assertEquals(parts.size(), parts.stream().map(DocxListener.PartRead::partName).distinct().count(),
+                "each part is reported once");
+        assertEquals(1L, stages.get(DocxListener.Stage.READ));
+    }
+
+    @Test
+    void histogramPercentilesStayWithinTheirBucket() {
+        DocxMetrics metrics = new DocxMetrics();
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            metrics.stageCompleted(DocxListener.Stage.RENDER, nanos);
+        }
+        DocxMetrics.Histogram histogram = metrics.stage(DocxListener.Stage.RENDER).latency();
+        assertEquals(1000, histogram.count());
+        assertEquals(1000, histogram.maxNanos());
+        assertEquals(500.5, histogram.meanNanos(), 1e-9);
+        assertEquals(1000, histogram.percentile(1.0));
+        long median = histogram.percentile(0.5);
+        assertTrue(median >= 500 && median <= 625, "median " + median);
+        assertEquals(0, metrics.stage(DocxListener.Stage.STYLES).latency().percentile(0.99));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(0));
+    }
+}
@@ -1,18 +1,36 @@
 package com.example.docx;
 
+import com.example.docx.html.DocxToHtml;
 import com.example.docx.model.DocxPackage;
 import com.example.docx.model.document.WordDocument;
 import com.example.docx.model.notes.NoteCollection;
+import com.example.docx.model.styles.StyleDefinitions;
+import com.example.docx.model.support.MediaFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,6 +66,271 @@ class DocxReaderTest {
         assertEquals("Demonstration of DOCX support in calibre", text.toString());
     }
 
+    @Test
+    void streamsTopLevelBlocksInOrder() {
+        Path path = Path.of("samples", "demo.docx");
+        List<WordDocument.Block> expected = reader.read(path).document().orElseThrow().bodyElements();
+        List<String> visited = new ArrayList<>();
+        WordDocument.SectionProperties[] section = new WordDocument.SectionProperties[1];
+        reader.stream(path, new BlockVisitor() {
+            @Override
+            public void visitBlock(WordDocument.Block block) {
+                visited.add(block.getClass().getSimpleName());
+            }
+
+            @Override
+            public void visitSectionProperties(WordDocument.SectionProperties sectionProperties) {
+                section[0] = sectionProperties;
+            }
+        });
+        assertEquals(expected.stream().map(block -> block.getClass().getSimpleName()).toList(), visited);
+        assertNotNull(section[0], "body section properties");
+    }
+
+    @Test
+    void detachedModelDropsXmlAndRendersSameHtml() {
+        DocxReader detachedReader = DocxReader.builder().detachedModel(true).build();
+        DocxToHtml converter = new DocxToHtml("fr");
+        for (String sample : List.of("demo.docx", "file-sample_100kB.docx", "file-sample_1MB.docx")) {
+            Path path = Path.of("samples", sample);
+            DocxPackage retained = reader.read(path);
+            DocxPackage detached = detachedReader.read(path);
+            assertEquals(converter.convert(retained), converter.convert(detached), "HTML differs for " + sample);
+
+            StyleDefinitions styles = detached.styles().orElseThrow();
+            assertTrue(styles.rawDocumentDefaults().isEmpty(), "document defaults");
+            assertTrue(styles.styles().values().stream().allMatch(style -> style.rawStyle().isEmpty()), "styles");
+            for (WordDocument.Block block : detached.document().orElseThrow().bodyElements()) {
+                if (block instanceof WordDocument.Paragraph paragraph) {
+                    assertTrue(paragraph.properties().rawProperties().isEmpty(), "paragraph properties");
+                }
+            }
+        }
+    }
+
+    @Test
+    void lazyPackageMatchesEagerPackage() {
+        Path path = Path.of("samples", "demo.docx");
+        DocxPackage eager = reader.read(path);
+        try (DocxPackage lazy = reader.open(path)) {
+            assertTrue(lazy.isLazy());
+            assertEquals(eager.coreProperties().orElseThrow().title(), lazy.coreProperties().orElseThrow().title());
+            assertEquals(eager.mediaFiles().keySet(), lazy.mediaFiles().keySet());
+            assertEquals(eager.charts().keySet(), lazy.charts().keySet());
+            assertEquals(List.copyOf(eager.relationshipsByPart().keySet()), List.copyOf(lazy.relationshipsByPart().keySet()));
+            DocxToHtml converter = new DocxToHtml("fr");
+            assertEquals(converter.convert(eager), converter.convert(lazy));
+        }
+    }
+
+    @Test
+    void lazyPackageMemoizesAndHonoursClose() throws Exception {
+        DocxPackage lazy = reader.open(Path.of("samples", "demo.docx"));
+        List<StyleDefinitions> seen = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(Thread.ofPlatform().start(() -> seen.add(lazy.styles().orElseThrow())));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4, seen.size());
+        assertTrue(seen.stream().allMatch(styles -> styles == seen.get(0)), "styles parsed once");
+
+        lazy.close();
+        lazy.close();
+        assertSame(seen.get(0), lazy.styles().orElseThrow(), "loaded groups survive close");
+        assertThrows(IllegalStateException.class, lazy::numbering);
+    }
+
+    @Test
+    void lazyPackageStreamsMediaFromArchive() throws IOException {
+        Path path = Path.of("samples", "demo.docx");
+        MediaFile eager = reader.read(path).mediaFiles().get("word/media/image1.gif");
+        assertTrue(eager.isLoaded());
+        try (DocxPackage lazy = reader.open(path)) {
+            MediaFile deferred = lazy.mediaFiles().get("word/media/image1.gif");
+            assertFalse(deferred.isLoaded(), "media is not read up front");
+
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            assertEquals(eager.data().length, deferred.transferTo(copy));
+            assertArrayEquals(eager.data(), copy.toByteArray());
+            assertFalse(deferred.isLoaded(), "streaming does not retain the bytes");
+
+            ByteBuffer buffer = deferred.buffer();
+            assertTrue(buffer.isReadOnly());
+            assertEquals(ByteBuffer.wrap(eager.data()), buffer);
+            assertTrue(deferred.isLoaded());
+        }
+    }
+
+    @Test
+    void deferredMediaNeedsAnOpenPackage() throws IOException {
+        for (DocxReader candidate : List.of(reader, DocxReader.builder().memoryMapped(true).build())) {
+            DocxPackage lazy = candidate.open(Path.of("samples", "demo.docx"));
+            MediaFile loaded = lazy.mediaFiles().get("word/media/image1.gif");
+            ByteBuffer bytes = loaded.buffer();
+            MediaFile pending = lazy.mediaFiles().get("word/media/image2.png");
+            lazy.close();
+
+            assertEquals(bytes, loaded.buffer(), "loaded media survives close");
+            assertEquals(bytes.remaining(), loaded.transferTo(new ByteArrayOutputStream()));
+            for (Executable access : List.<Executable>of(pending::data, pending::buffer, pending::openStream,
+                    () -> pending.transferTo(new ByteArrayOutputStream()))) {
+                IllegalStateException e = assertThrows(IllegalStateException.class, access);
+                assertTrue(e.getMessage().startsWith("DocxPackage is closed"), e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    void parallelReadMatchesSequentialRead() {
+        DocxReader parallelReader = DocxReader.builder().parallel(true).build();
+        DocxToHtml converter = new DocxToHtml("fr");
+        for (String sample : List.of("demo.docx", "file-sample_1MB.docx")) {
+            Path path = Path.of("samples", sample);
+            DocxPackage sequential = reader.read(path);
+            DocxPackage parallel = parallelReader.read(path);
+            assertEquals(List.copyOf(sequential.relationshipsByPart().keySet()),
+                    List.copyOf(parallel.relationshipsByPart().keySet()), sample);
+            assertEquals(List.copyOf(sequential.mediaFiles().keySet()), List.copyOf(parallel.mediaFiles().keySet()), sample);
+            assertEquals(sequential.footnotes().isPresent(), parallel.footnotes().isPresent(), sample);
+            assertEquals(converter.convert(sequential), converter.convert(parallel), sample);
+        }
+    }
+
+    @Test
+    void memoryMappedReadMatchesZipRead() {
+        DocxReader mappedReader = DocxReader.builder().memoryMapped(true).build();
+        DocxToHtml converter = new DocxToHtml("fr");
+        for (String sample : List.of("demo.docx", "file-sample_1MB.docx")) {
+            Path path = Path.of("samples", sample);
+            DocxPackage zip = reader.read(path);
+            DocxPackage mapped = mappedReader.read(path);
+            assertEquals(zip.mediaFiles().keySet(), mapped.mediaFiles().keySet(), sample);
+            zip.mediaFiles().forEach((name, media) ->
+                    assertEquals(media.buffer(), mapped.mediaFiles().get(name).buffer(), name));
+            assertEquals(converter.convert(zip), converter.convert(mapped), sample);
+        }
+    }
+
+    @Test
+    void readsPackagesHeldInMemory() throws IOException {
+        DocxToHtml converter = new DocxToHtml("fr");
+        Path path = Path.of("samples", "file-sample_100kB.docx");
+        byte[] bytes = Files.readAllBytes(path);
+        String expected = converter.convert(reader.read(path));
+
+        assertEquals(expected, converter.convert(reader.read(bytes)));
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertEquals(expected, converter.convert(reader.read(direct)));
+        assertEquals(0, direct.position(), "the caller's buffer is left untouched");
+        try (var input = Files.newInputStream(path)) {
+            DocxPackage docx = reader.read(input);
+            assertEquals(expected, converter.convert(docx));
+            assertFalse(docx.mediaFiles().isEmpty());
+        }
+        assertThrows(DocxException.class, () -> reader.read(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    void internsEqualRunAndParagraphProperties() {
+        for (DocxReader candidate : List.of(reader, DocxReader.builder().detachedModel(true).build())) {
+            WordDocument document = candidate.read(Path.of("samples", "file-sample_1MB.docx")).document().orElseThrow();
+            List<WordDocument.RunProperties> runs = new ArrayList<>();
+            List<WordDocument.ParagraphProperties> paragraphs = new ArrayList<>();
+            for (WordDocument.Block block : document.bodyElements()) {
+                if (block instanceof WordDocument.Paragraph paragraph) {
+                    paragraphs.add(paragraph.properties());
+                    paragraph.content().stream()
+                            .filter(content -> content instanceof WordDocument.Run)
+                            .map(content -> ((WordDocument.Run) content).properties())
+                            .forEach(runs::add);
+                }
+            }
+            Set<WordDocument.RunProperties> distinctRuns = Collections.newSetFromMap(new IdentityHashMap<>());
+            distinctRuns.addAll(runs);
+            Set<WordDocument.ParagraphProperties> distinctParagraphs = Collections.newSetFromMap(new IdentityHashMap<>());
+            distinctParagraphs.addAll(paragraphs);
+            assertEquals(new HashSet<>(runs).size(), distinctRuns.size(), "equal run properties are shared");
+            assertEquals(new HashSet<>(paragraphs).size(), distinctParagraphs.size(), "equal paragraph properties are shared");
+            assertTrue(distinctRuns.size() < runs.size(), "runs repeat formats");
+        }
+    }
+
+    @Test
+    void runsThatDifferOnlyInUntypedXmlDoNotCollide() {
+        // every rPr differs only in w:kern, so a hash over the typed fields alone puts all of them
+        // in one chain of the intern table and the read turns quadratic
+        byte[] docx = SyntheticDocx.builder().paragraphs(20_000).runsPerParagraph(1).tables(0, 1, 1).kerning(true).build().toBytes();
+        WordDocument document = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> reader.read(docx)).document().orElseThrow();
+
+        List<WordDocument.RunProperties> runs = document.bodyElements().stream()
+                .filter(block -> block instanceof WordDocument.Paragraph)
+                .flatMap(block -> ((WordDocument.Paragraph) block).content().stream())
+                .filter(content -> content instanceof WordDocument.Run)
+                .map(content -> ((WordDocument.Run) content).properties())
+                .filter(properties -> properties.rawProperties().isPresent())
+                .toList();
+        assertTrue(runs.size() > 19_000);
+        assertEquals(runs.size(), new HashSet<>(runs).size(), "no two kerned runs are equal");
+        assertTrue(runs.stream().map(Object::hashCode).distinct().count() > runs.size() * 9L / 10);
+    }
+
+    @Test
+    void partCacheSharesTemplatePartsBetweenPackages() throws IOException {
+        PartCache cache = PartCache.create(16);
+        DocxReader cachingReader = DocxReader.builder().partCache(cache).build();
+        DocxToHtml converter = new DocxToHtml("fr");
+        Path path = Path.of("samples", "demo.docx");
+
+        DocxPackage first = cachingReader.read(path);
+        long parsed = cache.misses();
+        assertEquals(0, cache.hits());
+        assertEquals(parsed, cache.size());
+        DocxPackage second = cachingReader.read(Files.readAllBytes(path));
+        assertEquals(parsed, cache.hits(), "every shared part is served from the cache");
+        assertEquals(parsed, cache.misses());
+        assertSame(first.styles().orElseThrow(), second.styles().orElseThrow());
+        assertSame(first.theme().orElseThrow(), second.theme().orElseThrow());
+        assertSame(first.settings().orElseThrow(), second.settings().orElseThrow());
+        assertSame(first.fontTable().orElseThrow(), second.fontTable().orElseThrow());
+        assertEquals(first.relationshipsByPart().keySet(), second.relationshipsByPart().keySet());
+        assertEquals(converter.convert(reader.read(path)), converter.convert(second));
+
+        // other content, or a differently shaped model, is parsed again
+        DocxPackage other = cachingReader.read(Path.of("samples", "file-sample_100kB.docx"));
+        assertNotSame(first.styles().orElseThrow(), other.styles().orElseThrow());
+        DocxPackage detached = DocxReader.builder().partCache(cache).detachedModel(true).build().read(path);
+        assertTrue(detached.styles().orElseThrow().rawDocumentDefaults().isEmpty());
+        assertEquals(parsed, cache.hits());
+
+        PartCache single = PartCache.create(1);
+        DocxReader smallReader = DocxReader.builder().partCache(single).build();
+        smallReader.read(path);
+        smallReader.read(path);
+        assertEquals(1, single.size());
+        assertTrue(single.hits() <= 1, "only the most recent part survives");
+    }
+
+    @Test
+    void partCacheIgnoresTheChecksumDeclaredByThePackage() throws IOException {
+        PartCache cache = PartCache.create(16);
+        DocxReader cachingReader = DocxReader.builder().partCache(cache).build();
+        Path path = Path.of("samples", "demo.docx");
+        byte[] template = Files.readAllBytes(path);
+        DocxPackage first = cachingReader.read(template);
+
+        // same name, length, CRC-32 and size in the central directory, different content
+        byte[] forged = replaceEntry(template, "word/styles.xml", styles -> styles.replaceFirst(
+                "<w:sz w:val=\"22\"/>", "<w:sz w:val=\"48\"/>"));
+        long hits = cache.hits();
+        DocxPackage second = cachingReader.read(forged);
+        assertNotSame(first.styles().orElseThrow(), second.styles().orElseThrow());
+        assertEquals(hits + 4, cache.hits(), "only the untouched shared parts are reused");
+        assertEquals(48, second.styles().orElseThrow().defaultRunProperties().orElseThrow().size().orElseThrow());
+    }
+
     @Test
     void loadsFootnotesMediaAndCharts() {
         List<String> samples = List.of(
@@ -201,4 +484,42 @@ class DocxReaderTest {
                 "</w:settings>";
         return xml.getBytes(StandardCharsets.UTF_8);
     }
+
+    /**
+     * Rewrites one entry, then copies the CRC-32 the original declared into the central directory,
+     * as a crafted upload would.
+     */
+    private static byte[] replaceEntry(byte[] docx, String name, UnaryOperator<String> edit) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long crc = -1;
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(docx));
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                byte[] content = in.readAllBytes();
+                if (entry.getName().equals(name)) {
+                    CRC32 original = new CRC32();
+                    original.update(content);
+                    crc = original.getValue();
+                    byte[] edited = edit.apply(new String(content, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+                    assertEquals(content.length, edited.length);
+                    assertFalse(Arrays.equals(content, edited));
+                    content = edited;
+                }
+                zip.putNextEntry(new ZipEntry(entry.getName()));
+                zip.write(content);
+                zip.closeEntry();
+            }
+        }
+        byte[] bytes = out.toByteArray();
+        ByteBuffer zip = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] entryName = name.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i + 46 + entryName.length <= bytes.length; i++) {
+            if (zip.getInt(i) == 0x02014b50 && zip.getShort(i + 28) == entryName.length
+                    && Arrays.equals(bytes, i + 46, i + 46 + entryName.length, entryName, 0, entryName.length)) {
+                zip.putInt(i + 16, (int) crc);
+                return bytes;
+            }
+        }
+        throw new AssertionError("central directory entry not found: " + name);
+    }
 }
@@ -0,0 +1,106 @@
+package com.example.docx;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocxTextExtractorTest {
+
+    private static final String W = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    private final DocxTextExtractor extractor = new DocxTextExtractor();
+
+    @Test
+    void matchesTheTextOfTheParsedModel() {
+        DocxReader reader = new DocxReader();
+        for (String sample : List.of("demo.docx", "file-sample_100kB.docx", "file-sample_500kB.docx", "file-sample_1MB.docx")) {
+            Path path = Path.of("samples", sample);
+            assertEquals(ModelText.of(reader.read(path)), extractor.extract(path), sample);
+        }
+        byte[] generated = SyntheticDocx.builder()
+                .paragraphs(500)
+                .tables(20, 3, 3)
+                .nesting(2, 7)
+                .footnotes(10, 2)
+                .styles(20)
+                .build()
+                .toBytes();
+        StringWriter out = new StringWriter();
+        extractor.extract(generated, out);
+        assertEquals(ModelText.of(reader.read(generated)), out.toString());
+    }
+
+    @Test
+    void leavesOutHiddenRunsAndFieldInstructions() throws IOException {
+        String styles = "<w:styles xmlns:w=\"" + W + "\">"
+                + "<w:style w:type=\"character\" w:styleId=\"Secret\"><w:rPr><w:vanish/></w:rPr></w:style>"
+                + "<w:style w:type=\"character\" w:styleId=\"SecretChild\"><w:basedOn w:val=\"Secret\"/></w:style>"
+                + "<w:style w:type=\"paragraph\" w:styleId=\"Hidden\"><w:rPr><w:vanish/></w:rPr></w:style>"
+                + "<w:style w:type=\"paragraph\" w:styleId=\"HiddenChild\"><w:basedOn w:val=\"Hidden\"/></w:style>"
+                + "<w:style w:type=\"paragraph\" w:styleId=\"Shown\"><w:rPr><w:vanish w:val=\"0\"/></w:rPr></w:style>"
+                + "</w:styles>";
+        String body = "<w:p><w:r><w:t>visible</w:t></w:r><w:r><w:rPr><w:vanish/></w:rPr><w:t>direct</w:t></w:r>"
+                + "<w:r><w:rPr><w:rStyle w:val=\"SecretChild\"/></w:rPr><w:t>styled</w:t></w:r></w:p>"
+                + "<w:p><w:pPr><w:pStyle w:val=\"HiddenChild\"/></w:pPr><w:r><w:t>inherited</w:t></w:r></w:p>"
+                + "<w:p><w:pPr><w:rPr><w:vanish/></w:rPr></w:pPr><w:r><w:t>mark</w:t></w:r></w:p>"
+                + "<w:p><w:pPr><w:pStyle w:val=\"Shown\"/></w:pPr><w:r><w:t>a</w:t><w:tab/><w:t>b</w:t><w:br/>"
+                + "<w:sym w:font=\"Symbol\" w:char=\"03A9\"/></w:r></w:p>"
+                + "<w:p><w:r><w:fldChar w:fldCharType=\"begin\"/></w:r><w:r><w:instrText>PAGE</w:instrText></w:r>"
+                + "<w:r><w:fldChar w:fldCharType=\"separate\"/></w:r><w:r><w:t>7</w:t></w:r>"
+                + "<w:r><w:fldChar w:fldCharType=\"end\"/></w:r>"
+                + "<w:fldSimple w:instr=\"NUMPAGES\"><w:r><w:t>/9</w:t></w:r></w:fldSimple></w:p>"
+                + "<w:tbl><w:tr><w:tc><w:p><w:r><w:t>cell</w:t></w:r><w:r><w:footnoteReference w:id=\"1\"/></w:r></w:p></w:tc></w:tr></w:tbl>";
+        String footnotes = "<w:footnotes xmlns:w=\"" + W + "\">"
+                + "<w:footnote w:type=\"separator\" w:id=\"-1\"><w:p><w:r><w:separator/></w:r></w:p></w:footnote>"
+                + "<w:footnote w:id=\"1\"><w:p><w:r><w:footnoteRef/></w:r><w:r><w:t>note</w:t></w:r></w:p></w:footnote>"
+                + "</w:footnotes>";
+        Map<String, String> parts = new LinkedHashMap<>();
+        parts.put("word/document.xml", "<w:document xmlns:w=\"" + W + "\"><w:body>" + body + "<w:sectPr/></w:body></w:document>");
+        parts.put("word/styles.xml", styles);
+        parts.put("word/footnotes.xml", footnotes);
+
+        StringWriter out = new StringWriter();
+        extractor.extract(zip(parts), out);
+        assertEquals("visible\n\n\na\tb\nΩ\n7/9\ncell\nnote\n", out.toString());
+    }
+
+    @Test
+    void documentDefaultsCanHideEveryRun() throws IOException {
+        Map<String, String> parts = new LinkedHashMap<>();
+        parts.put("word/document.xml", "<w:document xmlns:w=\"" + W + "\"><w:body><w:p><w:r><w:t>text</w:t></w:r></w:p></w:body></w:document>");
+        parts.put("word/styles.xml", "<w:styles xmlns:w=\"" + W + "\"><w:docDefaults><w:rPrDefault><w:rPr><w:vanish/></w:rPr></w:rPrDefault></w:docDefaults></w:styles>");
+
+        StringWriter out = new StringWriter();
+        extractor.extract(zip(parts), out);
+        assertEquals("\n", out.toString());
+    }
+
+    @Test
+    void reportsMalformedPartsAsDocxException() throws IOException {
+        byte[] broken = zip(Map.of("word/document.xml", "<w:document xmlns:w=\"" + W + "\"><w:body><w:p>"));
+        assertThrows(DocxException.class, () -> extractor.extract(broken, new StringWriter()));
+    }
+
+    private static byte[] zip(Map<String, String> parts) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, String> part : parts.entrySet()) {
+                out.putNextEntry(new ZipEntry(part.getKey()));
+                out.write(part.getValue().getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.docx;
+
+import com.example.docx.model.DocxPackage;
+import com.example.docx.model.document.WordDocument;
+import com.example.docx.model.notes.NoteCollection;
+
+import java.util.List;
+
+/**
+ * Collects the plain text of a parsed {@link DocxPackage} by walking its model, following the
+ * layout of {@link DocxTextExtractor}. Only direct {@code w:vanish} is honoured, so it agrees with
+ * the extractor on packages whose styles hide nothing. Serves as the reference in tests and as the
+ * read-and-walk baseline in benchmarks.
+ */
+public final class ModelText {
+
+    private final StringBuilder out = new StringBuilder();
+
+    private ModelText() {
+    }
+
+    public static String of(DocxPackage docxPackage) {
+        ModelText text = new ModelText();
+        docxPackage.document().ifPresent(document -> text.blocks(document.bodyElements()));
+        docxPackage.footnotes().ifPresent(text::notes);
+        docxPackage.endnotes().ifPresent(text::notes);
+        return text.out.toString();
+    }
+
+    private void notes(NoteCollection notes) {
+        for (NoteCollection.Note note : notes.notes().values()) {
+            if (note.type().isEmpty()) {
+                blocks(note.content());
+            }
+        }
+    }
+
+    private void blocks(List<WordDocument.Block> blocks) {
+        for (WordDocument.Block block : blocks) {
+            if (block instanceof WordDocument.Paragraph paragraph) {
+                paragraph(paragraph.content());
+                out.append('\n');
+            } else if (block instanceof WordDocument.Table table) {
+                for (WordDocument.TableRow row : table.rows()) {
+                    for (WordDocument.TableCell cell : row.cells()) {
+                        blocks(cell.content());
+                    }
+                }
+            } else if (block instanceof WordDocument.StructuredDocumentTag sdt) {
+                blocks(sdt.content());
+            }
+        }
+    }
+
+    private void paragraph(List<WordDocument.ParagraphContent> contents) {
+        for (WordDocument.ParagraphContent content : contents) {
+            if (content instanceof WordDocument.Run run) {
+                run(run);
+            } else if (content instanceof WordDocument.Hyperlink hyperlink) {
+                hyperlink.runs().forEach(this::run);
+            } else if (content instanceof WordDocument.Field field) {
+                field.resultRuns().forEach(this::run);
+            } else if (content instanceof WordDocument.StructuredDocumentTagRun sdt) {
+                paragraph(sdt.content());
+            }
+        }
+    }
+
+    private void run(WordDocument.Run run) {
+        if (run.properties().vanish()) {
+            return;
+        }
+        for (WordDocument.Inline inline : run.elements()) {
+            if (inline instanceof WordDocument.Text text) {
+                out.append(text.text());
+            } else if (inline instanceof WordDocument.Tab) {
+                out.append('\t');
+            } else if (inline instanceof WordDocument.Break) {
+                out.append('\n');
+            } else if (inline instanceof WordDocument.NoBreakHyphen) {
+                out.append('\u2011');
+            } else if (inline instanceof WordDocument.SoftHyphen) {
+                out.append('\u00AD');
+            } else if (inline instanceof WordDocument.Symbol symbol) {
+                out.appendCodePoint(Integer.parseInt(symbol.charCode(), 16));
+            }
+        }
+    }
+}
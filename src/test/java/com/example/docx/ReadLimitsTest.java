@@ -0,0 +1,131 @@
+package com.example.docx;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadLimitsTest {
+
+    @Test
+    void rejectsAHighlyCompressedEntryBeforeInflatingIt() throws IOException {
+        byte[] bomb = withEntry(SyntheticDocx.builder().paragraphs(10).build().toBytes(),
+                "word/media/image1.png", new byte[16 << 20]);
+
+        for (DocxReader reader : new DocxReader[]{
+                new DocxReader(),
+                DocxReader.builder().parallel(true).build(),
+                DocxReader.builder().memoryMapped(true).build()}) {
+            DocxLimitExceededException e = assertThrows(DocxLimitExceededException.class, () -> reader.read(bomb));
+            assertEquals(ReadLimits.Limit.COMPRESSION_RATIO, e.limit());
+            assertEquals("word/media/image1.png", e.partName().orElseThrow());
+        }
+
+        DocxReader ratioOnly = DocxReader.builder()
+                .limits(ReadLimits.builder().maxCompressionRatio(Long.MAX_VALUE).maxEntryBytes(1 << 20).build())
+                .build();
+        assertEquals(ReadLimits.Limit.ENTRY_SIZE,
+                assertThrows(DocxLimitExceededException.class, () -> ratioOnly.read(bomb)).limit());
+        DocxReader totalOnly = DocxReader.builder()
+                .limits(ReadLimits.builder().maxCompressionRatio(Long.MAX_VALUE).maxTotalBytes(8 << 20).build())
+                .build();
+        DocxLimitExceededException total = assertThrows(DocxLimitExceededException.class, () -> totalOnly.read(bomb));
+        assertEquals(ReadLimits.Limit.TOTAL_SIZE, total.limit());
+        assertTrue(total.partName().isEmpty());
+
+        assertEquals(16 << 20, DocxReader.builder().limits(ReadLimits.none()).build().read(bomb)
+                .mediaFiles().get("word/media/image1.png").buffer().remaining());
+    }
+
+    @Test
+    void boundsThePackageReadFromAStream() {
+        byte[] bytes = SyntheticDocx.builder().paragraphs(200).build().toBytes();
+        DocxReader reader = DocxReader.builder()
+                .limits(ReadLimits.builder().maxTotalBytes(bytes.length / 2).build())
+                .build();
+        assertEquals(ReadLimits.Limit.TOTAL_SIZE, assertThrows(DocxLimitExceededException.class,
+                () -> reader.read(new ByteArrayInputStream(bytes))).limit());
+    }
+
+    @Test
+    void enforcesXmlLimitsWhileTheDocumentIsParsed() {
+        byte[] nested = SyntheticDocx.builder().paragraphs(200).nesting(6, 5).build().toBytes();
+        assertNotNull(new DocxReader().read(nested));
+
+        assertXmlLimit(nested, ReadLimits.builder().maxXmlDepth(12).build(), ReadLimits.Limit.XML_DEPTH);
+        assertXmlLimit(nested, ReadLimits.builder().maxXmlElements(1000).build(), ReadLimits.Limit.XML_ELEMENTS);
+        // namespace declarations are attribute values too, so this already stops [Content_Types].xml
+        assertEquals(ReadLimits.Limit.TEXT_LENGTH, assertThrows(DocxLimitExceededException.class,
+                () -> DocxReader.builder().limits(ReadLimits.builder().maxTextLength(8).build()).build().read(nested)).limit());
+
+        DocxTextExtractor extractor = new DocxTextExtractor(ReadLimits.builder().maxXmlDepth(12).build());
+        assertEquals(ReadLimits.Limit.XML_DEPTH, assertThrows(DocxLimitExceededException.class,
+                () -> extractor.extract(nested, new StringWriter())).limit());
+    }
+
+    @Test
+    void scannerCountsOnlyRealMarkup() {
+        String xml = """
+                <?xml version="1.0"?>
+                <!-- <a><b><c> -->
+                <root attr="x > y / z" other='a/b'>
+                  <child/><child a="1"/>
+                  <![CDATA[ <d><e><f> ]]>
+                  <?pi <g> ?>
+                  <child><leaf>text</leaf></child>
+                </root>""";
+        XmlScanner fits = new XmlScanner("part.xml", ReadLimits.builder().maxXmlDepth(3).maxXmlElements(5).build());
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        fits.scan(bytes, 0, bytes.length);
+
+        XmlScanner shallow = new XmlScanner("part.xml", ReadLimits.builder().maxXmlDepth(2).build());
+        assertEquals(ReadLimits.Limit.XML_DEPTH, assertThrows(DocxLimitExceededException.class,
+                () -> shallow.scan(bytes, 0, bytes.length)).limit());
+        XmlScanner few = new XmlScanner("part.xml", ReadLimits.builder().maxXmlElements(4).build());
+        assertEquals(ReadLimits.Limit.XML_ELEMENTS, assertThrows(DocxLimitExceededException.class,
+                () -> few.scan(bytes, 0, bytes.length)).limit());
+
+        byte[] utf16 = xml.getBytes(StandardCharsets.UTF_16);
+        new XmlScanner("part.xml", ReadLimits.builder().maxXmlDepth(1).build()).scan(utf16, 0, utf16.length);
+    }
+
+    @Test
+    void defaultsAcceptEverySample() {
+        DocxReader reader = new DocxReader();
+        for (String sample : new String[]{"demo.docx", "file-sample_100kB.docx", "file-sample_500kB.docx", "file-sample_1MB.docx"}) {
+            assertNotNull(reader.read(Path.of("samples", sample)).document().orElse(null), sample);
+        }
+    }
+
+    private static void assertXmlLimit(byte[] docx, ReadLimits limits, ReadLimits.Limit expected) {
+        DocxLimitExceededException e = assertThrows(DocxLimitExceededException.class,
+                () -> DocxReader.builder().limits(limits).build().read(docx));
+        assertEquals(expected, e.limit());
+        assertEquals("word/document.xml", e.partName().orElseThrow());
+    }
+
+    private static byte[] withEntry(byte[] docx, String name, byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(docx));
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                zip.putNextEntry(new ZipEntry(entry.getName()));
+                in.transferTo(zip);
+                zip.closeEntry();
+            }
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(content);
+            zip.closeEntry();
+        }
+        return out.toByteArray();
+    }
+}
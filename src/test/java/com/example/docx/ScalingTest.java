@@ -0,0 +1,172 @@
+package com.example.docx;
+
+import com.example.docx.html.DocxToHtml;
+import com.example.docx.model.DocxPackage;
+import com.example.docx.model.document.WordDocument;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that parse time, conversion time, allocation and retained heap grow roughly linearly with
+ * the size of a {@link SyntheticDocx} package. Each shape is read at a base size and at
+ * {@value #FACTOR} times that size; a ratio well above the factor points at super-linear behavior.
+ * The measurements are tagged {@code scaling} and only run with {@code mvn test -Pscaling}.
+ */
+class ScalingTest {
+
+    private static final int BASE = 1_000;
+    private static final int FACTOR = 4;
+    private static final int RUNS = 3;
+    // timing is noisy on shared machines and includes collector pauses that grow with the live set,
+    // so it gets more slack than the byte counts; quadratic growth (16x) still fails
+    private static final double TIME_SLACK = 3.0;
+    private static final double MEMORY_SLACK = 1.5;
+
+    private final DocxReader reader = new DocxReader();
+    private final DocxToHtml converter = new DocxToHtml();
+
+    enum Shape {
+        PARAGRAPHS(n -> SyntheticDocx.builder().paragraphs(n).runsPerParagraph(8)),
+        NESTED(n -> SyntheticDocx.builder().paragraphs(n).tables(10, 3, 3).nesting(4, 5)),
+        STYLES(n -> SyntheticDocx.builder().paragraphs(n).styles(n)),
+        NOTES_AND_MEDIA(n -> SyntheticDocx.builder().paragraphs(n / 4).footnotes(n / 4, 3).media(n / 100, 16_384));
+
+        private final IntFunction<SyntheticDocx.Builder> shape;
+
+        Shape(IntFunction<SyntheticDocx.Builder> shape) {
+            this.shape = shape;
+        }
+
+        byte[] generate(int size) {
+            return shape.apply(size).build().toBytes();
+        }
+    }
+
+    @Test
+    void generatedPackageHasRequestedShape() {
+        byte[] bytes = SyntheticDocx.builder()
+                .paragraphs(50)
+                .runsPerParagraph(3)
+                .tables(25, 2, 2)
+                .nesting(2, 10)
+                .styles(20)
+                .footnotes(5, 2)
+                .media(3, 1_024)
+                .build()
+                .toBytes();
+        DocxPackage docx = reader.read(bytes);
+        WordDocument document = docx.document().orElseThrow();
+
+        List<WordDocument.Block> blocks = document.bodyElements();
+        assertEquals(52, blocks.size(), "paragraphs plus one table every 25");
+        assertEquals(5, blocks.stream().filter(WordDocument.StructuredDocumentTag.class::isInstance).count());
+        WordDocument.Table table = (WordDocument.Table) blocks.get(25);
+        assertEquals(2, table.rows().size());
+        assertEquals(3, tableDepth(table), "two tables nested in the outer one");
+        WordDocument.StructuredDocumentTag sdt = (WordDocument.StructuredDocumentTag) blocks.get(9);
+        assertTrue(sdt.content().get(0) instanceof WordDocument.StructuredDocumentTag, "content controls are nested");
+
+        assertTrue(docx.styles().orElseThrow().styles().containsKey("Para20"));
+        assertTrue(docx.styles().orElseThrow().styles().containsKey("Char20"));
+        assertEquals(7, docx.footnotes().orElseThrow().notes().size(), "five notes plus two separators");
+        assertEquals(3, docx.mediaFiles().size());
+        assertEquals(1_024, docx.mediaFiles().get("word/media/image1.png").buffer().remaining());
+    }
+
+    @Tag("scaling")
+    @ParameterizedTest
+    @EnumSource(Shape.class)
+    void costGrowsLinearlyWithSize(Shape shape) {
+        byte[] small = shape.generate(BASE);
+        byte[] large = shape.generate(BASE * FACTOR);
+        // warm up on the large package so the base measurement is not dominated by compilation
+        measure(large);
+        measure(large);
+        Cost smallCost = measure(small);
+        Cost largeCost = measure(large);
+
+        assertLinear(shape, "parse time", smallCost.parseNanos(), largeCost.parseNanos(), TIME_SLACK, smallCost, largeCost);
+        assertLinear(shape, "convert time", smallCost.convertNanos(), largeCost.convertNanos(), TIME_SLACK, smallCost, largeCost);
+        assertLinear(shape, "allocation", smallCost.allocatedBytes(), largeCost.allocatedBytes(), MEMORY_SLACK, smallCost, largeCost);
+        assertLinear(shape, "retained heap", smallCost.retainedBytes(), largeCost.retainedBytes(), MEMORY_SLACK, smallCost, largeCost);
+    }
+
+    private static void assertLinear(Shape shape, String metric, long small, long large, double slack, Cost smallCost, Cost largeCost) {
+        double ratio = (double) large / Math.max(1, small);
+        assertTrue(ratio <= FACTOR * slack, () -> shape + " " + metric + " grew " + String.format("%.1f", ratio) + "x for a "
+                + FACTOR + "x larger package (" + smallCost + " -> " + largeCost + ")");
+    }
+
+    private Cost measure(byte[] bytes) {
+        long parse = Long.MAX_VALUE;
+        long convert = Long.MAX_VALUE;
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            DocxPackage docx = reader.read(bytes);
+            long parsed = System.nanoTime();
+            converter.convert(docx);
+            long converted = System.nanoTime();
+            parse = Math.min(parse, parsed - start);
+            convert = Math.min(convert, converted - parsed);
+            allocated = Math.min(allocated, allocatedBytes() - allocatedBefore);
+        }
+        return new Cost(parse, convert, allocated, retainedBytes(bytes));
+    }
+
+    private long retainedBytes(byte[] bytes) {
+        long before = usedHeap();
+        DocxPackage docx = reader.read(bytes);
+        long after = usedHeap();
+        assertTrue(docx.document().isPresent());
+        return Math.max(0, after - before);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return 0;
+    }
+
+    private static int tableDepth(WordDocument.Table table) {
+        int nested = 0;
+        for (WordDocument.TableRow row : table.rows()) {
+            for (WordDocument.TableCell cell : row.cells()) {
+                for (WordDocument.Block block : cell.content()) {
+                    if (block instanceof WordDocument.Table inner) {
+                        nested = Math.max(nested, tableDepth(inner));
+                    }
+                }
+            }
+        }
+        return nested + 1;
+    }
+
+    private record Cost(long parseNanos, long convertNanos, long allocatedBytes, long retainedBytes) {
+        @Override
+        public String toString() {
+            return String.format("parse %d ms, convert %d ms, %,d bytes allocated, %,d bytes retained",
+                    parseNanos / 1_000_000, convertNanos / 1_000_000, allocatedBytes, retainedBytes);
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.docx;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Generates valid DOCX packages of a configurable shape for scalability tests and benchmarks. The
+ * output is deterministic: the body cycles through a fixed set of run formats and words, so two
+ * packages built with the same settings are byte-identical.
+ */
+public final class SyntheticDocx {
+
+    private static final String W = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String R = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua", "enim"
+    };
+    private static final String[] RUN_FORMATS = {
+            "",
+            "<w:rPr><w:b/></w:rPr>",
+            "<w:rPr><w:i/><w:color w:val=\"C00000\"/></w:rPr>",
+            "<w:rPr><w:u w:val=\"single\"/></w:rPr>",
+            "<w:rPr><w:highlight w:val=\"yellow\"/><w:sz w:val=\"24\"/></w:rPr>",
+            "<w:rPr><w:strike/><w:color w:val=\"2F5496\"/></w:rPr>"
+    };
+
+    private final int paragraphs;
+    private final int runsPerParagraph;
+    private final int tableEvery;
+    private final int tableRows;
+    private final int tableColumns;
+    private final int nestingDepth;
+    private final int sdtEvery;
+    private final int styles;
+    private final int footnotes;
+    private final int footnoteParagraphs;
+    private final int mediaFiles;
+    private final int mediaBytes;
+    private final boolean kerning;
+
+    private SyntheticDocx(Builder builder) {
+        this.paragraphs = builder.paragraphs;
+        this.runsPerParagraph = builder.runsPerParagraph;
+        this.tableEvery = builder.tableEvery;
+        this.tableRows = builder.tableRows;
+        this.tableColumns = builder.tableColumns;
+        this.nestingDepth = builder.nestingDepth;
+        this.sdtEvery = builder.sdtEvery;
+        this.styles = builder.styles;
+        this.footnotes = builder.footnotes;
+        this.footnoteParagraphs = builder.footnoteParagraphs;
+        this.mediaFiles = builder.mediaFiles;
+        this.mediaBytes = builder.mediaBytes;
+        this.kerning = builder.kerning;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public void write(Path target) throws IOException {
+        try (OutputStream output = Files.newOutputStream(target)) {
+            write(output);
+        }
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void write(OutputStream output) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(output);
+        entry(zip, "[Content_Types].xml", contentTypes());
+        entry(zip, "_rels/.rels", packageRelationships());
+        entry(zip, "word/_rels/document.xml.rels", documentRelationships());
+        entry(zip, "word/styles.xml", styles());
+        entry(zip, "word/document.xml", document());
+        if (footnotes > 0) {
+            entry(zip, "word/footnotes.xml", footnotes());
+        }
+        for (int i = 1; i <= mediaFiles; i++) {
+            zip.putNextEntry(new ZipEntry("word/media/image" + i + ".png"));
+            zip.write(media(i));
+            zip.closeEntry();
+        }
+        zip.finish();
+    }
+
+    private static void entry(ZipOutputStream zip, String name, CharSequence content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.toString().getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private String contentTypes() {
+        return """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">
+                <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>
+                <Default Extension="xml" ContentType="application/xml"/>
+                <Default Extension="png" ContentType="image/png"/>
+                <Override PartName="/word/document.xml" ContentType="application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml"/>
+                <Override PartName="/word/styles.xml" ContentType="application/vnd.openxmlformats-officedocument.wordprocessingml.styles+xml"/>
+                <Override PartName="/word/footnotes.xml" ContentType="application/vnd.openxmlformats-officedocument.wordprocessingml.footnotes+xml"/>
+                </Types>""";
+    }
+
+    private static String packageRelationships() {
+        return """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="word/document.xml"/>
+                </Relationships>""";
+    }
+
+    private CharSequence documentRelationships() {
+        StringBuilder xml = new StringBuilder(256 + mediaFiles * 160);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">")
+                .append("<Relationship Id=\"rIdStyles\" Type=\"").append(R).append("/styles\" Target=\"styles.xml\"/>");
+        if (footnotes > 0) {
+            xml.append("<Relationship Id=\"rIdFootnotes\" Type=\"").append(R).append("/footnotes\" Target=\"footnotes.xml\"/>");
+        }
+        for (int i = 1; i <= mediaFiles; i++) {
+            xml.append("<Relationship Id=\"rIdImage").append(i).append("\" Type=\"").append(R)
+                    .append("/image\" Target=\"media/image").append(i).append(".png\"/>");
+        }
+        return xml.append("</Relationships>");
+    }
+
+    private CharSequence styles() {
+        StringBuilder xml = new StringBuilder(2048 + styles * 320);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<w:styles xmlns:w=\"").append(W).append("\">")
+                .append("<w:docDefaults><w:rPrDefault><w:rPr><w:rFonts w:ascii=\"Calibri\" w:hAnsi=\"Calibri\"/><w:sz w:val=\"22\"/></w:rPr></w:rPrDefault>")
+                .append("<w:pPrDefault><w:pPr><w:spacing w:after=\"160\" w:line=\"259\" w:lineRule=\"auto\"/></w:pPr></w:pPrDefault></w:docDefaults>")
+                .append("<w:style w:type=\"paragraph\" w:default=\"1\" w:styleId=\"Normal\"><w:name w:val=\"Normal\"/></w:style>")
+                .append("<w:style w:type=\"paragraph\" w:styleId=\"Heading1\"><w:name w:val=\"heading 1\"/><w:basedOn w:val=\"Normal\"/>")
+                .append("<w:pPr><w:keepNext/><w:spacing w:before=\"240\"/></w:pPr><w:rPr><w:b/><w:color w:val=\"2F5496\"/><w:sz w:val=\"32\"/></w:rPr></w:style>")
+                .append("<w:style w:type=\"character\" w:styleId=\"FootnoteReference\"><w:name w:val=\"footnote reference\"/>")
+                .append("<w:rPr><w:vertAlign w:val=\"superscript\"/></w:rPr></w:style>")
+                .append("<w:style w:type=\"table\" w:styleId=\"TableGrid\"><w:name w:val=\"Table Grid\"/><w:tblPr><w:tblBorders>")
+                .append("<w:top w:val=\"single\" w:sz=\"4\" w:color=\"auto\"/><w:left w:val=\"single\" w:sz=\"4\" w:color=\"auto\"/>")
+                .append("<w:bottom w:val=\"single\" w:sz=\"4\" w:color=\"auto\"/><w:right w:val=\"single\" w:sz=\"4\" w:color=\"auto\"/>")
+                .append("<w:insideH w:val=\"single\" w:sz=\"4\" w:color=\"auto\"/><w:insideV w:val=\"single\" w:sz=\"4\" w:color=\"auto\"/>")
+                .append("</w:tblBorders></w:tblPr><w:tblStylePr w:type=\"firstRow\"><w:rPr><w:b/></w:rPr>")
+                .append("<w:tcPr><w:shd w:val=\"clear\" w:color=\"auto\" w:fill=\"D9E2F3\"/></w:tcPr></w:tblStylePr></w:style>");
+        for (int i = 1; i <= styles; i++) {
+            // each paragraph style is based on the previous one, so the inheritance chains grow with the count
+            String basedOn = i % 8 == 1 ? "Normal" : "Para" + (i - 1);
+            xml.append("<w:style w:type=\"paragraph\" w:customStyle=\"1\" w:styleId=\"Para").append(i).append("\">")
+                    .append("<w:name w:val=\"Para ").append(i).append("\"/><w:basedOn w:val=\"").append(basedOn).append("\"/>")
+                    .append("<w:pPr><w:ind w:left=\"").append(i % 8 * 120).append("\"/></w:pPr>")
+                    .append("<w:rPr><w:color w:val=\"").append(String.format("%06X", i * 2_654_435 & 0x7F7F7F)).append("\"/></w:rPr></w:style>")
+                    .append("<w:style w:type=\"character\" w:customStyle=\"1\" w:styleId=\"Char").append(i).append("\">")
+                    .append("<w:name w:val=\"Char ").append(i).append("\"/>")
+                    .append("<w:rPr><w:sz w:val=\"").append(18 + i % 10 * 2).append("\"/></w:rPr></w:style>");
+        }
+        return xml.append("</w:styles>");
+    }
+
+    private CharSequence document() {
+        StringBuilder xml = new StringBuilder(512 + paragraphs * (80 + runsPerParagraph * 90));
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<w:document xmlns:w=\"").append(W).append("\" xmlns:r=\"").append(R).append("\"><w:body>");
+        int footnote = 0;
+        int footnoteSpacing = footnotes > 0 ? Math.max(1, paragraphs / footnotes) : 0;
+        for (int i = 0; i < paragraphs; i++) {
+            boolean sdt = sdtEvery > 0 && i % sdtEvery == sdtEvery - 1;
+            if (sdt) {
+                openSdts(xml, i);
+            }
+            if (i % 25 == 0) {
+                xml.append("<w:p><w:pPr><w:pStyle w:val=\"Heading1\"/></w:pPr><w:r><w:t>Section ")
+                        .append(i / 25 + 1).append("</w:t></w:r></w:p>");
+            } else {
+                boolean withFootnote = footnoteSpacing > 0 && footnote < footnotes && i % footnoteSpacing == 0;
+                paragraph(xml, i, withFootnote ? ++footnote : 0);
+            }
+            if (sdt) {
+                closeSdts(xml);
+            }
+            if (tableEvery > 0 && i % tableEvery == tableEvery - 1) {
+                table(xml, i, nestingDepth);
+            }
+        }
+        xml.append("<w:sectPr><w:pgSz w:w=\"11906\" w:h=\"16838\"/>")
+                .append("<w:pgMar w:top=\"1440\" w:right=\"1440\" w:bottom=\"1440\" w:left=\"1440\"/></w:sectPr>")
+                .append("</w:body></w:document>");
+        return xml;
+    }
+
+    private void paragraph(StringBuilder xml, int seed, int footnoteId) {
+        xml.append("<w:p>");
+        if (styles > 0) {
+            xml.append("<w:pPr><w:pStyle w:val=\"Para").append(seed % styles + 1).append("\"/></w:pPr>");
+        }
+        for (int run = 0; run < runsPerParagraph; run++) {
+            xml.append("<w:r>");
+            if (kerning) {
+                xml.append("<w:rPr><w:kern w:val=\"").append(seed * runsPerParagraph + run).append("\"/></w:rPr>");
+            } else if (styles > 0 && run % 5 == 4) {
+                xml.append("<w:rPr><w:rStyle w:val=\"Char").append((seed + run) % styles + 1).append("\"/></w:rPr>");
+            } else {
+                xml.append(RUN_FORMATS[(seed + run) % RUN_FORMATS.length]);
+            }
+            xml.append("<w:t xml:space=\"preserve\">");
+            words(xml, seed * runsPerParagraph + run, 6).append(" </w:t></w:r>");
+        }
+        if (footnoteId > 0) {
+            xml.append("<w:r><w:rPr><w:rStyle w:val=\"FootnoteReference\"/></w:rPr><w:footnoteReference w:id=\"")
+                    .append(footnoteId).append("\"/></w:r>");
+        }
+        xml.append("</w:p>");
+    }
+
+    private void openSdts(StringBuilder xml, int seed) {
+        for (int level = 0; level <= nestingDepth; level++) {
+            xml.append("<w:sdt><w:sdtPr><w:alias w:val=\"Block ").append(seed).append('.').append(level)
+                    .append("\"/><w:tag w:val=\"synthetic\"/><w:id w:val=\"").append(seed * 16 + level).append("\"/></w:sdtPr><w:sdtContent>");
+        }
+    }
+
+    private void closeSdts(StringBuilder xml) {
+        for (int level = 0; level <= nestingDepth; level++) {
+            xml.append("</w:sdtContent></w:sdt>");
+        }
+    }
+
+    private void table(StringBuilder xml, int seed, int depth) {
+        xml.append("<w:tbl><w:tblPr><w:tblStyle w:val=\"TableGrid\"/><w:tblW w:w=\"0\" w:type=\"auto\"/>")
+                .append("<w:tblLook w:firstRow=\"1\"/></w:tblPr><w:tblGrid>");
+        for (int column = 0; column < tableColumns; column++) {
+            xml.append("<w:gridCol w:w=\"").append(9000 / tableColumns).append("\"/>");
+        }
+        xml.append("</w:tblGrid>");
+        for (int row = 0; row < tableRows; row++) {
+            xml.append("<w:tr>");
+            if (row == 0) {
+                xml.append("<w:trPr><w:cnfStyle w:firstRow=\"1\"/></w:trPr>");
+            }
+            for (int column = 0; column < tableColumns; column++) {
+                xml.append("<w:tc><w:tcPr><w:tcW w:w=\"").append(9000 / tableColumns).append("\" w:type=\"dxa\"/></w:tcPr>");
+                if (row == tableRows - 1 && column == 0 && depth > 0) {
+                    // a cell must end with a paragraph, so the nested table is followed by one
+                    table(xml, seed + 1, depth - 1);
+                }
+                xml.append("<w:p><w:r><w:t>");
+                words(xml, seed + row * tableColumns + column, 2).append("</w:t></w:r></w:p></w:tc>");
+            }
+            xml.append("</w:tr>");
+        }
+        xml.append("</w:tbl>");
+    }
+
+    private CharSequence footnotes() {
+        StringBuilder xml = new StringBuilder(512 + footnotes * footnoteParagraphs * 160);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<w:footnotes xmlns:w=\"").append(W).append("\">")
+                .append("<w:footnote w:type=\"separator\" w:id=\"-1\"><w:p><w:r><w:separator/></w:r></w:p></w:footnote>")
+                .append("<w:footnote w:type=\"continuationSeparator\" w:id=\"0\"><w:p><w:r><w:continuationSeparator/></w:r></w:p></w:footnote>");
+        for (int id = 1; id <= footnotes; id++) {
+            xml.append("<w:footnote w:id=\"").append(id).append("\">");
+            for (int p = 0; p < footnoteParagraphs; p++) {
+                xml.append("<w:p>");
+                if (p == 0) {
+                    xml.append("<w:r><w:rPr><w:rStyle w:val=\"FootnoteReference\"/></w:rPr><w:footnoteRef/></w:r>");
+                }
+                xml.append("<w:r><w:t xml:space=\"preserve\"> ");
+                words(xml, id + p, 12).append("</w:t></w:r></w:p>");
+            }
+            xml.append("</w:footnote>");
+        }
+        return xml.append("</w:footnotes>");
+    }
+
+    private byte[] media(int index) {
+        // PNG signature followed by deterministic filler; the reader never decodes media
+        byte[] bytes = new byte[Math.max(8, mediaBytes)];
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        System.arraycopy(signature, 0, bytes, 0, signature.length);
+        int state = index * 31 + 7;
+        for (int i = signature.length; i < bytes.length; i++) {
+            state = state * 1_103_515_245 + 12_345;
+            bytes[i] = (byte) (state >>> 16);
+        }
+        return bytes;
+    }
+
+    private static StringBuilder words(StringBuilder xml, int seed, int count) {
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                xml.append(' ');
+            }
+            xml.append(WORDS[Math.floorMod(seed * 7 + i * 3, WORDS.length)]);
+        }
+        return xml;
+    }
+
+    public static final class Builder {
+        private int paragraphs = 100;
+        private int runsPerParagraph = 4;
+        private int tableEvery = 40;
+        private int tableRows = 5;
+        private int tableColumns = 4;
+        private int nestingDepth;
+        private int sdtEvery;
+        private int styles;
+        private int footnotes;
+        private int footnoteParagraphs = 1;
+        private int mediaFiles;
+        private int mediaBytes = 4096;
+        private boolean kerning;
+
+        private Builder() {
+        }
+
+        public Builder paragraphs(int paragraphs) {
+            this.paragraphs = requireNonNegative(paragraphs, "paragraphs");
+            return this;
+        }
+
+        public Builder runsPerParagraph(int runsPerParagraph) {
+            this.runsPerParagraph = requireNonNegative(runsPerParagraph, "runsPerParagraph");
+            return this;
+        }
+
+        /**
+         * Inserts a {@code rows} x {@code columns} table after every {@code every} paragraphs; zero disables tables.
+         */
+        public Builder tables(int every, int rows, int columns) {
+            this.tableEvery = requireNonNegative(every, "every");
+            this.tableRows = Math.max(1, rows);
+            this.tableColumns = Math.max(1, columns);
+            return this;
+        }
+
+        /**
+         * Depth of the tables nested in the last row of each table and of the content controls wrapped
+         * around every {@code sdtEvery}-th paragraph.
+         */
+        public Builder nesting(int depth, int sdtEvery) {
+            this.nestingDepth = requireNonNegative(depth, "depth");
+            this.sdtEvery = requireNonNegative(sdtEvery, "sdtEvery");
+            return this;
+        }
+
+        /**
+         * Adds {@code count} paragraph styles, in inheritance chains of up to eight, and as many character styles.
+         */
+        public Builder styles(int count) {
+            this.styles = requireNonNegative(count, "count");
+            return this;
+        }
+
+        public Builder footnotes(int count, int paragraphsPerNote) {
+            this.footnotes = requireNonNegative(count, "count");
+            this.footnoteParagraphs = Math.max(1, paragraphsPerNote);
+            return this;
+        }
+
+        public Builder media(int count, int bytesPerFile) {
+            this.mediaFiles = requireNonNegative(count, "count");
+            this.mediaBytes = requireNonNegative(bytesPerFile, "bytesPerFile");
+            return this;
+        }
+
+        /**
+         * Gives every run its own {@code w:kern} value, which the model only keeps as raw XML, so no two
+         * run formats are equal.
+         */
+        public Builder kerning(boolean kerning) {
+            this.kerning = kerning;
+            return this;
+        }
+
+        public SyntheticDocx build() {
+            return new SyntheticDocx(this);
+        }
+
+        private static int requireNonNegative(int value, String name) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " must not be negative: " + value);
+            }
+            return value;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.docx.html;
 import com.example.docx.DocxReader;
+import com.example.docx.PartCache;
+import com.example.docx.SyntheticDocx;
 import com.example.docx.model.DocxPackage;
 import com.example.docx.model.document.WordDocument;
 import com.example.docx.model.support.Theme;
@@ -8,9 +10,16 @@ import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import static org.junit.jupiter.api.Assertions.*;
@@ -523,6 +532,142 @@ class DocxToHtmlTest {
         assertTrue(boxRule.contains("border-bottom:0.5pt solid currentColor"), "run bottom border missing");
     }
 
+    @Test
+    void streamsSameHtmlToWriterAndOutputStream() throws Exception {
+        DocxReader reader = new DocxReader();
+        DocxToHtml converter = new DocxToHtml("fr");
+        for (String sample : List.of("demo.docx", "file-sample_1MB.docx")) {
+            DocxPackage pkg = reader.read(Path.of("samples", sample));
+            String expected = converter.convert(pkg);
+
+            StringWriter writer = new StringWriter();
+            converter.convert(pkg, writer);
+            assertEquals(expected, writer.toString(), sample);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            converter.convert(pkg, bytes);
+            assertEquals(expected, bytes.toString(StandardCharsets.UTF_8), sample);
+        }
+        StringBuilder empty = new StringBuilder();
+        converter.convert(DocxPackage.builder().build(), empty);
+        assertEquals(converter.convert(DocxPackage.builder().build()), empty.toString());
+    }
+
+    @Test
+    void resolvesDirectParagraphPropertiesOverCachedStyle() {
+        DocxPackage pkg = new DocxReader().read(Path.of("samples", "demo.docx"));
+        StyleResolver resolver = new StyleResolver(pkg.styles().orElseThrow(), Map.of());
+        WordDocument.ParagraphProperties styled = new WordDocument.ParagraphProperties(
+                "Heading1", null, null, null, null, null, false, false, false, List.of(), null);
+        WordDocument.ParagraphProperties aligned = new WordDocument.ParagraphProperties(
+                "Heading1", null, WordDocument.Alignment.RIGHT, null, null, null, false, false, true, List.of(), null);
+
+        StyleResolver.ResolvedParagraph fromStyle = resolver.resolveParagraph(styled, List.of());
+        assertSame(fromStyle, resolver.resolveParagraph(styled, List.of()), "repeated properties are memoized");
+        StyleResolver.ResolvedParagraph direct = resolver.resolveParagraph(aligned, List.of());
+        assertEquals(WordDocument.Alignment.RIGHT, direct.alignment());
+        assertTrue(direct.pageBreakBefore());
+        assertEquals(fromStyle.spacing(), direct.spacing(), "unset values come from the style");
+        assertEquals(fromStyle.keepWithNext(), direct.keepWithNext());
+        assertSame(fromStyle.runFallbacks(), direct.runFallbacks(), "style run fallbacks are shared");
+
+        WordDocument.RunProperties extra = DocxToHtml.EMPTY_RUN_PROPERTIES;
+        List<WordDocument.RunProperties> withExtra = resolver.resolveParagraph(styled, List.of(extra)).runFallbacks();
+        assertEquals(fromStyle.runFallbacks().size() + 1, withExtra.size());
+    }
+
+    @Test
+    void memoizesResolvedStylesAcrossRowsOfOneTableRegion() {
+        DocxPackage pkg = new DocxReader().read(Path.of("samples", "demo.docx"));
+        StyleResolver resolver = new StyleResolver(pkg.styles().orElseThrow(), Map.of());
+        ResolvedTableStyle tableStyle = resolver.resolveTableStyle(
+                new WordDocument.TableProperties("LightList-Accent3", null, null, null, null));
+        WordDocument.TableRowProperties header = new WordDocument.TableRowProperties(
+                false, null, null, null, "100000000000", null, null);
+        WordDocument.ParagraphProperties styled = new WordDocument.ParagraphProperties(
+                "Heading1", null, null, null, null, null, false, false, false, List.of(), null);
+        WordDocument.RunProperties run = DocxToHtml.EMPTY_RUN_PROPERTIES;
+
+        List<StyleResolver.ResolvedParagraph> paragraphs = new ArrayList<>();
+        for (int rowIndex = 1; rowIndex <= 2; rowIndex++) {
+            StyleResolver.RegionStyle region = tableStyle.rowRegion(header, rowIndex, 4);
+            assertNotNull(region.runProperties());
+            List<WordDocument.RunProperties> rowFallbacks = new ArrayList<>();
+            rowFallbacks.add(region.runProperties());
+            paragraphs.add(resolver.resolveParagraph(styled, List.copyOf(rowFallbacks)));
+        }
+        assertSame(paragraphs.get(0), paragraphs.get(1), "rows of one region share the resolved paragraph");
+        assertSame(resolver.resolveRun(run, paragraphs.get(0)), resolver.resolveRun(run, paragraphs.get(1)),
+                "rows of one region share the resolved run");
+    }
+
+    @Test
+    void sharesResolvedStylesBetweenDocumentsOfOneTemplate() throws Exception {
+        Path path = Path.of("samples", "demo.docx");
+        String expected = new DocxToHtml().convert(new DocxReader().read(path));
+        DocxReader reader = DocxReader.builder().partCache(PartCache.create(16)).build();
+        DocxToHtml converter = new DocxToHtml();
+        List<DocxPackage> packages = List.of(reader.read(path), reader.read(path), reader.read(path), reader.read(path));
+        assertSame(packages.get(0).styles().orElseThrow(), packages.get(3).styles().orElseThrow());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                for (DocxPackage pkg : packages) {
+                    results.add(executor.submit(() -> converter.convert(pkg)));
+                }
+            }
+            for (Future<String> result : results) {
+                assertEquals(expected, result.get());
+            }
+        }
+
+        StyleResolver shared = new StyleResolver(packages.get(0).styles().orElseThrow(), Map.of());
+        WordDocument.ParagraphProperties styled = new WordDocument.ParagraphProperties(
+                "Heading1", null, null, null, null, null, false, false, false, List.of(), null);
+        StyleResolver first = shared.forDocument();
+        StyleResolver second = shared.forDocument();
+        StyleResolver.ResolvedParagraph resolved = first.resolveParagraph(styled, List.of());
+        assertSame(resolved.runFallbacks(), second.resolveParagraph(styled, List.of()).runFallbacks(),
+                "flattened styles are shared");
+        assertNotSame(resolved, second.resolveParagraph(styled, List.of()), "direct formatting is memoized per document");
+    }
+
+    @Test
+    void parallelConversionMatchesSequentialConversion() {
+        DocxReader reader = new DocxReader();
+        DocxToHtml sequential = new DocxToHtml();
+        DocxToHtml parallel = DocxToHtml.builder().parallel(true).processors(4).build();
+        DocxPackage generated = reader.read(SyntheticDocx.builder()
+                .paragraphs(3_000)
+                .tables(20, 3, 3)
+                .nesting(2, 7)
+                .styles(40)
+                .build()
+                .toBytes());
+        assertEquals(sequential.convert(generated), parallel.convert(generated));
+        for (String sample : List.of("demo.docx", "file-sample_1MB.docx")) {
+            DocxPackage pkg = reader.read(Path.of("samples", sample));
+            assertEquals(sequential.convert(pkg), parallel.convert(pkg), sample);
+        }
+        assertEquals(sequential.convert(DocxPackage.builder().build()), parallel.convert(DocxPackage.builder().build()));
+
+        // a symbol with character code 0000 must not be mistaken for a class placeholder
+        WordDocument body = generated.document().orElseThrow();
+        WordDocument.Paragraph first = body.bodyElements().stream()
+                .filter(block -> block instanceof WordDocument.Paragraph)
+                .map(block -> (WordDocument.Paragraph) block)
+                .findFirst().orElseThrow();
+        WordDocument.Run firstRun = (WordDocument.Run) first.content().get(0);
+        WordDocument.Builder withNul = WordDocument.builder().addBlock(new WordDocument.Paragraph(first.properties(), List.of(
+                new WordDocument.Run(firstRun.properties(), List.of(new WordDocument.Symbol("Symbol", "0000"))))));
+        body.bodyElements().forEach(withNul::addBlock);
+        DocxPackage symbol = DocxPackage.builder().document(withNul.build()).styles(generated.styles().orElseThrow()).build();
+        String html = sequential.convert(symbol);
+        assertFalse(html.contains("\u0000"));
+        assertEquals(html, parallel.convert(symbol));
+    }
+
     private static String extractRunClass(String html, String text) {
         Matcher matcher = Pattern.compile("<span class=\"docx-span (s\\d+)\">" + text + "</span>").matcher(html);
         assertTrue(matcher.find(), "missing run class for " + text);
@@ -0,0 +1,142 @@
+package com.example.docx.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedZipArchiveTest {
+
+    @Test
+    void matchesZipFileForEverySample() throws IOException {
+        for (String sample : List.of("demo.docx", "file-sample_100kB.docx", "file-sample_500kB.docx", "file-sample_1MB.docx")) {
+            Path path = Path.of("samples", sample);
+            try (DocxArchive zip = new DocxArchive.ZipDocxArchive(path);
+                 DocxArchive mapped = new MappedZipArchive(path)) {
+                Set<String> parts = zip.list("");
+                assertEquals(parts, mapped.list(""), sample);
+                assertEquals(zip.list("word/media"), mapped.list("word/media"), sample);
+                assertEquals(Set.of(), mapped.list("word/missing"), sample);
+                for (String part : parts) {
+                    assertTrue(mapped.exists(part), part);
+                    try (InputStream expected = zip.open(part); InputStream actual = mapped.open(part)) {
+                        byte[] bytes = expected.readAllBytes();
+                        assertArrayEquals(bytes, actual.readAllBytes(), sample + " " + part);
+                        CRC32 crc = new CRC32();
+                        crc.update(bytes);
+                        assertEquals(new DocxArchive.Checksum(crc.getValue(), bytes.length), mapped.checksum(part).orElseThrow(), part);
+                        assertEquals(zip.checksum(part), mapped.checksum(part), part);
+                    }
+                }
+                assertTrue(mapped.checksum("word/missing.xml").isEmpty());
+                assertFalse(mapped.exists("word/missing.xml"));
+                assertThrows(IOException.class, () -> mapped.open("word/missing.xml"));
+            }
+        }
+    }
+
+    @Test
+    void storedEntriesAreSlicesOfTheMapping() throws IOException {
+        byte[] image = "not really a png".getBytes(StandardCharsets.UTF_8);
+        byte[] xml = "<w:document/>".getBytes(StandardCharsets.UTF_8);
+        Path path = Files.createTempFile("stored", ".docx");
+        path.toFile().deleteOnExit();
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(path))) {
+            out.putNextEntry(new ZipEntry("word/document.xml"));
+            out.write(xml);
+            out.closeEntry();
+            ZipEntry stored = new ZipEntry("word/media/image1.png");
+            CRC32 crc = new CRC32();
+            crc.update(image);
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(image.length);
+            stored.setCrc(crc.getValue());
+            out.putNextEntry(stored);
+            out.write(image);
+            out.closeEntry();
+        }
+
+        MappedZipArchive archive = new MappedZipArchive(path);
+        ByteBuffer view = archive.uncompressedView("word/media/image1.png").orElseThrow();
+        assertTrue(view.isReadOnly());
+        assertTrue(view.isDirect(), "stored entry is not copied out of the mapping");
+        assertEquals(ByteBuffer.wrap(image), view);
+        assertTrue(archive.uncompressedView("word/document.xml").isEmpty(), "deflated entries need inflating");
+        try (InputStream input = archive.open("word/document.xml")) {
+            assertArrayEquals(xml, input.readAllBytes());
+        }
+        assertEquals(List.of("word/document.xml", "word/media/image1.png"), List.copyOf(archive.list("word/")));
+
+        archive.close();
+        assertThrows(IOException.class, () -> archive.open("word/document.xml"));
+        assertEquals(ByteBuffer.wrap(image), view, "slices stay readable after close");
+    }
+
+    @Test
+    void declaredSizeDoesNotDriveAllocation() throws IOException {
+        byte[] xml = "<w:document/>".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            out.putNextEntry(new ZipEntry("word/document.xml"));
+            out.write(xml);
+            out.closeEntry();
+        }
+        // claim about 2 GB of uncompressed data in the central directory
+        ByteBuffer zip = ByteBuffer.wrap(bytes.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        int central = 0;
+        while (zip.getInt(central) != 0x02014b50) {
+            central++;
+        }
+        zip.putInt(central + 24, Integer.MAX_VALUE - 64);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        try (DocxArchive archive = DocxArchive.open(zip.array())) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            try (InputStream input = archive.open("word/document.xml")) {
+                assertArrayEquals(xml, input.readAllBytes());
+            }
+            assertTrue(threads.getCurrentThreadAllocatedBytes() - before < 16 << 20, "allocation follows the inflated bytes");
+        }
+    }
+
+    @Test
+    void streamsAreReadUpToABound() throws IOException {
+        byte[] docx = Files.readAllBytes(Path.of("samples", "demo.docx"));
+        try (DocxArchive archive = DocxArchive.open(new ByteArrayInputStream(docx), docx.length)) {
+            assertTrue(archive.exists("word/document.xml"));
+        }
+        CountingStream input = new CountingStream(docx);
+        assertThrows(IOException.class, () -> DocxArchive.open(input, 1024));
+        assertEquals(1025, input.consumed, "reading stops right after the bound");
+    }
+
+    private static final class CountingStream extends ByteArrayInputStream {
+        private long consumed;
+
+        CountingStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            int count = super.read(b, off, len);
+            consumed += Math.max(0, count);
+            return count;
+        }
+    }
+}
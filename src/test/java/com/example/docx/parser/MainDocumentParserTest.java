@@ -0,0 +1,131 @@
+package com.example.docx.parser;
+
+import com.example.docx.DocxException;
+import com.example.docx.DocxReader;
+import com.example.docx.html.DocxToHtml;
+import com.example.docx.io.DocxArchive;
+import com.example.docx.model.DocxPackage;
+import com.example.docx.model.document.WordDocument;
+import com.example.docx.model.relationship.RelationshipSet;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MainDocumentParserTest {
+
+    private static final List<String> SAMPLES = List.of(
+            "demo.docx",
+            "file-sample_100kB.docx",
+            "file-sample_500kB.docx",
+            "file-sample_1MB.docx"
+    );
+
+    @Test
+    void streamingParserMatchesDomParser() throws IOException {
+        DocxReader reader = new DocxReader();
+        DocxToHtml converter = new DocxToHtml("fr");
+        for (String sample : SAMPLES) {
+            Path path = Path.of("samples", sample);
+            DocxPackage streamed = reader.read(path);
+            WordDocument domDocument = parseWithDom(path, streamed.relationshipsByPart().get("word/document.xml"));
+            DocxPackage dom = copyWithDocument(streamed, domDocument);
+            WordDocument streamedDocument = streamed.document().orElseThrow();
+            assertEquals(domDocument.bodyElements().size(), streamedDocument.bodyElements().size(),
+                    "block count differs for " + sample);
+            assertEquals(converter.convert(dom), converter.convert(streamed), "HTML differs for " + sample);
+        }
+    }
+
+    @Test
+    void streamingParserRejectsUnknownElements() throws IOException {
+        Path directory = Files.createTempDirectory("unknown-run-content");
+        Files.createDirectories(directory.resolve("word"));
+        Files.writeString(directory.resolve("word/document.xml"),
+                "<w:document xmlns:w=\"" + Namespaces.WORD_MAIN + "\"><w:body>"
+                        + "<w:p><w:r><w:t>ok</w:t><w:unknown/></w:r></w:p>"
+                        + "</w:body></w:document>",
+                StandardCharsets.UTF_8);
+        MainDocumentParser parser = new MainDocumentParser(new ParsingContext());
+        try (DocxArchive archive = DocxArchive.open(directory)) {
+            DocxException ex = assertThrows(DocxException.class, () -> parser.parse(archive, null));
+            assertTrue(ex.getMessage().contains("Unsupported run content element <w:unknown>"), ex.getMessage());
+        }
+    }
+
+    @Test
+    void propertySweepDecodesEveryPropertyAndKeepsTheFirstOccurrence() throws IOException {
+        Document document = XmlUtils.parse("<w:pPr xmlns:w=\"" + Namespaces.WORD_MAIN + "\" xmlns:x=\"urn:other\">"
+                + "<w:pStyle w:val=\"Quote\"/><!-- comment --><w:keepNext/><w:jc w:val=\"both\"/>"
+                + "<x:jc/><w:jc w:val=\"right\"/>"
+                + "<w:numPr><w:ilvl w:val=\"1\"/><w:numId w:val=\"4\"/></w:numPr>"
+                + "<w:ind w:left=\"720\" w:hanging=\"360\"/><w:spacing w:before=\"120\" w:lineRule=\"auto\"/>"
+                + "<w:tabs><w:tab w:val=\"left\" w:pos=\"1440\"/><w:tab w:val=\"right\" w:pos=\"9000\"/></w:tabs>"
+                + "<w:shd w:fill=\"D9E2F3\"/><w:pBdr><w:bottom w:val=\"single\" w:sz=\"4\"/><w:top w:val=\"double\"/></w:pBdr>"
+                + "<w:rPr>\n  <w:b w:val=\"0\"/><w:b/><w:i/><w:u w:val=\"double\"/><w:caps/><w:color w:val=\"C00000\"/>"
+                + "<w:sz w:val=\"28\"/><w:rFonts w:ascii=\"Calibri\" w:cs=\"Arial\"/><w:bdr w:val=\"single\"/></w:rPr>"
+                + "</w:pPr>");
+        ParsingContext context = new ParsingContext();
+        WordDocument.ParagraphProperties paragraph = context.paragraphParser.parseProperties(document.getDocumentElement());
+
+        assertEquals("Quote", paragraph.styleId().orElseThrow());
+        assertEquals(WordDocument.Alignment.JUSTIFIED, paragraph.alignment().orElseThrow(), "first w:jc wins");
+        assertTrue(paragraph.keepWithNext());
+        assertFalse(paragraph.keepTogether());
+        assertEquals(4, paragraph.numbering().orElseThrow().numberingId());
+        assertEquals(720, paragraph.indentation().orElseThrow().left().orElseThrow());
+        assertEquals(120, paragraph.spacing().orElseThrow().before().orElseThrow());
+        assertEquals(2, paragraph.tabs().size());
+        assertEquals(1440, paragraph.tabs().get(0).position().orElseThrow());
+        assertEquals("D9E2F3", paragraph.shading().orElseThrow().fill().orElseThrow());
+        assertEquals("single", paragraph.borders().orElseThrow().bottom().orElseThrow().style().orElseThrow());
+        assertEquals("double", paragraph.borders().orElseThrow().top().orElseThrow().style().orElseThrow());
+
+        WordDocument.RunProperties run = paragraph.markRunProperties().orElseThrow();
+        assertFalse(run.bold(), "first w:b wins");
+        assertTrue(run.italic());
+        assertTrue(run.underline());
+        assertEquals("double", run.underlineType().orElseThrow());
+        assertTrue(run.allCaps());
+        assertFalse(run.smallCaps());
+        assertEquals("C00000", run.color().orElseThrow());
+        assertEquals(28, run.size().orElseThrow());
+        assertEquals("Calibri", run.fonts().get("ascii"));
+        assertEquals("Arial", run.fonts().get("cs"));
+        assertEquals("single", run.border().orElseThrow().style().orElseThrow());
+    }
+
+    private static WordDocument parseWithDom(Path path, RelationshipSet relationships) throws IOException {
+        ParsingContext context = new ParsingContext();
+        try (DocxArchive archive = DocxArchive.open(path);
+             InputStream input = archive.open("word/document.xml")) {
+            Document document = XmlUtils.parse(input);
+            Element body = XmlUtils.firstChild(document.getDocumentElement(), Namespaces.WORD_MAIN, "body").orElseThrow();
+            WordDocument.Builder builder = WordDocument.builder();
+            for (Element child : XmlUtils.childElements(body)) {
+                if ("sectPr".equals(child.getLocalName())) {
+                    builder.sectionProperties(SectionParser.parseSectionProperties(child, context));
+                } else {
+                    builder.addBlock(context.blockParser.parse(child, relationships));
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    private static DocxPackage copyWithDocument(DocxPackage source, WordDocument document) {
+        DocxPackage.Builder builder = DocxPackage.builder().document(document);
+        source.styles().ifPresent(builder::styles);
+        source.theme().ifPresent(builder::theme);
+        source.relationshipsByPart().forEach(builder::relationshipForPart);
+        return builder.build();
+    }
+}
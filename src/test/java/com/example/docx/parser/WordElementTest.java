@@ -0,0 +1,30 @@
+package com.example.docx.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordElementTest {
+
+    @Test
+    void everyTokenResolvesFromItsName() {
+        for (WordElement element : WordElement.values()) {
+            if (element == WordElement.OTHER) {
+                continue;
+            }
+            // a copy is not the interned literal, so the lookup has to fall back to equals
+            String copy = new String(element.localName());
+            assertSame(element, WordElement.of(Namespaces.WORD_MAIN, element.localName()));
+            assertSame(element, WordElement.of(new String(Namespaces.WORD_MAIN), copy));
+        }
+    }
+
+    @Test
+    void foreignAndUnknownNamesResolveToOther() {
+        assertSame(WordElement.OTHER, WordElement.of(Namespaces.VML, "p"));
+        assertSame(WordElement.OTHER, WordElement.of(null, "p"));
+        assertSame(WordElement.OTHER, WordElement.of(Namespaces.WORD_MAIN, "customXml"));
+        assertSame(WordElement.OTHER, WordElement.of(Namespaces.WORD_MAIN, null));
+        assertSame(WordElement.OTHER, WordElement.of(Namespaces.WORD_MAIN, "P"));
+    }
+}
@@ -5,6 +5,12 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -36,4 +42,36 @@ class XmlUtilsTest {
         bold.setAttributeNS(Namespaces.WORD_MAIN, "w:val", "true");
         assertTrue(XmlUtils.booleanElement(parent, Namespaces.WORD_MAIN, "b"));
     }
+
+    @Test
+    void pooledParsersKeepTheirHardeningAfterReuse() throws Exception {
+        String doctype = "<?xml version=\"1.0\"?><!DOCTYPE x [<!ENTITY e \"boom\">]><x>&e;</x>";
+        for (int i = 0; i < 3; i++) {
+            assertEquals("a", XmlUtils.parse("<a/>").getDocumentElement().getLocalName());
+            assertThrows(IOException.class, () -> XmlUtils.parse(doctype));
+        }
+    }
+
+    @Test
+    void pooledParsersAreSafeAcrossThreads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int task = 0; task < 32; task++) {
+                String name = "element" + task;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        Document document = XmlUtils.parse("<" + name + " i=\"" + i + "\"/>");
+                        Element root = document.getDocumentElement();
+                        if (!name.equals(root.getTagName()) || !String.valueOf(i).equals(root.getAttribute("i"))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(), "each thread sees its own documents");
+            }
+        }
+    }
 }